@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup;
+
+import io.github.swagger2markup.helper.SpecGenerator;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Specifications the benchmarks run on : the test fixtures, e.g {@code swagger_petstore.yaml}, and scaled synthetic specifications,
+ * e.g {@code synthetic-1000} for 1000 definitions and 2000 operations generated by {@link SpecGenerator}.
+ */
+public class BenchmarkSpecs {
+
+    private static final Pattern SYNTHETIC_SPEC = Pattern.compile("synthetic-(\\d+)");
+    private static final Map<String, Path> SYNTHETIC_SPECS = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the file of a specification.
+     *
+     * @param spec the file name of a test fixture of {@code /yaml} or {@code /json}, or {@code synthetic-<size>}
+     * @return the specification file
+     */
+    public static Path resolve(String spec) {
+        Matcher syntheticSpec = SYNTHETIC_SPEC.matcher(spec);
+        if (syntheticSpec.matches()) {
+            return SYNTHETIC_SPECS.computeIfAbsent(spec, name -> writeSyntheticSpec(Integer.parseInt(syntheticSpec.group(1))));
+        }
+        URL resource = BenchmarkSpecs.class.getResource((spec.endsWith(".json") ? "/json/" : "/yaml/") + spec);
+        if (resource == null)
+            throw new IllegalArgumentException(String.format("Unknown specification '%s'", spec));
+        try {
+            return Paths.get(resource.toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * Writes a specification with {@code size} definitions, {@code 2 * size} operations, {@code size / 10} composed definitions and 5 recursive definitions.
+     */
+    private static Path writeSyntheticSpec(int size) {
+        try {
+            Path file = Files.createTempFile("swagger2markup-synthetic-" + size + "-", ".yaml");
+            file.toFile().deleteOnExit();
+            return SpecGenerator.builder()
+                    .withDefinitions(size)
+                    .withOperations(2 * size)
+                    .withComposedModels(size / 10)
+                    .withRecursiveModels(5)
+                    .write(file);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write synthetic specification", e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup;
+
+import io.github.swagger2markup.builder.Swagger2MarkupConfigBuilder;
+import io.github.swagger2markup.markup.builder.MarkupLanguage;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures end-to-end conversions, from parsing the specification to the documents concatenated by {@link Swagger2MarkupConverter#toString()}.<br>
+ * Run with {@code gradle jmh -PjmhInclude=ConversionBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConversionBenchmark {
+
+    @Param({"swagger_petstore.yaml", "swagger_instagram.yaml", "swagger_recursion.json", "synthetic-100", "synthetic-1000"})
+    public String spec;
+
+    @Param({"ASCIIDOC", "MARKDOWN", "CONFLUENCE_MARKUP"})
+    public MarkupLanguage markupLanguage;
+
+    private Path file;
+    private Swagger2MarkupConfig config;
+
+    @Setup
+    public void setUp() {
+        file = BenchmarkSpecs.resolve(spec);
+        config = new Swagger2MarkupConfigBuilder()
+                .withMarkupLanguage(markupLanguage)
+                .build();
+    }
+
+    @Benchmark
+    public String convertToString() {
+        return Swagger2MarkupConverter.from(file)
+                .withConfig(config)
+                .build()
+                .toString();
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the parsing of specifications by {@link Swagger2MarkupConverter#from(Path)}, including the resolution of references.<br>
+ * Run with {@code gradle jmh -PjmhInclude=ParsingBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParsingBenchmark {
+
+    @Param({"swagger_petstore.yaml", "swagger_instagram.yaml", "swagger_recursion.json", "synthetic-100", "synthetic-1000"})
+    public String spec;
+
+    private Path file;
+
+    @Setup
+    public void setUp() {
+        file = BenchmarkSpecs.resolve(spec);
+    }
+
+    @Benchmark
+    public Swagger2MarkupConverter.Builder parse() {
+        return Swagger2MarkupConverter.from(file);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures conversions of synthetic specifications of growing size, each 4 times larger than the previous one.<br>
+ * Run with {@code gradle jmhScaling}, which fails if the conversion time or the allocated memory per conversion grows faster than near-linearly :
+ * quadrupling the size must not multiply them by more than 8, where a quadratic algorithm would multiply them by 16.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpecScalingBenchmark {
+
+    @Param({"100", "400", "1600"})
+    public int size;
+
+    private Path file;
+
+    @Setup
+    public void setUp() {
+        file = BenchmarkSpecs.resolve("synthetic-" + size);
+    }
+
+    @Benchmark
+    public String convertToString() {
+        return Swagger2MarkupConverter.from(file)
+                .build()
+                .toString();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.component;
+
+import io.github.swagger2markup.BenchmarkSpecs;
+import io.github.swagger2markup.Swagger2MarkupConverter;
+import io.github.swagger2markup.builder.Swagger2MarkupConfigBuilder;
+import io.github.swagger2markup.internal.resolver.DefinitionDocumentResolverFromDefinition;
+import io.github.swagger2markup.internal.type.ObjectType;
+import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
+import io.github.swagger2markup.markup.builder.MarkupLanguage;
+import io.swagger.models.Model;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the rendering of the property tables of all the definitions of a specification, e.g schemas with many validation constraints.<br>
+ * Run with {@code gradle jmh -PjmhInclude=PropertiesTableComponentBenchmark}, the {@code gc} profiler reports the allocation per operation ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertiesTableComponentBenchmark {
+
+    @Param({"swagger_validators.json", "swagger_petstore.yaml", "swagger_instagram.yaml", "synthetic-1000"})
+    public String spec;
+
+    @Param({"ASCIIDOC", "MARKDOWN"})
+    public MarkupLanguage markupLanguage;
+
+    private Swagger2MarkupConverter.Context context;
+    private PropertiesTableComponent propertiesTableComponent;
+    private Collection<Model> models;
+
+    @Setup
+    public void setUp() {
+        Swagger2MarkupConverter converter = Swagger2MarkupConverter.from(BenchmarkSpecs.resolve(spec))
+                .withConfig(new Swagger2MarkupConfigBuilder()
+                        .withMarkupLanguage(markupLanguage)
+                        .build())
+                .build();
+        context = converter.getContext();
+        propertiesTableComponent = new PropertiesTableComponent(context, new DefinitionDocumentResolverFromDefinition(context));
+        models = context.getSwagger().getDefinitions().values();
+    }
+
+    @Benchmark
+    public MarkupDocBuilder renderPropertiesTables() {
+        context.getFragmentCache().clear();
+        MarkupDocBuilder markupDocBuilder = context.createMarkupDocBuilder();
+        for (Model model : models) {
+            if (model.getProperties() == null)
+                continue;
+            List<ObjectType> inlineDefinitions = new ArrayList<>();
+            propertiesTableComponent.apply(markupDocBuilder, PropertiesTableComponent.parameters(model.getProperties(),
+                    "Benchmark", inlineDefinitions));
+        }
+        return markupDocBuilder;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.component;
+
+import io.github.swagger2markup.BenchmarkSpecs;
+import io.github.swagger2markup.Swagger2MarkupConverter;
+import io.github.swagger2markup.builder.Swagger2MarkupConfigBuilder;
+import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
+import io.github.swagger2markup.markup.builder.MarkupLanguage;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the rendering of tables of {@code rows} rows and 4 columns.<br>
+ * Run with {@code gradle jmh -PjmhInclude=TableComponentBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TableComponentBenchmark {
+
+    @Param({"10", "1000"})
+    public int rows;
+
+    @Param({"ASCIIDOC", "MARKDOWN"})
+    public MarkupLanguage markupLanguage;
+
+    private Swagger2MarkupConverter.Context context;
+    private TableComponent tableComponent;
+    private TableComponent.Parameters table;
+
+    @Setup
+    public void setUp() {
+        context = Swagger2MarkupConverter.from(BenchmarkSpecs.resolve("swagger_petstore.yaml"))
+                .withConfig(new Swagger2MarkupConfigBuilder()
+                        .withMarkupLanguage(markupLanguage)
+                        .build())
+                .build()
+                .getContext();
+        tableComponent = new TableComponent(context);
+        TableComponent.Builder tableBuilder = TableComponent.builder(rows)
+                .column("Name", 2, true)
+                .column("Description", 6, false)
+                .column("Schema", 2, false)
+                .column("Default", 1, false);
+        for (int i = 0; i < rows; i++) {
+            tableBuilder.row("*name" + i + "*", "Description of | row " + i + "\nwith a second line", "<<_model" + i + ",Model" + i + ">>",
+                    i % 3 == 0 ? "" : "`" + i + "`");
+        }
+        table = tableBuilder.build();
+    }
+
+    @Benchmark
+    public MarkupDocBuilder renderTable() {
+        return tableComponent.apply(context.createMarkupDocBuilder(), table);
+    }
+}
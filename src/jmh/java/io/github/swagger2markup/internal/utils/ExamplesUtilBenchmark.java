@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.utils;
+
+import io.github.swagger2markup.BenchmarkSpecs;
+import io.github.swagger2markup.Swagger2MarkupConverter;
+import io.github.swagger2markup.builder.Swagger2MarkupConfigBuilder;
+import io.github.swagger2markup.internal.resolver.DefinitionDocumentResolverFromOperation;
+import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
+import io.github.swagger2markup.model.PathOperation;
+import io.swagger.models.Model;
+import io.swagger.models.Swagger;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the generation of the request and response examples of all the operations of a specification.<br>
+ * Run with {@code gradle jmh -PjmhInclude=ExamplesUtilBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExamplesUtilBenchmark {
+
+    @Param({"swagger_petstore.yaml", "swagger_instagram.yaml", "swagger_recursion.json", "synthetic-1000"})
+    public String spec;
+
+    private List<PathOperation> pathOperations;
+    private Map<String, Model> definitions;
+    private DefinitionDocumentResolverFromOperation definitionDocumentResolver;
+    private MarkupDocBuilder markupDocBuilder;
+
+    @Setup
+    public void setUp() {
+        Swagger2MarkupConverter.Context context = Swagger2MarkupConverter.from(BenchmarkSpecs.resolve(spec))
+                .withConfig(new Swagger2MarkupConfigBuilder()
+                        .withGeneratedExamples()
+                        .build())
+                .build()
+                .getContext();
+        Swagger swagger = context.getSwagger();
+        pathOperations = PathUtils.toPathOperationsList(swagger.getPaths(), "", null);
+        definitions = swagger.getDefinitions();
+        definitionDocumentResolver = new DefinitionDocumentResolverFromOperation(context);
+        markupDocBuilder = context.createMarkupDocBuilder();
+    }
+
+    @Benchmark
+    public void generateRequestExamples(Blackhole blackhole) {
+        for (PathOperation pathOperation : pathOperations) {
+            blackhole.consume(ExamplesUtil.generateRequestExampleMap(true, pathOperation, definitions, definitionDocumentResolver, markupDocBuilder));
+        }
+    }
+
+    @Benchmark
+    public void generateResponseExamples(Blackhole blackhole) {
+        for (PathOperation pathOperation : pathOperations) {
+            blackhole.consume(ExamplesUtil.generateResponseExampleMap(true, pathOperation, definitions, definitionDocumentResolver, markupDocBuilder));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.utils;
+
+import io.github.swagger2markup.BenchmarkSpecs;
+import io.github.swagger2markup.Swagger2MarkupConverter;
+import io.github.swagger2markup.internal.resolver.DefinitionDocumentResolverFromDefinition;
+import io.github.swagger2markup.internal.type.Type;
+import io.swagger.models.Model;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ModelUtils#getType(Model, Map, io.github.swagger2markup.internal.resolver.DocumentResolver)} on all the definitions of a specification.<br>
+ * Run with {@code gradle jmh -PjmhInclude=ModelUtilsBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelUtilsBenchmark {
+
+    @Param({"swagger_petstore.yaml", "swagger_instagram.yaml", "swagger_recursion.json", "synthetic-1000"})
+    public String spec;
+
+    private Map<String, Model> definitions;
+    private DefinitionDocumentResolverFromDefinition definitionDocumentResolver;
+
+    @Setup
+    public void setUp() {
+        Swagger2MarkupConverter.Context context = Swagger2MarkupConverter.from(BenchmarkSpecs.resolve(spec)).build().getContext();
+        definitions = context.getSwagger().getDefinitions();
+        definitionDocumentResolver = new DefinitionDocumentResolverFromDefinition(context);
+    }
+
+    @Benchmark
+    public void getTypes(Blackhole blackhole) {
+        for (Model model : definitions.values()) {
+            Type type = ModelUtils.getType(model, definitions, definitionDocumentResolver);
+            blackhole.consume(type);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup;
+
+/**
+ * Layout of the separated operation and definition files inside their folder.
+ */
+public enum SeparatedFilesLayout {
+    /**
+     * All files directly in the folder
+     */
+    FLAT,
+    /**
+     * Files distributed across 256 subdirectories, named after a hash of the file name
+     */
+    HASH,
+    /**
+     * Operation files distributed across subdirectories named after their first tag, definition files distributed as with {@link #HASH}
+     */
+    TAGS
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup;
+
+import io.github.swagger2markup.builder.Swagger2MarkupConfigBuilder;
+import io.github.swagger2markup.builder.Swagger2MarkupExtensionRegistryBuilder;
+import io.github.swagger2markup.spi.OutputSink;
+import io.github.swagger2markup.utils.DescriptionCache;
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Converts many Swagger specifications with the same configuration, on a bounded thread pool.<br>
+ * The conversions share the labels and the cache of converted descriptions. Each worker thread creates its extension registry once
+ * and reuses it for all the specifications it converts, since extensions hold the context of the conversion they are applied to.
+ * A failed conversion does not stop the batch : {@link #run()} returns the outcome of every specification.
+ */
+public class Swagger2MarkupBatch {
+
+    private static final Logger logger = LoggerFactory.getLogger(Swagger2MarkupBatch.class);
+    private static final AtomicInteger BATCH_COUNTER = new AtomicInteger();
+
+    private final Swagger2MarkupConfig config;
+    private final Supplier<Swagger2MarkupExtensionRegistry> extensionRegistrySupplier;
+    private final int threads;
+    private final List<Job> jobs;
+    private final Labels labels;
+    private final DescriptionCache descriptionCache = new DescriptionCache();
+
+    private Swagger2MarkupBatch(Builder builder) {
+        this.config = builder.config != null ? builder.config : new Swagger2MarkupConfigBuilder().build();
+        this.extensionRegistrySupplier = builder.extensionRegistrySupplier;
+        this.threads = builder.threads;
+        this.jobs = new ArrayList<>(builder.jobs);
+        this.labels = new Labels(config);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Converts all the specifications and waits for the conversions to complete.
+     *
+     * @return the report of the batch, with the results in the order the specifications have been added
+     */
+    public Report run() {
+        if (jobs.isEmpty())
+            return new Report(Collections.emptyList());
+
+        String threadNamePrefix = "swagger2markup-batch-" + BATCH_COUNTER.incrementAndGet() + "-";
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, jobs.size()), runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        ThreadLocal<Swagger2MarkupExtensionRegistry> extensionRegistries = ThreadLocal.withInitial(extensionRegistrySupplier);
+        try {
+            List<Future<Result>> futures = jobs.stream()
+                    .map(job -> executor.submit(() -> convert(job, extensionRegistries)))
+                    .collect(Collectors.toList());
+            List<Result> results = new ArrayList<>(futures.size());
+            for (Future<Result> future : futures) {
+                results.add(future.get());
+            }
+            Report report = new Report(results);
+            if (logger.isInfoEnabled()) {
+                logger.info("Converted {} specifications : {} succeeded, {} failed", results.size(),
+                        report.getSucceeded().size(), report.getFailed().size());
+            }
+            return report;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for the batch conversions", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Batch conversion failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Converts a single specification. Any failure, including errors like {@link StackOverflowError}, is reported in the result of the job,
+     * so that it doesn't abort the other conversions of the batch.
+     */
+    private Result convert(Job job, ThreadLocal<Swagger2MarkupExtensionRegistry> extensionRegistries) {
+        long start = System.nanoTime();
+        try {
+            Swagger2MarkupConverter converter = job.converterBuilder.get()
+                    .withConfig(config)
+                    .withExtensionRegistry(extensionRegistries.get())
+                    .withLabels(labels)
+                    .withDescriptionCache(descriptionCache)
+                    .build();
+            job.output.accept(converter);
+            return new Result(job.source, job.target, null, System.nanoTime() - start);
+        } catch (Throwable e) {
+            logger.warn("Failed to convert '{}'", job.source, e);
+            return new Result(job.source, job.target, e, System.nanoTime() - start);
+        }
+    }
+
+    private static class Job {
+        private final String source;
+        private final String target;
+        private final Supplier<Swagger2MarkupConverter.Builder> converterBuilder;
+        private final Consumer<Swagger2MarkupConverter> output;
+
+        private Job(String source, String target, Supplier<Swagger2MarkupConverter.Builder> converterBuilder, Consumer<Swagger2MarkupConverter> output) {
+            this.source = source;
+            this.target = target;
+            this.converterBuilder = converterBuilder;
+            this.output = output;
+        }
+    }
+
+    public static class Builder {
+        private final List<Job> jobs = new ArrayList<>();
+        private Swagger2MarkupConfig config;
+        private Supplier<Swagger2MarkupExtensionRegistry> extensionRegistrySupplier = () -> new Swagger2MarkupExtensionRegistryBuilder().build();
+        private int threads = Runtime.getRuntime().availableProcessors();
+
+        Builder() {
+        }
+
+        public Builder withConfig(Swagger2MarkupConfig config) {
+            Validate.notNull(config, "config must not be null");
+            this.config = config;
+            return this;
+        }
+
+        /**
+         * Specifies how to create the extension registry of a worker thread.<br>
+         * The supplier is called once per worker thread, it must return a new registry with new extension instances on each call.
+         *
+         * @param extensionRegistrySupplier creates an extension registry
+         * @return this builder
+         */
+        public Builder withExtensionRegistry(Supplier<Swagger2MarkupExtensionRegistry> extensionRegistrySupplier) {
+            Validate.notNull(extensionRegistrySupplier, "extensionRegistrySupplier must not be null");
+            this.extensionRegistrySupplier = extensionRegistrySupplier;
+            return this;
+        }
+
+        /**
+         * @param threads maximum number of concurrent conversions. Default: number of available processors
+         * @return this builder
+         */
+        public Builder withThreads(int threads) {
+            Validate.isTrue(threads > 0, "threads must be greater than 0");
+            this.threads = threads;
+            return this;
+        }
+
+        /**
+         * Adds a local specification, converted into {@code outputDirectory}.
+         *
+         * @param swaggerPath     the local Swagger source
+         * @param outputDirectory the output directory
+         * @return this builder
+         * @see Swagger2MarkupConverter#toFolder(Path)
+         */
+        public Builder add(Path swaggerPath, Path outputDirectory) {
+            Validate.notNull(swaggerPath, "swaggerPath must not be null");
+            Validate.notNull(outputDirectory, "outputDirectory must not be null");
+            jobs.add(new Job(swaggerPath.toString(), outputDirectory.toString(),
+                    () -> Swagger2MarkupConverter.from(swaggerPath), converter -> converter.toFolder(outputDirectory)));
+            return this;
+        }
+
+        /**
+         * Adds a local or remote specification, converted into {@code outputDirectory}.
+         *
+         * @param swaggerUri      the URI of the Swagger source
+         * @param outputDirectory the output directory
+         * @return this builder
+         * @see Swagger2MarkupConverter#toFolder(Path)
+         */
+        public Builder add(URI swaggerUri, Path outputDirectory) {
+            Validate.notNull(swaggerUri, "swaggerUri must not be null");
+            Validate.notNull(outputDirectory, "outputDirectory must not be null");
+            jobs.add(new Job(swaggerUri.toString(), outputDirectory.toString(),
+                    () -> Swagger2MarkupConverter.from(swaggerUri), converter -> converter.toFolder(outputDirectory)));
+            return this;
+        }
+
+        /**
+         * Adds a local or remote specification, converted into {@code outputSink}. The batch does not close the sink.
+         *
+         * @param swaggerUri the URI of the Swagger source
+         * @param outputSink the output sink
+         * @return this builder
+         * @see Swagger2MarkupConverter#toSink(OutputSink)
+         */
+        public Builder add(URI swaggerUri, OutputSink outputSink) {
+            Validate.notNull(swaggerUri, "swaggerUri must not be null");
+            Validate.notNull(outputSink, "outputSink must not be null");
+            jobs.add(new Job(swaggerUri.toString(), outputSink.toString(),
+                    () -> Swagger2MarkupConverter.from(swaggerUri), converter -> converter.toSink(outputSink)));
+            return this;
+        }
+
+        public Swagger2MarkupBatch build() {
+            return new Swagger2MarkupBatch(this);
+        }
+    }
+
+    /**
+     * Outcome of the conversion of one specification.
+     */
+    public static class Result {
+        private final String source;
+        private final String target;
+        private final Throwable failure;
+        private final long durationNanos;
+
+        Result(String source, String target, Throwable failure, long durationNanos) {
+            this.source = source;
+            this.target = target;
+            this.failure = failure;
+            this.durationNanos = durationNanos;
+        }
+
+        public String getSource() {
+            return source;
+        }
+
+        public String getTarget() {
+            return target;
+        }
+
+        public boolean isSucceeded() {
+            return failure == null;
+        }
+
+        /**
+         * @return the failure of the conversion, or null if it succeeded
+         */
+        public Throwable getFailure() {
+            return failure;
+        }
+
+        public long getDurationNanos() {
+            return durationNanos;
+        }
+    }
+
+    /**
+     * Outcome of the conversions of a batch.
+     */
+    public static class Report {
+        private final List<Result> results;
+
+        Report(List<Result> results) {
+            this.results = Collections.unmodifiableList(results);
+        }
+
+        /**
+         * @return the results, in the order the specifications have been added
+         */
+        public List<Result> getResults() {
+            return results;
+        }
+
+        public List<Result> getSucceeded() {
+            return results.stream().filter(Result::isSucceeded).collect(Collectors.toList());
+        }
+
+        public List<Result> getFailed() {
+            return results.stream().filter(result -> !result.isSucceeded()).collect(Collectors.toList());
+        }
+
+        public boolean isSucceeded() {
+            return results.stream().allMatch(Result::isSucceeded);
+        }
+    }
+}
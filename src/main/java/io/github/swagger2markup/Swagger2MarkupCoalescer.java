@@ -0,0 +1,145 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup;
+
+import io.github.swagger2markup.builder.Swagger2MarkupConfigBuilder;
+import io.github.swagger2markup.internal.utils.ModelHasher;
+import io.github.swagger2markup.utils.HashUtils;
+import io.github.swagger2markup.utils.SingleFlight;
+import org.apache.commons.lang3.Validate;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Shares identical concurrent conversions between their callers : while a conversion is in flight,
+ * callers requesting the same conversion wait for it and get its result instead of converting the specification again.<br>
+ * Conversions are identical if they have the same specification content, the same effective configuration,
+ * the same extension registry instance and the same output name. Configuration values without value semantics,
+ * e.g. the ordering comparators, must be equal : the same instances, unless they implement {@code equals} like Guava orderings.
+ * Results are not cached : once a conversion completed, the next call converts the specification again.
+ */
+public class Swagger2MarkupCoalescer {
+
+    private static final String STRING_OUTPUT = "string";
+
+    private final SingleFlight<ConversionKey, Object> conversions = new SingleFlight<>();
+
+    /**
+     * Converts the Swagger specification to a String, sharing the conversion with identical concurrent calls.
+     *
+     * @param swaggerString     the Swagger YAML or JSON String
+     * @param config            the configuration, or null for the default configuration
+     * @param extensionRegistry the extension registry, or null for the default extension registry
+     * @return the documents as a String
+     * @see Swagger2MarkupConverter#toString()
+     */
+    public String toString(String swaggerString, Swagger2MarkupConfig config, Swagger2MarkupExtensionRegistry extensionRegistry) {
+        return convert(swaggerString, config, extensionRegistry, STRING_OUTPUT, Swagger2MarkupConverter::toString);
+    }
+
+    /**
+     * Applies {@code conversion} to a converter of the Swagger specification, sharing the result with identical concurrent calls.
+     *
+     * @param swaggerString     the Swagger YAML or JSON String
+     * @param config            the configuration, or null for the default configuration
+     * @param extensionRegistry the extension registry, or null for the default extension registry
+     * @param output            name identifying the result of {@code conversion} : calls with the same output name must apply the same conversion
+     * @param conversion        the conversion, e.g {@code converter -> converter.toString()}
+     * @param <T>               the result type
+     * @return the result of the conversion
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T convert(String swaggerString, Swagger2MarkupConfig config, Swagger2MarkupExtensionRegistry extensionRegistry,
+                         String output, Function<Swagger2MarkupConverter, T> conversion) {
+        Validate.notEmpty(swaggerString, "swaggerString must not be empty");
+        Validate.notNull(output, "output must not be null");
+        Validate.notNull(conversion, "conversion must not be null");
+
+        Swagger2MarkupConfig effectiveConfig = config != null ? config : new Swagger2MarkupConfigBuilder().build();
+        ConversionKey key = new ConversionKey(
+                HashUtils.sha256Hex(swaggerString),
+                ModelHasher.configHash(effectiveConfig), ModelHasher.configObjectValues(effectiveConfig), extensionRegistry, output);
+        return (T) conversions.execute(key, () -> {
+            Swagger2MarkupConverter.Builder converterBuilder = Swagger2MarkupConverter.from(swaggerString).withConfig(effectiveConfig);
+            if (extensionRegistry != null)
+                converterBuilder.withExtensionRegistry(extensionRegistry);
+            return conversion.apply(converterBuilder.build());
+        });
+    }
+
+    /**
+     * Returns the number of conversions requested.
+     *
+     * @return the number of calls
+     */
+    public long getCalls() {
+        return conversions.getCalls();
+    }
+
+    /**
+     * Returns the number of calls which got the result of an identical conversion in flight instead of converting the specification.
+     *
+     * @return the number of coalesced calls
+     */
+    public long getCoalescedCalls() {
+        return conversions.getCoalescedCalls();
+    }
+
+    /**
+     * Returns the number of conversions currently in flight.
+     *
+     * @return the number of conversions in flight
+     */
+    public int getInFlight() {
+        return conversions.getInFlight();
+    }
+
+    /**
+     * Key of a conversion. The configuration values without value semantics are compared with {@code equals}, the extension registry by identity.
+     */
+    private static final class ConversionKey {
+        private final String specHash;
+        private final String configHash;
+        private final List<Object> configObjectValues;
+        private final Swagger2MarkupExtensionRegistry extensionRegistry;
+        private final String output;
+
+        ConversionKey(String specHash, String configHash, List<Object> configObjectValues,
+                      Swagger2MarkupExtensionRegistry extensionRegistry, String output) {
+            this.specHash = specHash;
+            this.configHash = configHash;
+            this.configObjectValues = configObjectValues;
+            this.extensionRegistry = extensionRegistry;
+            this.output = output;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ConversionKey that = (ConversionKey) o;
+            return specHash.equals(that.specHash) && configHash.equals(that.configHash)
+                    && configObjectValues.equals(that.configObjectValues) && extensionRegistry == that.extensionRegistry && output.equals(that.output);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(specHash, configHash, configObjectValues, System.identityHashCode(extensionRegistry), output);
+        }
+    }
+}
@@ -247,4 +247,94 @@ public interface Swagger2MarkupConfig {
      * @return custom timeout value
      */
     int getAsciidocPegdownTimeoutMillis();
+
+    /**
+     * Specifies if structurally identical inline schemas are rendered once per document, further occurrences referencing the first one.
+     */
+    boolean isInlineSchemaDeduplicationEnabled();
+
+    /**
+     * Returns the minimum number of occurrences from which a structurally identical inline object schema is hoisted into the definitions, 0 if hoisting is disabled.
+     *
+     * @return the inline schema hoist threshold
+     */
+    int getInlineSchemaHoistThreshold();
+
+    /**
+     * Returns the maximum nesting depth of expanded inline schemas, 0 if the depth is unlimited.
+     *
+     * @return the inline schema depth limit
+     */
+    int getInlineSchemaDepthLimit();
+
+    /**
+     * Specifies if output files whose content did not change are left untouched instead of being rewritten.
+     */
+    boolean isSkipUnchangedFilesEnabled();
+
+    /**
+     * Specifies if separated operation and definition files are only re-rendered when their source model nodes or their dependencies changed.
+     */
+    boolean isIncrementalConversionEnabled();
+
+    /**
+     * Returns the number of background threads writing the output files, 0 if files are written synchronously.
+     *
+     * @return the number of writer threads
+     */
+    int getAsyncWriteThreads();
+
+    /**
+     * Specifies if the output folder is rendered into a staging directory and swapped into place once the conversion succeeded.
+     */
+    boolean isAtomicOutputEnabled();
+
+    /**
+     * Specifies how the separated operation and definition files are distributed across subdirectories of their folder.
+     *
+     * @return the separated files layout
+     */
+    SeparatedFilesLayout getSeparatedFilesLayout();
+
+    /**
+     * Returns the maximum number of operations or definitions per shard of the paths and definitions documents, 0 for no limit.
+     *
+     * @return the maximum number of items per shard
+     */
+    int getShardMaxItems();
+
+    /**
+     * Returns the target size in characters of a shard of the paths and definitions documents, 0 for no limit.
+     *
+     * @return the target shard size
+     */
+    int getShardMaxSize();
+
+    /**
+     * Specifies if the documents and separated files are gzip-compressed.
+     *
+     * @return true if the output is gzip-compressed
+     */
+    boolean isGzipOutputEnabled();
+
+    /**
+     * Returns the gzip compression level, from 0 to 9, or -1 for the default level.
+     *
+     * @return the gzip compression level
+     */
+    int getGzipCompressionLevel();
+
+    /**
+     * Returns the size of the gzip compression buffer.
+     *
+     * @return the gzip buffer size
+     */
+    int getGzipBufferSize();
+
+    /**
+     * Specifies if inter-document cross-references include the .gz suffix when gzip output is enabled.
+     *
+     * @return true if cross-references include the .gz suffix
+     */
+    boolean isGzipCrossReferencesSuffixEnabled();
 }
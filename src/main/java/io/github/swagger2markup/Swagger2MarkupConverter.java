@@ -21,26 +21,58 @@ import io.github.swagger2markup.internal.document.DefinitionsDocument;
 import io.github.swagger2markup.internal.document.OverviewDocument;
 import io.github.swagger2markup.internal.document.PathsDocument;
 import io.github.swagger2markup.internal.document.SecurityDocument;
+import io.github.swagger2markup.internal.utils.BuildManifest;
+import io.github.swagger2markup.internal.utils.ChannelWriter;
+import io.github.swagger2markup.internal.utils.ConversionEvents;
+import io.github.swagger2markup.internal.utils.DocumentShardWriter;
+import io.github.swagger2markup.internal.utils.FragmentCache;
+import io.github.swagger2markup.internal.utils.InlineSchemaHoister;
+import io.github.swagger2markup.internal.utils.InlineSchemaRegistry;
+import io.github.swagger2markup.internal.utils.ModelHasher;
+import io.github.swagger2markup.internal.utils.OutputFileWriter;
 import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
 import io.github.swagger2markup.markup.builder.MarkupDocBuilders;
+import io.github.swagger2markup.markup.builder.MarkupLanguage;
+import io.github.swagger2markup.output.AsyncOutputSink;
+import io.github.swagger2markup.output.FileSystemOutputSink;
+import io.github.swagger2markup.output.GzipOutputSink;
+import io.github.swagger2markup.output.StagingOutputSink;
+import io.github.swagger2markup.spi.ConversionListener.Counter;
+import io.github.swagger2markup.spi.ConversionListener.Phase;
+import io.github.swagger2markup.spi.OutputSink;
+import io.github.swagger2markup.utils.DescriptionCache;
+import io.github.swagger2markup.utils.RemoteSpecificationCache;
 import io.github.swagger2markup.utils.URIUtils;
 import io.swagger.models.Swagger;
 import io.swagger.parser.SwaggerParser;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 
 /**
@@ -48,6 +80,8 @@ import java.nio.file.StandardOpenOption;
  */
 public class Swagger2MarkupConverter {
 
+    private static final Logger logger = LoggerFactory.getLogger(Swagger2MarkupConverter.class);
+
     private final Context context;
     private final OverviewDocument overviewDocument;
     private final PathsDocument pathsDocument;
@@ -95,6 +129,20 @@ public class Swagger2MarkupConverter {
         return new Builder(swaggerURL);
     }
 
+    /**
+     * Creates a Swagger2MarkupConverter.Builder using a remote URL, fetched through {@code remoteSpecificationCache}.<br>
+     * The specification and the remote documents it references are only downloaded if they changed since they have been cached.
+     *
+     * @param swaggerURL               the remote URL
+     * @param remoteSpecificationCache the cache of remote specifications
+     * @return a Swagger2MarkupConverter
+     */
+    public static Builder from(URL swaggerURL, RemoteSpecificationCache remoteSpecificationCache) {
+        Validate.notNull(swaggerURL, "swaggerURL must not be null");
+        Validate.notNull(remoteSpecificationCache, "remoteSpecificationCache must not be null");
+        return new Builder(swaggerURL, remoteSpecificationCache);
+    }
+
     /**
      * Creates a Swagger2MarkupConverter.Builder using a local Path.
      *
@@ -147,6 +195,7 @@ public class Swagger2MarkupConverter {
     public static Builder from(Reader swaggerReader) {
         Validate.notNull(swaggerReader, "swaggerReader must not be null");
         Swagger swagger;
+        long parseStart = System.nanoTime();
         try {
             swagger = new SwaggerParser().parse(IOUtils.toString(swaggerReader));
         } catch (IOException e) {
@@ -155,7 +204,9 @@ public class Swagger2MarkupConverter {
         if (swagger == null)
             throw new IllegalArgumentException("Swagger source is in a wrong format");
 
-        return new Builder(swagger);
+        Builder builder = new Builder(swagger);
+        builder.parseNanos = System.nanoTime() - parseStart;
+        return builder;
     }
 
     /**
@@ -168,47 +219,180 @@ public class Swagger2MarkupConverter {
     }
 
     /**
-     * Converts the Swagger specification into the given {@code outputDirectory}.
+     * Converts the Swagger specification into the given {@code outputDirectory}.<br>
+     * If {@link Swagger2MarkupConfig#isAtomicOutputEnabled()}, the documents are rendered into a staging directory which replaces {@code outputDirectory}
+     * once the conversion succeeded.
      *
      * @param outputDirectory the output directory path
      */
     public void toFolder(Path outputDirectory) {
         Validate.notNull(outputDirectory, "outputDirectory must not be null");
 
+        if (context.config.isAtomicOutputEnabled()) {
+            StagingOutputSink stagingOutputSink;
+            try {
+                stagingOutputSink = StagingOutputSink.create(outputDirectory);
+            } catch (IOException e) {
+                throw new RuntimeException(String.format("Failed to create staging directory for '%s'", outputDirectory), e);
+            }
+            boolean published = false;
+            try {
+                convert(stagingOutputSink, outputDirectory);
+                stagingOutputSink.publish();
+                published = true;
+            } catch (IOException e) {
+                throw new RuntimeException(String.format("Failed to publish '%s'", outputDirectory), e);
+            } finally {
+                if (!published)
+                    stagingOutputSink.discard();
+            }
+        } else {
+            convert(new FileSystemOutputSink(outputDirectory), outputDirectory);
+        }
+    }
+
+    /**
+     * Converts the Swagger specification into the given {@code outputSink}.<br>
+     * The documents, and the separated files if enabled, are written to the sink as they are produced. The sink is not closed.
+     *
+     * @param outputSink the output sink
+     */
+    public void toSink(OutputSink outputSink) {
+        Validate.notNull(outputSink, "outputSink must not be null");
+
+        convert(outputSink, null);
+    }
+
+    private void convert(OutputSink outputSink, Path outputDirectory) {
+        OutputSink documentSink = outputSink;
+        if (context.config.isGzipOutputEnabled()) {
+            documentSink = new GzipOutputSink(outputSink, context.config.getGzipCompressionLevel(), context.config.getGzipBufferSize());
+        }
+        AsyncOutputSink asyncOutputSink = null;
+        if (context.config.getAsyncWriteThreads() > 0) {
+            asyncOutputSink = new AsyncOutputSink(documentSink, context.config.getAsyncWriteThreads());
+        }
         context.setOutputPath(outputDirectory);
+        context.setOutputSink(asyncOutputSink != null ? asyncOutputSink : documentSink);
+        OutputFileWriter outputFileWriter = context.getOutputFileWriter();
+        outputFileWriter.reset();
+        BuildManifest buildManifest = null;
+        if (context.config.isIncrementalConversionEnabled()) {
+            buildManifest = BuildManifest.load(documentSink, context.getModelHasher().getFingerprint());
+        }
+        context.setBuildManifest(buildManifest);
+
+        ConversionEvents events = context.getConversionEvents();
+        String conversionName = conversionName();
+        long conversionStart = events.start(Phase.CONVERSION, conversionName);
+        try {
+            writeDocument(applyOverviewDocument(), context.config.getOverviewDocument());
+            writeShardedDocument(this::applyPathsDocument, context.config.getPathsDocument());
+            writeShardedDocument(this::applyDefinitionsDocument, context.config.getDefinitionsDocument());
+            writeDocument(applySecurityDocument(), context.config.getSecurityDocument());
+            if (buildManifest != null) {
+                buildManifest.store(outputFileWriter);
+            }
+            if (asyncOutputSink != null) {
+                asyncOutputSink.close();
+                // the pending writes are complete : listeners write directly to the sink
+                context.setOutputSink(documentSink);
+            }
+            if (buildManifest != null) {
+                events.count(Counter.FILES_REUSED, buildManifest.getReusedFiles());
+            }
+            events.count(Counter.FILES_WRITTEN, outputFileWriter.getWrittenFiles());
+            events.count(Counter.BYTES_WRITTEN, outputFileWriter.getWrittenBytes());
+            events.count(Counter.FILES_SKIPPED, outputFileWriter.getSkippedFiles());
+            events.end(Phase.CONVERSION, conversionName, conversionStart);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write the documents", e);
+        } finally {
+            if (asyncOutputSink != null) {
+                asyncOutputSink.abort();
+            }
+            context.setBuildManifest(null);
+            context.setOutputSink(null);
+        }
+
+        if (logger.isInfoEnabled()) {
+            logger.info("Output files written : {}, unchanged files skipped : {}, separated files reused : {}", outputFileWriter.getWrittenFiles(), outputFileWriter.getSkippedFiles(),
+                    buildManifest != null ? buildManifest.getReusedFiles() : 0);
+        }
+    }
+
+    private String conversionName() {
+        return context.getSwaggerLocation() != null ? context.getSwaggerLocation().toString() : null;
+    }
 
-        applyOverviewDocument()
-                .writeToFile(outputDirectory.resolve(context.config.getOverviewDocument()), StandardCharsets.UTF_8);
-        applyPathsDocument()
-                .writeToFile(outputDirectory.resolve(context.config.getPathsDocument()), StandardCharsets.UTF_8);
-        applyDefinitionsDocument()
-                .writeToFile(outputDirectory.resolve(context.config.getDefinitionsDocument()), StandardCharsets.UTF_8);
-        applySecurityDocument()
-                .writeToFile(outputDirectory.resolve(context.config.getSecurityDocument()), StandardCharsets.UTF_8);
+    private void writeDocument(MarkupDocBuilder markupDocBuilder, String document) {
+        context.getOutputFileWriter().write(context.getOutputSink(), markupDocBuilder.addFileExtension(document), markupDocBuilder.toString(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes a document which is split into shards if sharding is enabled, otherwise as a single file.
+     *
+     * @param applyDocument function building the document, flushing the operations or definitions to the given writer if it is not null
+     * @param document      the name of the document
+     */
+    private void writeShardedDocument(Function<Writer, MarkupDocBuilder> applyDocument, String document) {
+        if (!isShardingEnabled()) {
+            writeDocument(applyDocument.apply(null), document);
+            return;
+        }
+        DocumentShardWriter shardWriter = new DocumentShardWriter(context.getOutputSink(), context.getOutputFileWriter(), context.createMarkupDocBuilder(),
+                document, context.config.getShardMaxItems(), context.config.getShardMaxSize());
+        try {
+            shardWriter.write(applyDocument.apply(shardWriter).toString());
+        } catch (IOException e) {
+            throw new RuntimeException(String.format("Failed to write document '%s'", document), e);
+        }
+        shardWriter.close();
+        if (logger.isDebugEnabled()) {
+            logger.debug("Document '{}' split into {} shards", document, shardWriter.getShards().size());
+        }
+    }
+
+    private boolean isShardingEnabled() {
+        if (context.config.getShardMaxItems() == 0 && context.config.getShardMaxSize() == 0)
+            return false;
+        if (context.config.getMarkupLanguage() != MarkupLanguage.ASCIIDOC) {
+            logger.warn("Sharding is only supported for {}, documents are not sharded", MarkupLanguage.ASCIIDOC);
+            return false;
+        }
+        return true;
     }
 
     private MarkupDocBuilder applyOverviewDocument() {
-        return overviewDocument.apply(
+        return applyDocument(Phase.OVERVIEW_DOCUMENT, context.config.getOverviewDocument(), () -> overviewDocument.apply(
                 context.createMarkupDocBuilder(),
-                OverviewDocument.parameters(context.getSwagger()));
+                OverviewDocument.parameters(context.getSwagger())));
     }
 
-    private MarkupDocBuilder applyPathsDocument() {
-        return pathsDocument.apply(
+    private MarkupDocBuilder applyPathsDocument(Writer writer) {
+        return applyDocument(Phase.PATHS_DOCUMENT, context.config.getPathsDocument(), () -> pathsDocument.apply(
                 context.createMarkupDocBuilder(),
-                PathsDocument.parameters(context.getSwagger().getPaths()));
+                PathsDocument.parameters(context.getSwagger().getPaths(), writer)));
     }
 
-    private MarkupDocBuilder applyDefinitionsDocument() {
-        return definitionsDocument.apply(
+    private MarkupDocBuilder applyDefinitionsDocument(Writer writer) {
+        return applyDocument(Phase.DEFINITIONS_DOCUMENT, context.config.getDefinitionsDocument(), () -> definitionsDocument.apply(
                 context.createMarkupDocBuilder(),
-                DefinitionsDocument.parameters(context.getSwagger().getDefinitions()));
+                DefinitionsDocument.parameters(context.getSwagger().getDefinitions(), writer)));
     }
 
     private MarkupDocBuilder applySecurityDocument() {
-        return securityDocument.apply(
+        return applyDocument(Phase.SECURITY_DOCUMENT, context.config.getSecurityDocument(), () -> securityDocument.apply(
                 context.createMarkupDocBuilder(),
-                SecurityDocument.parameters(context.getSwagger().getSecurityDefinitions()));
+                SecurityDocument.parameters(context.getSwagger().getSecurityDefinitions())));
+    }
+
+    private MarkupDocBuilder applyDocument(Phase phase, String document, Supplier<MarkupDocBuilder> applyDocument) {
+        ConversionEvents events = context.getConversionEvents();
+        long start = events.start(phase, document);
+        MarkupDocBuilder markupDocBuilder = applyDocument.get();
+        events.end(phase, document, start);
+        return markupDocBuilder;
     }
 
     /**
@@ -236,24 +420,81 @@ public class Swagger2MarkupConverter {
     public void toFile(Path outputFile) {
         Validate.notNull(outputFile, "outputFile must not be null");
 
-        applyOverviewDocument().writeToFile(outputFile, StandardCharsets.UTF_8);
-        applyPathsDocument().writeToFile(outputFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
-        applyDefinitionsDocument().writeToFile(outputFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
-        applySecurityDocument().writeToFile(outputFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        toFileWithoutExtension(context.createMarkupDocBuilder().addFileExtension(outputFile));
     }
 
     /**
-     * Converts the Swagger specification the given {@code outputFile}.
+     * Converts the Swagger specification the given {@code outputFile}.<br>
+     * The file is opened once and the documents are streamed into it through a single channel.
+     * If gzip output is enabled, the documents are compressed on the fly into {@code outputFile} with the .gz suffix.
      *
      * @param outputFile the output file
      */
     public void toFileWithoutExtension(Path outputFile) {
         Validate.notNull(outputFile, "outputFile must not be null");
 
-        applyOverviewDocument().writeToFileWithoutExtension(outputFile, StandardCharsets.UTF_8);
-        applyPathsDocument().writeToFileWithoutExtension(outputFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
-        applyDefinitionsDocument().writeToFileWithoutExtension(outputFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
-        applySecurityDocument().writeToFileWithoutExtension(outputFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        if (context.config.isGzipOutputEnabled()) {
+            outputFile = outputFile.resolveSibling(outputFile.getFileName() + GzipOutputSink.GZIP_SUFFIX);
+        }
+        try {
+            Path parent = outputFile.toAbsolutePath().getParent();
+            if (parent != null)
+                Files.createDirectories(parent);
+            try (FileChannel channel = FileChannel.open(outputFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                if (context.config.isGzipOutputEnabled()) {
+                    try (Writer writer = new OutputStreamWriter(GzipOutputSink.gzipOutputStream(Channels.newOutputStream(channel),
+                            context.config.getGzipCompressionLevel(), context.config.getGzipBufferSize()), StandardCharsets.UTF_8)) {
+                        toWriter(writer);
+                    }
+                } else {
+                    try (Writer writer = new ChannelWriter(channel, StandardCharsets.UTF_8)) {
+                        toWriter(writer);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(String.format("Failed to write file '%s'", outputFile), e);
+        }
+    }
+
+    /**
+     * Converts the Swagger specification to the given {@code writer}.<br>
+     * Operations and definitions are written as soon as they are rendered, so that the documents are never entirely held in memory.
+     * The writer is flushed but not closed.
+     *
+     * @param writer the writer
+     */
+    public void toWriter(Writer writer) {
+        Validate.notNull(writer, "writer must not be null");
+
+        ConversionEvents events = context.getConversionEvents();
+        String conversionName = conversionName();
+        long conversionStart = events.start(Phase.CONVERSION, conversionName);
+        try {
+            writer.write(applyOverviewDocument().toString());
+            writer.write(applyPathsDocument(writer).toString());
+            writer.write(applyDefinitionsDocument(writer).toString());
+            writer.write(applySecurityDocument().toString());
+            writer.flush();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write the documents", e);
+        }
+        events.end(Phase.CONVERSION, conversionName, conversionStart);
+    }
+
+    /**
+     * Converts the Swagger specification to the given {@code outputStream}, encoded with {@code charset}.<br>
+     * The output stream is flushed but not closed.
+     *
+     * @param outputStream the output stream
+     * @param charset      the charset
+     * @see #toWriter(Writer)
+     */
+    public void toOutputStream(OutputStream outputStream, Charset charset) {
+        Validate.notNull(outputStream, "outputStream must not be null");
+        Validate.notNull(charset, "charset must not be null");
+
+        toWriter(new BufferedWriter(new OutputStreamWriter(outputStream, charset)));
     }
 
     /**
@@ -262,13 +503,9 @@ public class Swagger2MarkupConverter {
      * @return the document as a String
      */
     public String toString() {
-
-        StringBuilder sb = new StringBuilder();
-        sb.append(applyOverviewDocument().toString());
-        sb.append(applyPathsDocument().toString());
-        sb.append(applyDefinitionsDocument().toString());
-        sb.append(applySecurityDocument().toString());
-        return sb.toString();
+        StringWriter writer = new StringWriter();
+        toWriter(writer);
+        return writer.toString();
     }
 
     public static class Builder {
@@ -276,6 +513,9 @@ public class Swagger2MarkupConverter {
         private final URI swaggerLocation;
         private Swagger2MarkupConfig config;
         private Swagger2MarkupExtensionRegistry extensionRegistry;
+        private Labels labels;
+        private DescriptionCache descriptionCache;
+        private long parseNanos;
 
         /**
          * Creates a Builder from a remote URL.
@@ -291,6 +531,27 @@ public class Swagger2MarkupConverter {
             this.swagger = readSwagger(swaggerUrl.toString());
         }
 
+        /**
+         * Creates a Builder from a remote URL, parsing the copy fetched into the cache.
+         *
+         * @param swaggerUrl               the remote URL
+         * @param remoteSpecificationCache the cache of remote specifications
+         */
+        Builder(URL swaggerUrl, RemoteSpecificationCache remoteSpecificationCache) {
+            try {
+                this.swaggerLocation = swaggerUrl.toURI();
+            } catch (URISyntaxException e) {
+                throw new IllegalArgumentException("swaggerURL is in a wrong format", e);
+            }
+            Path cachedSwaggerPath;
+            try {
+                cachedSwaggerPath = remoteSpecificationCache.fetch(swaggerUrl);
+            } catch (IOException e) {
+                throw new RuntimeException(String.format("Failed to fetch '%s'", swaggerUrl), e);
+            }
+            this.swagger = readSwagger(cachedSwaggerPath.toString());
+        }
+
         /**
          * Creates a Builder from a local Path.
          *
@@ -318,7 +579,9 @@ public class Swagger2MarkupConverter {
          * @return the Swagger model
          */
         private Swagger readSwagger(String swaggerLocation) {
+            long parseStart = System.nanoTime();
             Swagger swagger = new SwaggerParser().read(swaggerLocation);
+            parseNanos = System.nanoTime() - parseStart;
             if (swagger == null) {
                 throw new IllegalArgumentException("Failed to read the Swagger source");
             }
@@ -337,6 +600,30 @@ public class Swagger2MarkupConverter {
             return this;
         }
 
+        /**
+         * Shares labels between conversions using the same output language.
+         *
+         * @param labels the labels
+         * @return this builder
+         */
+        Builder withLabels(Labels labels) {
+            Validate.notNull(labels, "labels must not be null");
+            this.labels = labels;
+            return this;
+        }
+
+        /**
+         * Shares converted descriptions between conversions.
+         *
+         * @param descriptionCache the description cache
+         * @return this builder
+         */
+        public Builder withDescriptionCache(DescriptionCache descriptionCache) {
+            Validate.notNull(descriptionCache, "descriptionCache must not be null");
+            this.descriptionCache = descriptionCache;
+            return this;
+        }
+
         public Swagger2MarkupConverter build() {
             if (config == null)
                 config = new Swagger2MarkupConfigBuilder().build();
@@ -344,16 +631,28 @@ public class Swagger2MarkupConverter {
             if (extensionRegistry == null)
                 extensionRegistry = new Swagger2MarkupExtensionRegistryBuilder().build();
 
-            Context context = new Context(config, extensionRegistry, swagger, swaggerLocation);
+            if (labels == null)
+                labels = new Labels(config);
+
+            if (descriptionCache == null)
+                descriptionCache = new DescriptionCache();
+
+            Context context = new Context(config, extensionRegistry, swagger, swaggerLocation, labels, descriptionCache);
 
             initExtensions(context);
 
+            if (parseNanos > 0)
+                context.getConversionEvents().record(Phase.PARSING, swaggerLocation != null ? swaggerLocation.toString() : null, parseNanos);
+
             applySwaggerExtensions(context);
 
+            hoistInlineSchemas(context);
+
             return new Swagger2MarkupConverter(context);
         }
 
         private void initExtensions(Context context) {
+            extensionRegistry.getConversionListeners().forEach(listener -> listener.setGlobalContext(context));
             extensionRegistry.getSwaggerModelExtensions().forEach(extension -> extension.setGlobalContext(context));
             extensionRegistry.getOverviewDocumentExtensions().forEach(extension -> extension.setGlobalContext(context));
             extensionRegistry.getDefinitionsDocumentExtensions().forEach(extension -> extension.setGlobalContext(context));
@@ -362,7 +661,18 @@ public class Swagger2MarkupConverter {
         }
 
         private void applySwaggerExtensions(Context context) {
-            extensionRegistry.getSwaggerModelExtensions().forEach(extension -> extension.apply(context.getSwagger()));
+            ConversionEvents events = context.getConversionEvents();
+            extensionRegistry.getSwaggerModelExtensions().forEach(extension -> {
+                String extensionName = extension.getClass().getName();
+                long start = events.start(Phase.SWAGGER_MODEL_EXTENSION, extensionName);
+                extension.apply(context.getSwagger());
+                events.end(Phase.SWAGGER_MODEL_EXTENSION, extensionName, start);
+            });
+        }
+
+        private void hoistInlineSchemas(Context context) {
+            if (config.getInlineSchemaHoistThreshold() > 0)
+                new InlineSchemaHoister(config.getInlineSchemaHoistThreshold()).apply(context.getSwagger());
         }
     }
 
@@ -372,17 +682,37 @@ public class Swagger2MarkupConverter {
         private final URI swaggerLocation;
         private final Swagger2MarkupExtensionRegistry extensionRegistry;
         private final Labels labels;
+        private final DescriptionCache descriptionCache;
+        private final FragmentCache fragmentCache = new FragmentCache();
+        private final InlineSchemaRegistry inlineSchemaRegistry = new InlineSchemaRegistry();
+        private final OutputFileWriter outputFileWriter;
+        private final ConversionEvents conversionEvents;
+        private ModelHasher modelHasher;
+        private BuildManifest buildManifest;
+        private OutputSink outputSink;
         private Path outputPath;
 
         public Context(Swagger2MarkupConfig config,
                        Swagger2MarkupExtensionRegistry extensionRegistry,
                        Swagger swagger,
                        URI swaggerLocation) {
+            this(config, extensionRegistry, swagger, swaggerLocation, new Labels(config), new DescriptionCache());
+        }
+
+        Context(Swagger2MarkupConfig config,
+                Swagger2MarkupExtensionRegistry extensionRegistry,
+                Swagger swagger,
+                URI swaggerLocation,
+                Labels labels,
+                DescriptionCache descriptionCache) {
             this.config = config;
             this.extensionRegistry = extensionRegistry;
             this.swagger = swagger;
             this.swaggerLocation = swaggerLocation;
-            this.labels = new Labels(config);
+            this.labels = labels;
+            this.descriptionCache = descriptionCache;
+            this.outputFileWriter = new OutputFileWriter(config.isSkipUnchangedFilesEnabled());
+            this.conversionEvents = new ConversionEvents(extensionRegistry != null ? extensionRegistry.getConversionListeners() : Collections.emptyList());
         }
 
         public Swagger2MarkupConfig getConfig() {
@@ -405,6 +735,51 @@ public class Swagger2MarkupConverter {
             return labels;
         }
 
+        /**
+         * Returns the cache of converted descriptions, which may be shared with other conversions.
+         *
+         * @return the description cache
+         */
+        public DescriptionCache getDescriptionCache() {
+            return descriptionCache;
+        }
+
+        /**
+         * Returns the cache of rendered fragments shared by the components of this conversion.
+         *
+         * @return the fragment cache
+         */
+        public FragmentCache getFragmentCache() {
+            return fragmentCache;
+        }
+
+        /**
+         * Returns the registry of the inline schemas rendered in the current document, used to deduplicate them.
+         *
+         * @return the inline schema registry
+         */
+        public InlineSchemaRegistry getInlineSchemaRegistry() {
+            return inlineSchemaRegistry;
+        }
+
+        /**
+         * Returns the writer of the output files, which counts written and skipped files.
+         *
+         * @return the output file writer
+         */
+        public OutputFileWriter getOutputFileWriter() {
+            return outputFileWriter;
+        }
+
+        /**
+         * Returns the dispatcher of the phases and counters of the conversion to the registered conversion listeners.
+         *
+         * @return the conversion events
+         */
+        public ConversionEvents getConversionEvents() {
+            return conversionEvents;
+        }
+
         public MarkupDocBuilder createMarkupDocBuilder() {
             return MarkupDocBuilders.documentBuilder(config.getMarkupLanguage(),
                     config.getLineSeparator(), config.getAsciidocPegdownTimeoutMillis()).withAnchorPrefix(config.getAnchorPrefix());
@@ -417,6 +792,43 @@ public class Swagger2MarkupConverter {
         public void setOutputPath(Path outputPath) {
             this.outputPath = outputPath;
         }
+
+        /**
+         * Returns the sink the documents and separated files of the current conversion are written to.
+         *
+         * @return the output sink, or null if the conversion does not produce several documents
+         */
+        public OutputSink getOutputSink() {
+            return outputSink;
+        }
+
+        public void setOutputSink(OutputSink outputSink) {
+            this.outputSink = outputSink;
+        }
+
+        /**
+         * Returns the hasher of the operations and definitions of the Swagger specification, created on first use.
+         *
+         * @return the model hasher
+         */
+        public ModelHasher getModelHasher() {
+            if (modelHasher == null)
+                modelHasher = new ModelHasher(this);
+            return modelHasher;
+        }
+
+        /**
+         * Returns the manifest of the current incremental conversion.
+         *
+         * @return the build manifest, or null if the conversion is not incremental
+         */
+        public BuildManifest getBuildManifest() {
+            return buildManifest;
+        }
+
+        public void setBuildManifest(BuildManifest buildManifest) {
+            this.buildManifest = buildManifest;
+        }
     }
 
 }
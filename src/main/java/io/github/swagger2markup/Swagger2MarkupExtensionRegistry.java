@@ -17,6 +17,7 @@ package io.github.swagger2markup;
 
 import io.github.swagger2markup.spi.*;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -57,4 +58,13 @@ public interface Swagger2MarkupExtensionRegistry {
      * @return registered extensions extending PathsDocumentExtension extension point
      */
     List<PathsDocumentExtension> getPathsDocumentExtensions();
+
+    /**
+     * ConversionListener extension point can be used to observe the phases and counters of the conversions.
+     *
+     * @return registered extensions extending ConversionListener extension point
+     */
+    default List<ConversionListener> getConversionListeners() {
+        return Collections.emptyList();
+    }
 }
@@ -69,6 +69,20 @@ public class Swagger2MarkupProperties {
     public static final String LINE_SEPARATOR = PROPERTIES_PREFIX + ".lineSeparator";
     public static final String PAGE_BREAK_LOCATIONS = PROPERTIES_PREFIX + ".pageBreakLocations";
     public static final String ASCIIDOC_PEGDOWN_TIMEOUT = PROPERTIES_PREFIX + ".asciidoc.pegdown.timeoutMillis";
+    public static final String INLINE_SCHEMA_DEDUPLICATION_ENABLED = PROPERTIES_PREFIX + ".inlineSchemaDeduplicationEnabled";
+    public static final String INLINE_SCHEMA_HOIST_THRESHOLD = PROPERTIES_PREFIX + ".inlineSchemaHoistThreshold";
+    public static final String INLINE_SCHEMA_DEPTH_LIMIT = PROPERTIES_PREFIX + ".inlineSchemaDepthLimit";
+    public static final String SKIP_UNCHANGED_FILES_ENABLED = PROPERTIES_PREFIX + ".skipUnchangedFilesEnabled";
+    public static final String INCREMENTAL_CONVERSION_ENABLED = PROPERTIES_PREFIX + ".incrementalConversionEnabled";
+    public static final String ASYNC_WRITE_THREADS = PROPERTIES_PREFIX + ".asyncWriteThreads";
+    public static final String ATOMIC_OUTPUT_ENABLED = PROPERTIES_PREFIX + ".atomicOutputEnabled";
+    public static final String SEPARATED_FILES_LAYOUT = PROPERTIES_PREFIX + ".separatedFilesLayout";
+    public static final String SHARD_MAX_ITEMS = PROPERTIES_PREFIX + ".shardMaxItems";
+    public static final String SHARD_MAX_SIZE = PROPERTIES_PREFIX + ".shardMaxSize";
+    public static final String GZIP_OUTPUT_ENABLED = PROPERTIES_PREFIX + ".gzipOutputEnabled";
+    public static final String GZIP_COMPRESSION_LEVEL = PROPERTIES_PREFIX + ".gzipCompressionLevel";
+    public static final String GZIP_BUFFER_SIZE = PROPERTIES_PREFIX + ".gzipBufferSize";
+    public static final String GZIP_CROSS_REFERENCES_SUFFIX_ENABLED = PROPERTIES_PREFIX + ".gzipCrossReferencesSuffixEnabled";
 
     /**
      * Prefix for Swagger2Markup extension properties
@@ -323,6 +337,17 @@ public class Swagger2MarkupProperties {
         return OrderBy.valueOf(configuration.getString(key));
     }
 
+    /**
+     * Return the SeparatedFilesLayout property value associated with the given key.
+     *
+     * @param key the property name to resolve
+     * @return The SeparatedFilesLayout property
+     * @throws IllegalStateException if the value cannot be mapped to the enum
+     */
+    public SeparatedFilesLayout getSeparatedFilesLayout(String key) {
+        return SeparatedFilesLayout.valueOf(configuration.getString(key));
+    }
+
     /**
      * Return the String property value associated with the given key (never {@code null}).
      *
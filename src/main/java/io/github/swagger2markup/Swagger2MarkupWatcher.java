@@ -0,0 +1,327 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup;
+
+import io.github.swagger2markup.builder.Swagger2MarkupConfigBuilder;
+import io.github.swagger2markup.builder.Swagger2MarkupExtensionRegistryBuilder;
+import io.github.swagger2markup.internal.utils.BuildManifest;
+import io.github.swagger2markup.internal.utils.ReferencedFiles;
+import io.github.swagger2markup.utils.DescriptionCache;
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * Watches a Swagger specification and the local files it references, and converts it into an output directory again whenever one of them changes.<br>
+ * Conversions are incremental : only the separated operation and definition files whose source model nodes, or the definitions they transitively
+ * reference through {@code $ref}s, changed are re-rendered. Changes are debounced, so that saving several files triggers a single conversion.
+ * A failed conversion, e.g. of a specification being edited, is reported to the listener and the watcher keeps watching.
+ */
+public class Swagger2MarkupWatcher implements Closeable {
+
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 200;
+
+    private static final Logger logger = LoggerFactory.getLogger(Swagger2MarkupWatcher.class);
+
+    private final Path swaggerPath;
+    private final Path outputDirectory;
+    private final Swagger2MarkupConfig config;
+    private final Swagger2MarkupExtensionRegistry extensionRegistry;
+    private final long debounceMillis;
+    private final Consumer<Result> listener;
+    private final Labels labels;
+    private final DescriptionCache descriptionCache = new DescriptionCache();
+    private final WatchService watchService;
+    private final Map<Path, WatchKey> watchedDirectories = new HashMap<>();
+    private final Thread watchThread;
+    private Set<Path> watchedFiles = Collections.emptySet();
+
+    private Swagger2MarkupWatcher(Builder builder) throws IOException {
+        this.swaggerPath = builder.swaggerPath.toAbsolutePath().normalize();
+        this.outputDirectory = builder.outputDirectory;
+        this.config = builder.config != null ? builder.config : new Swagger2MarkupConfigBuilder()
+                .withSeparatedOperations()
+                .withSeparatedDefinitions()
+                .withIncrementalConversion()
+                .build();
+        this.extensionRegistry = builder.extensionRegistry != null ? builder.extensionRegistry : new Swagger2MarkupExtensionRegistryBuilder().build();
+        this.debounceMillis = builder.debounceMillis;
+        this.listener = builder.listener != null ? builder.listener : Swagger2MarkupWatcher::log;
+        this.labels = new Labels(config);
+        this.watchService = swaggerPath.getFileSystem().newWatchService();
+        this.watchThread = new Thread(this::watch, "swagger2markup-watcher");
+        this.watchThread.setDaemon(true);
+        if (!config.isIncrementalConversionEnabled())
+            logger.warn("Incremental conversion is disabled : every change re-renders all files");
+        else if (!config.isSeparatedOperationsEnabled() && !config.isSeparatedDefinitionsEnabled())
+            logger.warn("Separated operations and definitions are disabled : incremental conversion only reuses separated files, every change re-renders all files");
+    }
+
+    /**
+     * Creates a Swagger2MarkupWatcher.Builder.
+     *
+     * @param swaggerPath     the local Swagger source
+     * @param outputDirectory the output directory
+     * @return a Swagger2MarkupWatcher.Builder
+     */
+    public static Builder builder(Path swaggerPath, Path outputDirectory) {
+        return new Builder(swaggerPath, outputDirectory);
+    }
+
+    /**
+     * Converts the specification, then starts watching it in a background thread.
+     */
+    public void start() {
+        watchThread.start();
+    }
+
+    /**
+     * Returns the files currently watched : the specification and the local files it references.
+     *
+     * @return the watched files
+     */
+    public synchronized Set<Path> getWatchedFiles() {
+        return watchedFiles;
+    }
+
+    /**
+     * Stops watching. A conversion in progress completes.
+     */
+    @Override
+    public void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close watch service", e);
+        }
+    }
+
+    private void watch() {
+        try {
+            updateWatchedFiles();
+            listener.accept(convert());
+            while (true) {
+                boolean changed = processEvents(watchService.take());
+                WatchKey key;
+                while ((key = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= processEvents(key);
+                }
+                if (changed) {
+                    updateWatchedFiles();
+                    listener.accept(convert());
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Stopped watching '{}'", swaggerPath);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean processEvents(WatchKey key) {
+        Path directory = (Path) key.watchable();
+        Set<Path> files = getWatchedFiles();
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW || files.contains(directory.resolve((Path) event.context())))
+                changed = true;
+        }
+        key.reset();
+        return changed;
+    }
+
+    /**
+     * Watches the directories of the specification and of the files it currently references.
+     */
+    private void updateWatchedFiles() {
+        Set<Path> files = ReferencedFiles.collect(swaggerPath);
+        Set<Path> directories = files.stream().map(Path::getParent).collect(Collectors.toSet());
+        for (Iterator<Map.Entry<Path, WatchKey>> iterator = watchedDirectories.entrySet().iterator(); iterator.hasNext(); ) {
+            Map.Entry<Path, WatchKey> watchedDirectory = iterator.next();
+            if (!directories.contains(watchedDirectory.getKey())) {
+                watchedDirectory.getValue().cancel();
+                iterator.remove();
+            }
+        }
+        for (Path directory : directories) {
+            if (!watchedDirectories.containsKey(directory)) {
+                try {
+                    watchedDirectories.put(directory, directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE));
+                } catch (IOException e) {
+                    logger.warn("Failed to watch directory '{}'", directory, e);
+                }
+            }
+        }
+        synchronized (this) {
+            watchedFiles = files;
+        }
+    }
+
+    private Result convert() {
+        long start = System.nanoTime();
+        try {
+            Swagger2MarkupConverter converter = Swagger2MarkupConverter.from(swaggerPath)
+                    .withConfig(config)
+                    .withExtensionRegistry(extensionRegistry)
+                    .withLabels(labels)
+                    .withDescriptionCache(descriptionCache)
+                    .build();
+            converter.toFolder(outputDirectory);
+            Swagger2MarkupConverter.Context context = converter.getContext();
+            BuildManifest buildManifest = context.getBuildManifest();
+            return new Result(context.getOutputFileWriter().getWrittenFiles(), buildManifest != null ? buildManifest.getReusedFiles() : 0,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), null);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to convert '{}'", swaggerPath, e);
+            return new Result(0, 0, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), e);
+        }
+    }
+
+    private static void log(Result result) {
+        if (result.isSucceeded() && logger.isInfoEnabled()) {
+            logger.info("Converted in {} ms : {} files written, {} files reused", result.getDurationMillis(),
+                    result.getWrittenFiles(), result.getReusedFiles());
+        }
+    }
+
+    public static class Builder {
+        private final Path swaggerPath;
+        private final Path outputDirectory;
+        private Swagger2MarkupConfig config;
+        private Swagger2MarkupExtensionRegistry extensionRegistry;
+        private long debounceMillis = DEFAULT_DEBOUNCE_MILLIS;
+        private Consumer<Result> listener;
+
+        Builder(Path swaggerPath, Path outputDirectory) {
+            Validate.notNull(swaggerPath, "swaggerPath must not be null");
+            Validate.notNull(outputDirectory, "outputDirectory must not be null");
+            this.swaggerPath = swaggerPath;
+            this.outputDirectory = outputDirectory;
+        }
+
+        /**
+         * Sets the configuration. It should enable {@link Swagger2MarkupConfig#isIncrementalConversionEnabled() incremental conversion}
+         * and separated operations or definitions, as only separated files are reused. The default configuration enables all of them.
+         *
+         * @param config the configuration
+         * @return this builder
+         */
+        public Builder withConfig(Swagger2MarkupConfig config) {
+            Validate.notNull(config, "config must not be null");
+            this.config = config;
+            return this;
+        }
+
+        public Builder withExtensionRegistry(Swagger2MarkupExtensionRegistry registry) {
+            Validate.notNull(registry, "registry must not be null");
+            this.extensionRegistry = registry;
+            return this;
+        }
+
+        /**
+         * @param debounceMillis quiet period after a change before converting. Default: {@value #DEFAULT_DEBOUNCE_MILLIS}
+         * @return this builder
+         */
+        public Builder withDebounce(long debounceMillis) {
+            Validate.isTrue(debounceMillis >= 0, "%s must be a positive integer", "debounceMillis");
+            this.debounceMillis = debounceMillis;
+            return this;
+        }
+
+        /**
+         * Notifies {@code listener} after each conversion, from the watcher thread. By default conversions are logged.
+         *
+         * @param listener the conversion listener
+         * @return this builder
+         */
+        public Builder withListener(Consumer<Result> listener) {
+            Validate.notNull(listener, "listener must not be null");
+            this.listener = listener;
+            return this;
+        }
+
+        public Swagger2MarkupWatcher build() {
+            try {
+                return new Swagger2MarkupWatcher(this);
+            } catch (IOException e) {
+                throw new RuntimeException(String.format("Failed to watch '%s'", swaggerPath), e);
+            }
+        }
+    }
+
+    /**
+     * Result of one conversion.
+     */
+    public static class Result {
+        private final int writtenFiles;
+        private final int reusedFiles;
+        private final long durationMillis;
+        private final RuntimeException failure;
+
+        Result(int writtenFiles, int reusedFiles, long durationMillis, RuntimeException failure) {
+            this.writtenFiles = writtenFiles;
+            this.reusedFiles = reusedFiles;
+            this.durationMillis = durationMillis;
+            this.failure = failure;
+        }
+
+        public int getWrittenFiles() {
+            return writtenFiles;
+        }
+
+        /**
+         * @return the number of separated files reused from the previous conversion instead of being re-rendered
+         */
+        public int getReusedFiles() {
+            return reusedFiles;
+        }
+
+        public long getDurationMillis() {
+            return durationMillis;
+        }
+
+        public boolean isSucceeded() {
+            return failure == null;
+        }
+
+        /**
+         * @return the failure of the conversion, or null if it succeeded
+         */
+        public RuntimeException getFailure() {
+            return failure;
+        }
+    }
+}
@@ -123,6 +123,20 @@ public class Swagger2MarkupConfigBuilder {
         Configuration extensionsConfiguration = swagger2markupConfiguration.subset(EXTENSION_PREFIX);
         config.extensionsProperties = new Swagger2MarkupProperties(extensionsConfiguration);
         config.asciidocPegdownTimeoutMillis = swagger2MarkupProperties.getRequiredInt(ASCIIDOC_PEGDOWN_TIMEOUT);
+        config.inlineSchemaDeduplicationEnabled = swagger2MarkupProperties.getRequiredBoolean(INLINE_SCHEMA_DEDUPLICATION_ENABLED);
+        config.inlineSchemaHoistThreshold = swagger2MarkupProperties.getRequiredInt(INLINE_SCHEMA_HOIST_THRESHOLD);
+        config.inlineSchemaDepthLimit = swagger2MarkupProperties.getRequiredInt(INLINE_SCHEMA_DEPTH_LIMIT);
+        config.skipUnchangedFilesEnabled = swagger2MarkupProperties.getRequiredBoolean(SKIP_UNCHANGED_FILES_ENABLED);
+        config.incrementalConversionEnabled = swagger2MarkupProperties.getRequiredBoolean(INCREMENTAL_CONVERSION_ENABLED);
+        config.asyncWriteThreads = swagger2MarkupProperties.getRequiredInt(ASYNC_WRITE_THREADS);
+        config.atomicOutputEnabled = swagger2MarkupProperties.getRequiredBoolean(ATOMIC_OUTPUT_ENABLED);
+        config.separatedFilesLayout = swagger2MarkupProperties.getSeparatedFilesLayout(SEPARATED_FILES_LAYOUT);
+        config.shardMaxItems = swagger2MarkupProperties.getRequiredInt(SHARD_MAX_ITEMS);
+        config.shardMaxSize = swagger2MarkupProperties.getRequiredInt(SHARD_MAX_SIZE);
+        config.gzipOutputEnabled = swagger2MarkupProperties.getRequiredBoolean(GZIP_OUTPUT_ENABLED);
+        config.gzipCompressionLevel = swagger2MarkupProperties.getRequiredInt(GZIP_COMPRESSION_LEVEL);
+        config.gzipBufferSize = swagger2MarkupProperties.getRequiredInt(GZIP_BUFFER_SIZE);
+        config.gzipCrossReferencesSuffixEnabled = swagger2MarkupProperties.getRequiredBoolean(GZIP_CROSS_REFERENCES_SUFFIX_ENABLED);
     }
 
     /**
@@ -143,8 +157,11 @@ public class Swagger2MarkupConfigBuilder {
      * Builds the Swagger2MarkupConfig.
      *
      * @return the Swagger2MarkupConfig
+     * @throws IllegalArgumentException if the configuration combines incompatible options
      */
     public Swagger2MarkupConfig build() {
+        Validate.isTrue(!config.gzipOutputEnabled || (config.shardMaxItems == 0 && config.shardMaxSize == 0),
+                "Sharding is not supported with gzip output : the index documents can't include compressed shards");
         buildNaturalOrdering();
 
         return config;
@@ -550,6 +567,160 @@ public class Swagger2MarkupConfigBuilder {
         return this;
     }
 
+    /**
+     * Enable structural deduplication of inline schemas.<br>
+     * An inline schema whose properties are identical to an inline schema already rendered in the same document is rendered as a reference to it.
+     *
+     * @return this builder
+     */
+    public Swagger2MarkupConfigBuilder withInlineSchemaDeduplication() {
+        config.inlineSchemaDeduplicationEnabled = true;
+        return this;
+    }
+
+    /**
+     * Hoist inline object schemas into the definitions when they occur at least {@code threshold} times in the specification.<br>
+     * By default threshold == 0, inline schemas are never hoisted.
+     *
+     * @param threshold minimum number of occurrences of a structurally identical inline schema, 0 to disable hoisting
+     * @return this builder
+     */
+    public Swagger2MarkupConfigBuilder withInlineSchemaHoistThreshold(int threshold) {
+        Validate.isTrue(threshold >= 0, "%s must be a positive integer", "threshold");
+        config.inlineSchemaHoistThreshold = threshold;
+        return this;
+    }
+
+    /**
+     * Limit the nesting depth of expanded inline schemas.<br>
+     * Inline schemas nested deeper than {@code depthLimit} are rendered with their title only.
+     * By default depthLimit == 0, the nesting depth is unlimited.
+     *
+     * @param depthLimit maximum nesting depth of expanded inline schemas, 0 for unlimited
+     * @return this builder
+     */
+    public Swagger2MarkupConfigBuilder withInlineSchemaDepthLimit(int depthLimit) {
+        Validate.isTrue(depthLimit >= 0, "%s must be a positive integer", "depthLimit");
+        config.inlineSchemaDepthLimit = depthLimit;
+        return this;
+    }
+
+    /**
+     * Leave the output files whose content did not change untouched, so that their modification time is preserved.<br>
+     * The content of an existing file is compared byte by byte with the rendered content.
+     *
+     * @return this builder
+     */
+    public Swagger2MarkupConfigBuilder withSkipUnchangedFiles() {
+        config.skipUnchangedFilesEnabled = true;
+        return this;
+    }
+
+    /**
+     * Only re-render the separated operation and definition files whose source model nodes, or the definitions they transitively reference, changed since the previous conversion.<br>
+     * The hashes of the previous conversion are read from a manifest file stored in the output folder.
+     *
+     * @return this builder
+     */
+    public Swagger2MarkupConfigBuilder withIncrementalConversion() {
+        config.incrementalConversionEnabled = true;
+        return this;
+    }
+
+    /**
+     * Write the documents and separated files from {@code threads} background writer threads, so that rendering and I/O overlap.<br>
+     * The number of pending writes is bounded, rendering blocks when writers fall behind.
+     * By default threads == 0, files are written synchronously.
+     *
+     * @param threads number of writer threads, 0 to write synchronously
+     * @return this builder
+     */
+    public Swagger2MarkupConfigBuilder withAsyncWrites(int threads) {
+        Validate.isTrue(threads >= 0, "%s must be a positive integer", "threads");
+        config.asyncWriteThreads = threads;
+        return this;
+    }
+
+    /**
+     * Render the output folder into a sibling staging directory, and swap it into place only once the conversion succeeded.<br>
+     * The output folder is a symbolic link, created by the first conversion and atomically retargeted to the staging directory by the next ones :
+     * an existing plain output folder is rejected. Files whose content did not change are hard-linked from the previous output folder where possible.
+     *
+     * @return this builder
+     */
+    public Swagger2MarkupConfigBuilder withAtomicOutput() {
+        config.atomicOutputEnabled = true;
+        return this;
+    }
+
+    /**
+     * Specifies how the separated operation and definition files are distributed across subdirectories of their folder.<br>
+     * By default the layout is FLAT, all files are directly in their folder.
+     *
+     * @param separatedFilesLayout the SeparatedFilesLayout enum
+     * @return this builder
+     */
+    public Swagger2MarkupConfigBuilder withSeparatedFilesLayout(SeparatedFilesLayout separatedFilesLayout) {
+        Validate.notNull(separatedFilesLayout, "%s must not be null", "separatedFilesLayout");
+        config.separatedFilesLayout = separatedFilesLayout;
+        return this;
+    }
+
+    /**
+     * Splits the paths and definitions documents into shard files, included by an index document named after the document.<br>
+     * A shard is complete when it contains {@code maxItems} operations or definitions, or when it reaches {@code maxSize} characters.
+     * Shards are cut between tag or regex groups whenever possible, a group is only split if it is larger than a shard on its own.<br>
+     * Sharding is only supported for AsciiDoc, and can't be combined with gzip output. By default maxItems == 0 and maxSize == 0, documents are not sharded.
+     *
+     * @param maxItems maximum number of operations or definitions per shard, 0 for no limit
+     * @param maxSize  target size of a shard in characters, 0 for no limit
+     * @return this builder
+     */
+    public Swagger2MarkupConfigBuilder withSharding(int maxItems, int maxSize) {
+        Validate.isTrue(maxItems >= 0, "%s must be a positive integer", "maxItems");
+        Validate.isTrue(maxSize >= 0, "%s must be a positive integer", "maxSize");
+        config.shardMaxItems = maxItems;
+        config.shardMaxSize = maxSize;
+        return this;
+    }
+
+    /**
+     * Gzip-compress every document and separated file as it is written, adding the .gz suffix to the file names.
+     *
+     * @return this builder
+     */
+    public Swagger2MarkupConfigBuilder withGzipOutput() {
+        config.gzipOutputEnabled = true;
+        return this;
+    }
+
+    /**
+     * Gzip-compress every document and separated file as it is written, adding the .gz suffix to the file names.
+     *
+     * @param compressionLevel the compression level, from 0 to 9, or -1 for the default level
+     * @param bufferSize       the size of the compression buffer
+     * @return this builder
+     */
+    public Swagger2MarkupConfigBuilder withGzipOutput(int compressionLevel, int bufferSize) {
+        Validate.inclusiveBetween(-1, 9, compressionLevel, "%s must be between -1 and 9", "compressionLevel");
+        Validate.isTrue(bufferSize > 0, "%s must be greater than 0", "bufferSize");
+        config.gzipOutputEnabled = true;
+        config.gzipCompressionLevel = compressionLevel;
+        config.gzipBufferSize = bufferSize;
+        return this;
+    }
+
+    /**
+     * Append the .gz suffix to the paths of inter-document cross-references when gzip output is enabled.<br>
+     * By default cross-references keep the original extension of the documents.
+     *
+     * @return this builder
+     */
+    public Swagger2MarkupConfigBuilder withGzipCrossReferencesSuffix() {
+        config.gzipCrossReferencesSuffixEnabled = true;
+        return this;
+    }
+
     static class DefaultSwagger2MarkupConfig implements Swagger2MarkupConfig {
 
         private MarkupLanguage markupLanguage;
@@ -596,6 +767,34 @@ public class Swagger2MarkupConfigBuilder {
 
         private Swagger2MarkupProperties extensionsProperties;
 
+        private boolean inlineSchemaDeduplicationEnabled;
+
+        private int inlineSchemaHoistThreshold;
+
+        private int inlineSchemaDepthLimit;
+
+        private boolean skipUnchangedFilesEnabled;
+
+        private boolean incrementalConversionEnabled;
+
+        private int asyncWriteThreads;
+
+        private boolean atomicOutputEnabled;
+
+        private SeparatedFilesLayout separatedFilesLayout;
+
+        private int shardMaxItems;
+
+        private int shardMaxSize;
+
+        private boolean gzipOutputEnabled;
+
+        private int gzipCompressionLevel;
+
+        private int gzipBufferSize;
+
+        private boolean gzipCrossReferencesSuffixEnabled;
+
         @Override
         public MarkupLanguage getMarkupLanguage() {
             return markupLanguage;
@@ -790,5 +989,75 @@ public class Swagger2MarkupConfigBuilder {
         public int getAsciidocPegdownTimeoutMillis() {
             return asciidocPegdownTimeoutMillis;
         }
+
+        @Override
+        public boolean isInlineSchemaDeduplicationEnabled() {
+            return inlineSchemaDeduplicationEnabled;
+        }
+
+        @Override
+        public int getInlineSchemaHoistThreshold() {
+            return inlineSchemaHoistThreshold;
+        }
+
+        @Override
+        public int getInlineSchemaDepthLimit() {
+            return inlineSchemaDepthLimit;
+        }
+
+        @Override
+        public boolean isSkipUnchangedFilesEnabled() {
+            return skipUnchangedFilesEnabled;
+        }
+
+        @Override
+        public boolean isIncrementalConversionEnabled() {
+            return incrementalConversionEnabled;
+        }
+
+        @Override
+        public int getAsyncWriteThreads() {
+            return asyncWriteThreads;
+        }
+
+        @Override
+        public boolean isAtomicOutputEnabled() {
+            return atomicOutputEnabled;
+        }
+
+        @Override
+        public SeparatedFilesLayout getSeparatedFilesLayout() {
+            return separatedFilesLayout;
+        }
+
+        @Override
+        public int getShardMaxItems() {
+            return shardMaxItems;
+        }
+
+        @Override
+        public int getShardMaxSize() {
+            return shardMaxSize;
+        }
+
+        @Override
+        public boolean isGzipOutputEnabled() {
+            return gzipOutputEnabled;
+        }
+
+        @Override
+        public int getGzipCompressionLevel() {
+            return gzipCompressionLevel;
+        }
+
+        @Override
+        public int getGzipBufferSize() {
+            return gzipBufferSize;
+        }
+
+        @Override
+        public boolean isGzipCrossReferencesSuffixEnabled() {
+            return gzipCrossReferencesSuffixEnabled;
+        }
     }
 }
\ No newline at end of file
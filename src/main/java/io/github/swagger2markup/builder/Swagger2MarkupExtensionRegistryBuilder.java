@@ -34,12 +34,14 @@ public class Swagger2MarkupExtensionRegistryBuilder {
         List<DefinitionsDocumentExtension> definitionsDocumentExtensions = toList(load(DefinitionsDocumentExtension.class).iterator());
         List<PathsDocumentExtension> pathsDocumentExtensions = toList(load(PathsDocumentExtension.class).iterator());
         List<SecurityDocumentExtension> securityDocumentExtensions = toList(load(SecurityDocumentExtension.class).iterator());
+        List<ConversionListener> conversionListeners = toList(load(ConversionListener.class).iterator());
         context = new Context(
                 swaggerModelExtensions,
                 overviewDocumentExtensions,
                 definitionsDocumentExtensions,
                 pathsDocumentExtensions,
-                securityDocumentExtensions);
+                securityDocumentExtensions,
+                conversionListeners);
     }
 
     public Swagger2MarkupExtensionRegistry build() {
@@ -71,6 +73,11 @@ public class Swagger2MarkupExtensionRegistryBuilder {
         return this;
     }
 
+    public Swagger2MarkupExtensionRegistryBuilder withConversionListener(ConversionListener listener) {
+        context.conversionListeners.add(listener);
+        return this;
+    }
+
     static class DefaultSwagger2MarkupExtensionRegistry implements Swagger2MarkupExtensionRegistry {
 
         private Context context;
@@ -104,6 +111,11 @@ public class Swagger2MarkupExtensionRegistryBuilder {
             return context.pathsDocumentExtensions;
         }
 
+        @Override
+        public List<ConversionListener> getConversionListeners() {
+            return context.conversionListeners;
+        }
+
     }
 
     private static class Context {
@@ -112,17 +124,20 @@ public class Swagger2MarkupExtensionRegistryBuilder {
         public final List<DefinitionsDocumentExtension> definitionsDocumentExtensions;
         public final List<PathsDocumentExtension> pathsDocumentExtensions;
         public final List<SecurityDocumentExtension> securityDocumentExtensions;
+        public final List<ConversionListener> conversionListeners;
 
         public Context(List<SwaggerModelExtension> swaggerModelExtensions,
                        List<OverviewDocumentExtension> overviewDocumentExtensions,
                        List<DefinitionsDocumentExtension> definitionsDocumentExtensions,
                        List<PathsDocumentExtension> pathsDocumentExtensions,
-                       List<SecurityDocumentExtension> securityDocumentExtensions) {
+                       List<SecurityDocumentExtension> securityDocumentExtensions,
+                       List<ConversionListener> conversionListeners) {
             this.swaggerModelExtensions = swaggerModelExtensions;
             this.overviewDocumentExtensions = overviewDocumentExtensions;
             this.definitionsDocumentExtensions = definitionsDocumentExtensions;
             this.pathsDocumentExtensions = pathsDocumentExtensions;
             this.securityDocumentExtensions = securityDocumentExtensions;
+            this.conversionListeners = conversionListeners;
         }
     }
 }
@@ -0,0 +1,522 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.daemon;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.swagger2markup.Swagger2MarkupConfig;
+import io.github.swagger2markup.Swagger2MarkupConverter;
+import io.github.swagger2markup.Swagger2MarkupExtensionRegistry;
+import io.github.swagger2markup.builder.Swagger2MarkupConfigBuilder;
+import io.github.swagger2markup.builder.Swagger2MarkupExtensionRegistryBuilder;
+import io.github.swagger2markup.internal.utils.OutputFileWriter;
+import io.github.swagger2markup.spi.OutputSink;
+import io.github.swagger2markup.utils.DescriptionCache;
+import io.swagger.util.Json;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Resident conversion process accepting conversion jobs from {@link Swagger2MarkupDaemonClient}s over a local TCP socket,
+ * so that a build converting many specifications pays the JVM startup, class loading and JIT warm-up once.<br>
+ * Converted descriptions are cached across jobs and each worker thread reuses its extension registry.
+ * <p>
+ * The protocol is line-delimited JSON : each request is one JSON object on one line, answered by one or more JSON lines.
+ * Every request carries the {@code token} the daemon generates at startup and writes to a token file only readable by its owner,
+ * so that only processes of the same user can submit jobs.
+ * <ul>
+ * <li>{@code {"command":"convert","token":"...","swagger":"file:/specs/petstore.yaml","output":"/docs/petstore","properties":{...}}} converts the specification
+ * into the output directory, which must be below the output root of the daemon,
+ * and answers {@code {"event":"done","writtenFiles":4,"skippedFiles":0,"durationMillis":42}}.
+ * Without {@code output}, each document is streamed back as {@code {"event":"document","name":"paths.adoc","content":"<base64>"}}
+ * before the {@code done} event.</li>
+ * <li>{@code {"command":"ping"}} answers {@code {"event":"pong"}}.</li>
+ * <li>{@code {"command":"shutdown"}} answers {@code {"event":"done"}} and stops the daemon.</li>
+ * </ul>
+ * A failed request is answered by {@code {"event":"error","message":"..."}}, the connection stays usable.
+ * A line which is not a JSON object, or a request without a valid token, is answered by an error and closes the connection.
+ * Connections are served concurrently, the requests of one connection sequentially.
+ */
+public class Swagger2MarkupDaemon implements Closeable {
+
+    public static final String COMMAND_FIELD = "command";
+    public static final String TOKEN_FIELD = "token";
+    public static final String SWAGGER_FIELD = "swagger";
+    public static final String OUTPUT_FIELD = "output";
+    public static final String PROPERTIES_FIELD = "properties";
+    public static final String EVENT_FIELD = "event";
+    public static final String NAME_FIELD = "name";
+    public static final String CONTENT_FIELD = "content";
+    public static final String MESSAGE_FIELD = "message";
+    public static final String WRITTEN_FILES_FIELD = "writtenFiles";
+    public static final String SKIPPED_FILES_FIELD = "skippedFiles";
+    public static final String DURATION_FIELD = "durationMillis";
+
+    public static final String CONVERT_COMMAND = "convert";
+    public static final String PING_COMMAND = "ping";
+    public static final String SHUTDOWN_COMMAND = "shutdown";
+
+    public static final String DOCUMENT_EVENT = "document";
+    public static final String DONE_EVENT = "done";
+    public static final String PONG_EVENT = "pong";
+    public static final String ERROR_EVENT = "error";
+
+    private static final Logger logger = LoggerFactory.getLogger(Swagger2MarkupDaemon.class);
+    private static final int TOKEN_BYTES = 32;
+
+    private final ServerSocket serverSocket;
+    private final byte[] token;
+    private final Path tokenFile;
+    private final Path outputRoot;
+    private final ExecutorService executor;
+    private final Thread acceptThread;
+    private final DescriptionCache descriptionCache = new DescriptionCache();
+    private final ThreadLocal<Swagger2MarkupExtensionRegistry> extensionRegistries =
+            ThreadLocal.withInitial(() -> new Swagger2MarkupExtensionRegistryBuilder().build());
+    private final AtomicInteger jobs = new AtomicInteger();
+    private final CountDownLatch closed = new CountDownLatch(1);
+
+    private Swagger2MarkupDaemon(Builder builder) throws IOException {
+        this.serverSocket = new ServerSocket();
+        this.serverSocket.bind(builder.address);
+        this.outputRoot = builder.outputRoot != null ? builder.outputRoot.toAbsolutePath().normalize() : null;
+        this.tokenFile = builder.tokenFile != null ? builder.tokenFile : defaultTokenFile(serverSocket.getLocalPort());
+        byte[] randomBytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(randomBytes);
+        String tokenValue = Base64.getUrlEncoder().withoutPadding().encodeToString(randomBytes);
+        this.token = tokenValue.getBytes(StandardCharsets.UTF_8);
+        try {
+            writeTokenFile(tokenFile, tokenValue);
+        } catch (IOException e) {
+            serverSocket.close();
+            throw e;
+        }
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(builder.threads, runnable -> {
+            Thread thread = new Thread(runnable, "swagger2markup-daemon-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.acceptThread = new Thread(this::accept, "swagger2markup-daemon-accept");
+        this.acceptThread.setDaemon(true);
+    }
+
+    /**
+     * Creates a Swagger2MarkupDaemon.Builder, listening on the loopback address with an ephemeral port by default.
+     *
+     * @return a Swagger2MarkupDaemon.Builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the token file used by a daemon listening on {@code port} unless {@link Builder#withTokenFile(Path)} is set :
+     * {@code ~/.swagger2markup/daemon-<port>.token}.
+     *
+     * @param port the daemon port
+     * @return the default token file
+     */
+    public static Path defaultTokenFile(int port) {
+        return Paths.get(System.getProperty("user.home"), ".swagger2markup", "daemon-" + port + ".token");
+    }
+
+    /**
+     * Runs a daemon until it receives a {@code shutdown} command.
+     *
+     * @param args the port to listen on, on the loopback address, then optionally the output root directory, by default the working directory
+     * @throws InterruptedException if interrupted while waiting for the shutdown
+     */
+    public static void main(String[] args) throws InterruptedException {
+        Validate.isTrue(args.length == 1 || args.length == 2, "Usage: Swagger2MarkupDaemon <port> [outputRoot]");
+        try (Swagger2MarkupDaemon daemon = builder()
+                .withAddress(new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(args[0])))
+                .withOutputRoot(Paths.get(args.length == 2 ? args[1] : ""))
+                .build()) {
+            daemon.start();
+            daemon.awaitShutdown();
+        }
+    }
+
+    /**
+     * Starts accepting connections.
+     */
+    public void start() {
+        acceptThread.start();
+        if (logger.isInfoEnabled()) {
+            logger.info("Swagger2Markup daemon listening on {}", getAddress());
+        }
+    }
+
+    /**
+     * Returns the address the daemon is bound to, including the actual port if an ephemeral port was requested.
+     *
+     * @return the daemon address
+     */
+    public InetSocketAddress getAddress() {
+        return (InetSocketAddress) serverSocket.getLocalSocketAddress();
+    }
+
+    /**
+     * Returns the file holding the token clients must send with every request.
+     *
+     * @return the token file
+     */
+    public Path getTokenFile() {
+        return tokenFile;
+    }
+
+    /**
+     * Returns the number of conversion jobs received since the daemon started.
+     *
+     * @return the number of jobs
+     */
+    public int getJobs() {
+        return jobs.get();
+    }
+
+    /**
+     * Waits until the daemon is closed, either by {@link #close()} or by a {@code shutdown} command.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void awaitShutdown() throws InterruptedException {
+        closed.await();
+    }
+
+    /**
+     * Stops the daemon, aborting the jobs in progress, and deletes the token file.
+     */
+    @Override
+    public void close() {
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close daemon socket", e);
+        }
+        try {
+            Files.deleteIfExists(tokenFile);
+        } catch (IOException e) {
+            logger.warn("Failed to delete token file '{}'", tokenFile, e);
+        }
+        executor.shutdownNow();
+        closed.countDown();
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (IOException e) {
+                if (!serverSocket.isClosed())
+                    logger.warn("Failed to accept connection", e);
+                continue;
+            }
+            try {
+                executor.execute(() -> serve(socket));
+            } catch (RejectedExecutionException e) {
+                closeQuietly(socket);
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (Socket connection = socket;
+             BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+             Writer writer = new OutputStreamWriter(connection.getOutputStream(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (StringUtils.isBlank(line))
+                    continue;
+                if (!handle(line, writer))
+                    break;
+            }
+        } catch (SocketException e) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Connection closed", e);
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to serve connection", e);
+        }
+    }
+
+    /**
+     * Handles one request.
+     *
+     * @return false if the connection must be closed : the request is not a JSON object, is not authenticated or the daemon is shutting down
+     */
+    private boolean handle(String line, Writer writer) throws IOException {
+        JsonNode request;
+        try {
+            request = Json.mapper().readTree(line);
+        } catch (JsonProcessingException e) {
+            sendError(writer, e);
+            return false;
+        }
+        if (request == null || !request.isObject()) {
+            sendError(writer, new IllegalArgumentException("Request must be a JSON object"));
+            return false;
+        }
+        if (!isAuthenticated(request)) {
+            sendError(writer, new IllegalArgumentException("Invalid token"));
+            return false;
+        }
+        ObjectNode response = Json.mapper().createObjectNode();
+        String command = request.path(COMMAND_FIELD).asText(CONVERT_COMMAND);
+        try {
+            switch (command) {
+                case PING_COMMAND:
+                    response.put(EVENT_FIELD, PONG_EVENT);
+                    break;
+                case SHUTDOWN_COMMAND:
+                    response.put(EVENT_FIELD, DONE_EVENT);
+                    send(writer, response);
+                    new Thread(this::close, "swagger2markup-daemon-shutdown").start();
+                    return false;
+                case CONVERT_COMMAND:
+                    convert(request, writer, response);
+                    break;
+                default:
+                    throw new IllegalArgumentException(String.format("Unknown command '%s'", command));
+            }
+        } catch (RuntimeException e) {
+            sendError(writer, e);
+            return true;
+        }
+        send(writer, response);
+        return true;
+    }
+
+    private boolean isAuthenticated(JsonNode request) {
+        JsonNode requestToken = request.get(TOKEN_FIELD);
+        return requestToken != null && requestToken.isTextual()
+                && MessageDigest.isEqual(token, requestToken.asText().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void convert(JsonNode request, Writer writer, ObjectNode response) {
+        long start = System.nanoTime();
+        String swagger = request.path(SWAGGER_FIELD).asText(null);
+        Validate.notEmpty(swagger, "'%s' must not be empty", SWAGGER_FIELD);
+        String output = request.path(OUTPUT_FIELD).asText(null);
+        Path outputDirectory = output != null ? resolveOutputDirectory(output) : null;
+        Map<String, String> properties = new TreeMap<>();
+        request.path(PROPERTIES_FIELD).fields().forEachRemaining(property -> properties.put(property.getKey(), property.getValue().asText()));
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder(properties).build();
+        jobs.incrementAndGet();
+
+        Swagger2MarkupConverter converter = Swagger2MarkupConverter.from(URI.create(swagger))
+                .withConfig(config)
+                .withExtensionRegistry(extensionRegistries.get())
+                .withDescriptionCache(descriptionCache)
+                .build();
+        if (outputDirectory != null) {
+            converter.toFolder(outputDirectory);
+        } else {
+            converter.toSink(new StreamingOutputSink(writer));
+        }
+        OutputFileWriter outputFileWriter = converter.getContext().getOutputFileWriter();
+        response.put(EVENT_FIELD, DONE_EVENT);
+        response.put(WRITTEN_FILES_FIELD, outputFileWriter.getWrittenFiles());
+        response.put(SKIPPED_FILES_FIELD, outputFileWriter.getSkippedFiles());
+        response.put(DURATION_FIELD, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private Path resolveOutputDirectory(String output) {
+        Validate.validState(outputRoot != null, "Writing output directories is disabled");
+        Path outputDirectory = outputRoot.resolve(output).normalize();
+        Validate.isTrue(outputDirectory.startsWith(outputRoot), "'%s' is outside of the output root", output);
+        return outputDirectory;
+    }
+
+    /**
+     * Writes the token to a new file, only readable and writable by its owner.
+     */
+    private static void writeTokenFile(Path tokenFile, String token) throws IOException {
+        Path parent = tokenFile.toAbsolutePath().getParent();
+        boolean posix = FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+        if (parent != null && !Files.isDirectory(parent)) {
+            if (posix)
+                Files.createDirectories(parent, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+            else
+                Files.createDirectories(parent);
+        }
+        Files.deleteIfExists(tokenFile);
+        if (posix) {
+            Files.createFile(tokenFile, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        } else {
+            Files.createFile(tokenFile);
+            File file = tokenFile.toFile();
+            if (!(file.setReadable(false, false) && file.setReadable(true, true) && file.setWritable(false, false) && file.setWritable(true, true)))
+                throw new IOException(String.format("Failed to restrict the permissions of token file '%s'", tokenFile));
+        }
+        Files.write(tokenFile, token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void sendError(Writer writer, Exception e) throws IOException {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Daemon request failed", e);
+        }
+        ObjectNode response = Json.mapper().createObjectNode();
+        response.put(EVENT_FIELD, ERROR_EVENT);
+        response.put(MESSAGE_FIELD, StringUtils.defaultString(e.getMessage(), e.getClass().getName()));
+        send(writer, response);
+    }
+
+    private static void send(Writer writer, ObjectNode response) throws IOException {
+        synchronized (writer) {
+            writer.write(Json.mapper().writeValueAsString(response));
+            writer.write('\n');
+            writer.flush();
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // ignore
+        }
+    }
+
+    /**
+     * Streams the documents back to the client as they are written.
+     */
+    private static class StreamingOutputSink implements OutputSink {
+
+        private final Writer writer;
+
+        StreamingOutputSink(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void write(String name, byte[] content) throws IOException {
+            ObjectNode event = Json.mapper().createObjectNode();
+            event.put(EVENT_FIELD, DOCUMENT_EVENT);
+            event.put(NAME_FIELD, name);
+            event.put(CONTENT_FIELD, Base64.getEncoder().encodeToString(content));
+            send(writer, event);
+        }
+    }
+
+    public static class Builder {
+        private InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+        private int threads = Runtime.getRuntime().availableProcessors();
+        private Path tokenFile;
+        private Path outputRoot;
+
+        Builder() {
+        }
+
+        /**
+         * Binds the daemon to the given address. Port 0 selects an ephemeral port.
+         * The token is sent in clear text : the daemon should only listen on the loopback address.
+         *
+         * @param address the daemon address
+         * @return this builder
+         */
+        public Builder withAddress(InetSocketAddress address) {
+            Validate.notNull(address, "address must not be null");
+            this.address = address;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of connections served concurrently, by default the number of available processors.
+         *
+         * @param threads the number of worker threads
+         * @return this builder
+         */
+        public Builder withThreads(int threads) {
+            Validate.isTrue(threads > 0, "threads must be greater than 0");
+            this.threads = threads;
+            return this;
+        }
+
+        /**
+         * Sets the file the token is written to, by default {@link #defaultTokenFile(int)}. An existing file is replaced.
+         *
+         * @param tokenFile the token file
+         * @return this builder
+         */
+        public Builder withTokenFile(Path tokenFile) {
+            Validate.notNull(tokenFile, "tokenFile must not be null");
+            this.tokenFile = tokenFile;
+            return this;
+        }
+
+        /**
+         * Allows conversion jobs to write output directories below {@code outputRoot}.
+         * By default the documents can only be streamed back to the client.
+         *
+         * @param outputRoot the output root directory
+         * @return this builder
+         */
+        public Builder withOutputRoot(Path outputRoot) {
+            Validate.notNull(outputRoot, "outputRoot must not be null");
+            this.outputRoot = outputRoot;
+            return this;
+        }
+
+        /**
+         * Creates the daemon, bound to its address but not started yet.
+         *
+         * @return the daemon
+         */
+        public Swagger2MarkupDaemon build() {
+            try {
+                return new Swagger2MarkupDaemon(this);
+            } catch (IOException e) {
+                throw new RuntimeException(String.format("Failed to start daemon on '%s'", address), e);
+            }
+        }
+    }
+}
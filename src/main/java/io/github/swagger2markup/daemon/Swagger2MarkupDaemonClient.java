@@ -0,0 +1,241 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.daemon;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.swagger2markup.spi.OutputSink;
+import io.swagger.util.Json;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static io.github.swagger2markup.daemon.Swagger2MarkupDaemon.*;
+
+/**
+ * Thin client submitting conversion jobs to a {@link Swagger2MarkupDaemon}.<br>
+ * A client holds one connection, its requests are executed sequentially. It is not thread-safe.
+ */
+public class Swagger2MarkupDaemonClient implements Closeable {
+
+    private final Socket socket;
+    private final BufferedReader reader;
+    private final Writer writer;
+    private final String token;
+
+    /**
+     * Connects to a daemon.
+     *
+     * @param address   the daemon address
+     * @param tokenFile the token file written by the daemon, see {@link Swagger2MarkupDaemon#getTokenFile()}
+     * @throws IOException if the token can't be read or the daemon can't be reached
+     */
+    public Swagger2MarkupDaemonClient(InetSocketAddress address, Path tokenFile) throws IOException {
+        Validate.notNull(address, "address must not be null");
+        Validate.notNull(tokenFile, "tokenFile must not be null");
+        this.token = new String(Files.readAllBytes(tokenFile), StandardCharsets.UTF_8).trim();
+        this.socket = new Socket(address.getAddress(), address.getPort());
+        this.reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        this.writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Converts a specification with a daemon listening on the loopback address.
+     *
+     * @param args the daemon port, the Swagger source path or URI, the output directory, then optional {@code property=value} configuration properties.
+     *             The token is read from {@link Swagger2MarkupDaemon#defaultTokenFile(int)}
+     * @throws IOException if the daemon can't be reached
+     */
+    public static void main(String[] args) throws IOException {
+        Validate.isTrue(args.length >= 3, "Usage: Swagger2MarkupDaemonClient <port> <swagger> <outputDirectory> [property=value ...]");
+        Map<String, String> properties = new TreeMap<>();
+        for (int i = 3; i < args.length; i++) {
+            properties.put(StringUtils.substringBefore(args[i], "="), StringUtils.substringAfter(args[i], "="));
+        }
+        int port = Integer.parseInt(args[0]);
+        try (Swagger2MarkupDaemonClient client = new Swagger2MarkupDaemonClient(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), port), Swagger2MarkupDaemon.defaultTokenFile(port))) {
+            Result result = client.convert(toSwaggerUri(args[1]), Paths.get(args[2]), properties);
+            System.out.println(String.format("Converted '%s' in %d ms : %d files written, %d unchanged",
+                    args[1], result.getDurationMillis(), result.getWrittenFiles(), result.getSkippedFiles()));
+        }
+    }
+
+    /**
+     * Checks that the daemon is responsive.
+     *
+     * @return true if the daemon answered
+     * @throws IOException if the daemon can't be reached
+     */
+    public boolean ping() throws IOException {
+        ObjectNode request = Json.mapper().createObjectNode();
+        request.put(COMMAND_FIELD, PING_COMMAND);
+        send(request);
+        return PONG_EVENT.equals(receive().path(EVENT_FIELD).asText());
+    }
+
+    /**
+     * Converts a specification into an output directory of the daemon host.
+     *
+     * @param swaggerUri      the URI of the Swagger source, resolved by the daemon
+     * @param outputDirectory the output directory, below the output root of the daemon
+     * @param properties      the configuration properties, prefixed with {@code swagger2markup.}
+     * @return the result of the conversion
+     * @throws IOException if the daemon can't be reached
+     */
+    public Result convert(URI swaggerUri, Path outputDirectory, Map<String, String> properties) throws IOException {
+        Validate.notNull(outputDirectory, "outputDirectory must not be null");
+        ObjectNode request = convertRequest(swaggerUri, properties);
+        request.put(OUTPUT_FIELD, outputDirectory.toAbsolutePath().toString());
+        return execute(swaggerUri, request, null);
+    }
+
+    /**
+     * Converts a specification, writing the documents streamed back by the daemon into {@code outputSink}. The sink is not closed.
+     *
+     * @param swaggerUri the URI of the Swagger source, resolved by the daemon
+     * @param properties the configuration properties, prefixed with {@code swagger2markup.}
+     * @param outputSink the output sink
+     * @return the result of the conversion
+     * @throws IOException if the daemon can't be reached, or if a document can't be written
+     */
+    public Result convert(URI swaggerUri, Map<String, String> properties, OutputSink outputSink) throws IOException {
+        Validate.notNull(outputSink, "outputSink must not be null");
+        return execute(swaggerUri, convertRequest(swaggerUri, properties), outputSink);
+    }
+
+    /**
+     * Stops the daemon.
+     *
+     * @throws IOException if the daemon can't be reached
+     */
+    public void shutdown() throws IOException {
+        ObjectNode request = Json.mapper().createObjectNode();
+        request.put(COMMAND_FIELD, SHUTDOWN_COMMAND);
+        send(request);
+        receive();
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+
+    /**
+     * Converts a Swagger source given as a path or as a URI to an absolute URI.
+     *
+     * @param swagger a path or a URI
+     * @return the URI
+     */
+    public static URI toSwaggerUri(String swagger) {
+        if (swagger.matches("[a-zA-Z][a-zA-Z0-9+.-]+:.*"))
+            return URI.create(swagger);
+        return Paths.get(swagger).toAbsolutePath().toUri();
+    }
+
+    private ObjectNode convertRequest(URI swaggerUri, Map<String, String> properties) {
+        Validate.notNull(swaggerUri, "swaggerUri must not be null");
+        ObjectNode request = Json.mapper().createObjectNode();
+        request.put(COMMAND_FIELD, CONVERT_COMMAND);
+        request.put(SWAGGER_FIELD, swaggerUri.toString());
+        ObjectNode propertiesNode = request.putObject(PROPERTIES_FIELD);
+        (properties != null ? properties : Collections.<String, String>emptyMap()).forEach(propertiesNode::put);
+        return request;
+    }
+
+    private Result execute(URI swaggerUri, ObjectNode request, OutputSink outputSink) throws IOException {
+        send(request);
+        while (true) {
+            JsonNode event = receive();
+            switch (event.path(EVENT_FIELD).asText()) {
+                case DOCUMENT_EVENT:
+                    if (outputSink != null)
+                        outputSink.write(event.path(NAME_FIELD).asText(), Base64.getDecoder().decode(event.path(CONTENT_FIELD).asText()));
+                    break;
+                case DONE_EVENT:
+                    return new Result(event.path(WRITTEN_FILES_FIELD).asInt(), event.path(SKIPPED_FILES_FIELD).asInt(),
+                            event.path(DURATION_FIELD).asLong());
+                case ERROR_EVENT:
+                    throw new RuntimeException(String.format("Failed to convert '%s' : %s", swaggerUri, event.path(MESSAGE_FIELD).asText()));
+                default:
+                    throw new IOException(String.format("Unexpected daemon response '%s'", event));
+            }
+        }
+    }
+
+    private void send(ObjectNode request) throws IOException {
+        request.put(TOKEN_FIELD, token);
+        writer.write(Json.mapper().writeValueAsString(request));
+        writer.write('\n');
+        writer.flush();
+    }
+
+    private JsonNode receive() throws IOException {
+        String line = reader.readLine();
+        if (line == null)
+            throw new EOFException("Daemon closed the connection");
+        return Json.mapper().readTree(line);
+    }
+
+    /**
+     * Result of a conversion job.
+     */
+    public static class Result {
+        private final int writtenFiles;
+        private final int skippedFiles;
+        private final long durationMillis;
+
+        Result(int writtenFiles, int skippedFiles, long durationMillis) {
+            this.writtenFiles = writtenFiles;
+            this.skippedFiles = skippedFiles;
+            this.durationMillis = durationMillis;
+        }
+
+        public int getWrittenFiles() {
+            return writtenFiles;
+        }
+
+        public int getSkippedFiles() {
+            return skippedFiles;
+        }
+
+        /**
+         * @return the duration of the conversion measured by the daemon
+         */
+        public long getDurationMillis() {
+            return durationMillis;
+        }
+    }
+}
@@ -54,6 +54,7 @@ public class ParameterAdapter {
 
     private final Parameter parameter;
     private final List<ObjectType> inlineDefinitions = new ArrayList<>();
+    private final Swagger2MarkupConverter.Context context;
     private final Swagger2MarkupConfig config;
     private Type type;
 
@@ -63,6 +64,7 @@ public class ParameterAdapter {
                             DocumentResolver definitionDocumentResolver) {
         Validate.notNull(parameter, "parameter must not be null");
         this.parameter = parameter;
+        this.context = context;
         type = getType(context.getSwagger().getDefinitions(), definitionDocumentResolver);
         config = context.getConfig();
         if (config.isInlineSchemaEnabled()) {
@@ -119,7 +121,7 @@ public class ParameterAdapter {
     }
 
     public String displayDescription(MarkupDocBuilder markupDocBuilder) {
-        return markupDescription(config.getSwaggerMarkupLanguage(), markupDocBuilder, getDescription());
+        return markupDescription(context, markupDocBuilder, getDescription());
     }
 
     public String displayType(MarkupDocBuilder markupDocBuilder) {
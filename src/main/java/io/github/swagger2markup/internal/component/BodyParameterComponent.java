@@ -74,7 +74,7 @@ public class BodyParameterComponent extends MarkupComponent<BodyParameterCompone
                         buildSectionTitle(markupDocBuilder, labels.getLabel(BODY_PARAMETER));
                         String description = parameter.getDescription();
                         if (isNotBlank(description)) {
-                            markupDocBuilder.paragraph(markupDescription(config.getSwaggerMarkupLanguage(), markupDocBuilder, description));
+                            markupDocBuilder.paragraph(markupDescription(context, markupDocBuilder, description));
                         }
 
                         MarkupDocBuilder typeInfos = copyMarkupDocBuilder(markupDocBuilder);
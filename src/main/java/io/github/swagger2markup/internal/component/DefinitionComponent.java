@@ -27,11 +27,9 @@ import io.github.swagger2markup.spi.DefinitionsDocumentExtension;
 import io.github.swagger2markup.spi.MarkupComponent;
 import io.swagger.models.Model;
 import io.swagger.models.properties.Property;
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.Validate;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -56,6 +54,7 @@ public class DefinitionComponent extends MarkupComponent<DefinitionComponent.Par
     private final Map<ObjectTypePolymorphism.Nature, String> POLYMORPHISM_NATURE;
     private final DocumentResolver definitionsDocumentResolver;
     private PropertiesTableComponent propertiesTableComponent;
+    private InlineDefinitionsComponent inlineDefinitionsComponent;
 
     public DefinitionComponent(Swagger2MarkupConverter.Context context,
                                DocumentResolver definitionsDocumentResolver) {
@@ -67,6 +66,7 @@ public class DefinitionComponent extends MarkupComponent<DefinitionComponent.Par
             put(ObjectTypePolymorphism.Nature.INHERITANCE, labels.getLabel(POLYMORPHISM_NATURE_INHERITANCE));
         }};
         propertiesTableComponent = new PropertiesTableComponent(context, definitionsDocumentResolver);
+        inlineDefinitionsComponent = new InlineDefinitionsComponent(context, definitionsDocumentResolver);
     }
 
     public static DefinitionComponent.Parameters parameters(String definitionName,
@@ -86,9 +86,9 @@ public class DefinitionComponent extends MarkupComponent<DefinitionComponent.Par
         applyDefinitionsDocumentExtension(new DefinitionsDocumentExtension.Context(Position.DEFINITION_BEGIN, markupDocBuilder, definitionName, model));
         String description = model.getDescription();
         if (isNotBlank(description)) {
-            markupDocBuilder.paragraph(markupDescription(config.getSwaggerMarkupLanguage(), markupDocBuilder, description));
+            markupDocBuilder.paragraph(markupDescription(context, markupDocBuilder, description));
         }
-        inlineDefinitions(markupDocBuilder, typeSection(markupDocBuilder, definitionName, model), definitionName);
+        inlineDefinitionsComponent.apply(markupDocBuilder, InlineDefinitionsComponent.parameters(typeSection(markupDocBuilder, definitionName, model), definitionName));
         applyDefinitionsDocumentExtension(new DefinitionsDocumentExtension.Context(Position.DEFINITION_END, markupDocBuilder, definitionName, model));
         applyDefinitionsDocumentExtension(new DefinitionsDocumentExtension.Context(Position.DEFINITION_AFTER, markupDocBuilder, definitionName, model));
 
@@ -109,40 +109,6 @@ public class DefinitionComponent extends MarkupComponent<DefinitionComponent.Par
         }
     }
 
-    /**
-     * Builds the title of an inline schema.
-     * Inline definitions should never been referenced in TOC because they have no real existence, so they are just text.
-     *
-     * @param title      inline schema title
-     * @param anchor     inline schema anchor
-     * @param docBuilder the docbuilder do use for output
-     */
-    private void addInlineDefinitionTitle(String title, String anchor, MarkupDocBuilder docBuilder) {
-        docBuilder.anchor(anchor, null);
-        docBuilder.newLine();
-        docBuilder.boldTextLine(title);
-    }
-
-    /**
-     * Builds inline schema definitions
-     *
-     * @param markupDocBuilder the docbuilder do use for output
-     * @param definitions      all inline definitions to display
-     * @param uniquePrefix     unique prefix to prepend to inline object names to enforce unicity
-     */
-    private void inlineDefinitions(MarkupDocBuilder markupDocBuilder, List<ObjectType> definitions, String uniquePrefix) {
-        if (CollectionUtils.isNotEmpty(definitions)) {
-            for (ObjectType definition : definitions) {
-                addInlineDefinitionTitle(definition.getName(), definition.getUniqueName(), markupDocBuilder);
-
-                List<ObjectType> localDefinitions = new ArrayList<>();
-                propertiesTableComponent.apply(markupDocBuilder, new PropertiesTableComponent.Parameters(definition.getProperties(), uniquePrefix, localDefinitions));
-                for (ObjectType localDefinition : localDefinitions)
-                    inlineDefinitions(markupDocBuilder, Collections.singletonList(localDefinition), localDefinition.getUniqueName());
-            }
-        }
-    }
-
     /**
      * Builds the type informations of a definition
      *
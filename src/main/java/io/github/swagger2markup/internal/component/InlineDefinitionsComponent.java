@@ -0,0 +1,163 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.component;
+
+import io.github.swagger2markup.Swagger2MarkupConverter;
+import io.github.swagger2markup.internal.resolver.DocumentResolver;
+import io.github.swagger2markup.internal.type.ObjectType;
+import io.github.swagger2markup.internal.type.RefType;
+import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
+import io.github.swagger2markup.spi.MarkupComponent;
+import org.apache.commons.lang3.Validate;
+
+import java.util.*;
+
+import static io.github.swagger2markup.Labels.TYPE_COLUMN;
+import static io.github.swagger2markup.internal.utils.MarkupDocBuilderUtils.copyMarkupDocBuilder;
+
+public class InlineDefinitionsComponent extends MarkupComponent<InlineDefinitionsComponent.Parameters> {
+
+    private final PropertiesTableComponent propertiesTableComponent;
+
+    /**
+     * Build the inline schema definitions of a definition or an operation
+     *
+     * @param definitionDocumentResolver definition document resolver to apply to property type cross-reference
+     */
+    public InlineDefinitionsComponent(Swagger2MarkupConverter.Context context,
+                                      DocumentResolver definitionDocumentResolver) {
+        super(context);
+        this.propertiesTableComponent = new PropertiesTableComponent(context, definitionDocumentResolver);
+    }
+
+    public static InlineDefinitionsComponent.Parameters parameters(List<ObjectType> definitions,
+                                                                   String uniquePrefix) {
+        return new InlineDefinitionsComponent.Parameters(definitions, uniquePrefix);
+    }
+
+    /**
+     * Builds the inline schema definitions, followed by the inline schema definitions they contain, depth first.<br>
+     * Pending definitions are kept in a worklist instead of the call stack, an inline schema is expanded only once per call (identified by its unique name),
+     * and inline schemas nested deeper than {@link io.github.swagger2markup.Swagger2MarkupConfig#getInlineSchemaDepthLimit()} are rendered without their properties.
+     */
+    @Override
+    public MarkupDocBuilder apply(MarkupDocBuilder markupDocBuilder, Parameters params) {
+        int depthLimit = config.getInlineSchemaDepthLimit();
+        Set<String> expandedDefinitions = new HashSet<>();
+        Deque<InlineDefinition> worklist = new ArrayDeque<>();
+        pushDefinitions(worklist, params.definitions, params.uniquePrefix, 1);
+
+        while (!worklist.isEmpty()) {
+            InlineDefinition inlineDefinition = worklist.pop();
+            ObjectType definition = inlineDefinition.definition;
+            if (!expandedDefinitions.add(definition.getUniqueName()))
+                continue;
+
+            addInlineDefinitionTitle(markupDocBuilder, definition.getName(), definition.getUniqueName());
+
+            if (depthLimit > 0 && inlineDefinition.depth > depthLimit) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Inline schema '{}' not expanded : depth limit {} reached", definition.getUniqueName(), depthLimit);
+                }
+                continue;
+            }
+
+            ObjectType sameDefinition = config.isInlineSchemaDeduplicationEnabled() ? context.getInlineSchemaRegistry().register(definition) : null;
+            if (sameDefinition != null) {
+                inlineDefinitionRef(markupDocBuilder, sameDefinition);
+                continue;
+            }
+
+            List<ObjectType> localDefinitions = new ArrayList<>();
+            propertiesTableComponent.apply(markupDocBuilder, PropertiesTableComponent.parameters(
+                    definition.getProperties(),
+                    inlineDefinition.uniquePrefix,
+                    localDefinitions
+            ));
+            pushDefinitions(worklist, localDefinitions, null, inlineDefinition.depth + 1);
+        }
+
+        return markupDocBuilder;
+    }
+
+    /**
+     * Pushes definitions on the worklist, so that they are popped in their original order.
+     *
+     * @param worklist     the worklist
+     * @param definitions  definitions to push
+     * @param uniquePrefix unique prefix of the definitions, or null to use the unique name of each definition
+     * @param depth        nesting depth of the definitions
+     */
+    private void pushDefinitions(Deque<InlineDefinition> worklist, List<ObjectType> definitions, String uniquePrefix, int depth) {
+        for (ListIterator<ObjectType> definitionsIterator = definitions.listIterator(definitions.size()); definitionsIterator.hasPrevious(); ) {
+            ObjectType definition = definitionsIterator.previous();
+            worklist.push(new InlineDefinition(definition, uniquePrefix != null ? uniquePrefix : definition.getUniqueName(), depth));
+        }
+    }
+
+    /**
+     * Builds the title of an inline schema.
+     * Inline definitions should never been referenced in TOC because they have no real existence, so they are just text.
+     *
+     * @param markupDocBuilder the docbuilder do use for output
+     * @param title            inline schema title
+     * @param anchor           inline schema anchor
+     */
+    private void addInlineDefinitionTitle(MarkupDocBuilder markupDocBuilder, String title, String anchor) {
+        markupDocBuilder.anchor(anchor, null);
+        markupDocBuilder.newLine();
+        markupDocBuilder.boldTextLine(title);
+    }
+
+    /**
+     * Builds the reference to a structurally identical inline schema already rendered in the document.
+     *
+     * @param markupDocBuilder the docbuilder do use for output
+     * @param definition       the inline schema already rendered
+     */
+    private void inlineDefinitionRef(MarkupDocBuilder markupDocBuilder, ObjectType definition) {
+        MarkupDocBuilder typeInfos = copyMarkupDocBuilder(markupDocBuilder);
+        typeInfos.italicText(labels.getLabel(TYPE_COLUMN)).textLine(COLON + new RefType(definition).displaySchema(markupDocBuilder));
+
+        markupDocBuilder.paragraph(typeInfos.toString());
+    }
+
+    /**
+     * Pending inline definition of the worklist.
+     */
+    private static class InlineDefinition {
+        private final ObjectType definition;
+        private final String uniquePrefix;
+        private final int depth;
+
+        InlineDefinition(ObjectType definition, String uniquePrefix, int depth) {
+            this.definition = definition;
+            this.uniquePrefix = uniquePrefix;
+            this.depth = depth;
+        }
+    }
+
+    public static class Parameters {
+        private final List<ObjectType> definitions;
+        private final String uniquePrefix;
+
+        public Parameters(List<ObjectType> definitions,
+                          String uniquePrefix) {
+            this.definitions = Validate.notNull(definitions, "Definitions must not be null");
+            this.uniquePrefix = Validate.notBlank(uniquePrefix, "UniquePrefix must not be blank");
+        }
+    }
+}
@@ -16,7 +16,6 @@
 package io.github.swagger2markup.internal.component;
 
 
-import ch.netzwerg.paleo.StringColumn;
 import io.github.swagger2markup.Swagger2MarkupConverter;
 import io.github.swagger2markup.internal.adapter.ParameterAdapter;
 import io.github.swagger2markup.internal.resolver.DocumentResolver;
@@ -33,7 +32,6 @@ import org.apache.commons.lang3.Validate;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import static ch.netzwerg.paleo.ColumnIds.StringColumnId;
 import static io.github.swagger2markup.Labels.*;
 import static io.github.swagger2markup.internal.utils.MarkupDocBuilderUtils.copyMarkupDocBuilder;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
@@ -73,19 +71,12 @@ public class ParameterTableComponent extends MarkupComponent<ParameterTableCompo
         MarkupDocBuilder parametersBuilder = copyMarkupDocBuilder(markupDocBuilder);
         applyPathsDocumentExtension(new PathsDocumentExtension.Context(PathsDocumentExtension.Position.OPERATION_PARAMETERS_BEGIN, parametersBuilder, operation));
         if (CollectionUtils.isNotEmpty(filteredParameters)) {
-            StringColumn.Builder typeColumnBuilder = StringColumn.builder(StringColumnId.of(labels.getLabel(TYPE_COLUMN)))
-                    .putMetaData(TableComponent.WIDTH_RATIO, "2");
-            StringColumn.Builder nameColumnBuilder = StringColumn.builder(StringColumnId.of(labels.getLabel(NAME_COLUMN)))
-                    .putMetaData(TableComponent.WIDTH_RATIO, "3");
-            StringColumn.Builder descriptionColumnBuilder = StringColumn.builder(StringColumnId.of(labels.getLabel(DESCRIPTION_COLUMN)))
-                    .putMetaData(TableComponent.WIDTH_RATIO, "9")
-                    .putMetaData(TableComponent.HEADER_COLUMN, "true");
-            StringColumn.Builder schemaColumnBuilder = StringColumn.builder(StringColumnId.of(labels.getLabel(SCHEMA_COLUMN)))
-                    .putMetaData(TableComponent.WIDTH_RATIO, "4")
-                    .putMetaData(TableComponent.HEADER_COLUMN, "true");
-            StringColumn.Builder defaultColumnBuilder = StringColumn.builder(StringColumnId.of(labels.getLabel(DEFAULT_COLUMN)))
-                    .putMetaData(TableComponent.WIDTH_RATIO, "2")
-                    .putMetaData(TableComponent.HEADER_COLUMN, "true");
+            TableComponent.Builder tableBuilder = TableComponent.builder(filteredParameters.size())
+                    .column(labels.getLabel(TYPE_COLUMN), 2, false)
+                    .column(labels.getLabel(NAME_COLUMN), 3, false)
+                    .column(labels.getLabel(DESCRIPTION_COLUMN), 9, true)
+                    .column(labels.getLabel(SCHEMA_COLUMN), 4, true)
+                    .column(labels.getLabel(DEFAULT_COLUMN), 2, true);
 
             for (Parameter parameter : filteredParameters) {
                 ParameterAdapter parameterAdapter = new ParameterAdapter(context,
@@ -93,19 +84,15 @@ public class ParameterTableComponent extends MarkupComponent<ParameterTableCompo
 
                 inlineDefinitions.addAll(parameterAdapter.getInlineDefinitions());
 
-                typeColumnBuilder.add(parameterAdapter.displayType(markupDocBuilder));
-                nameColumnBuilder.add(getParameterNameColumnContent(markupDocBuilder, parameterAdapter));
-                descriptionColumnBuilder.add(buildDescriptionForParameter(markupDocBuilder, parameterAdapter));
-                schemaColumnBuilder.add(parameterAdapter.displaySchema(markupDocBuilder));
-                defaultColumnBuilder.add(parameterAdapter.displayDefaultValue(markupDocBuilder));
+                tableBuilder.row(
+                        parameterAdapter.displayType(markupDocBuilder),
+                        getParameterNameColumnContent(markupDocBuilder, parameterAdapter),
+                        buildDescriptionForParameter(markupDocBuilder, parameterAdapter),
+                        parameterAdapter.displaySchema(markupDocBuilder),
+                        parameterAdapter.displayDefaultValue(markupDocBuilder));
             }
 
-            parametersBuilder = tableComponent.apply(parametersBuilder, TableComponent.parameters(
-                    typeColumnBuilder.build(),
-                    nameColumnBuilder.build(),
-                    descriptionColumnBuilder.build(),
-                    schemaColumnBuilder.build(),
-                    defaultColumnBuilder.build()));
+            parametersBuilder = tableComponent.apply(parametersBuilder, tableBuilder.build());
         }
         applyPathsDocumentExtension(new PathsDocumentExtension.Context(PathsDocumentExtension.Position.OPERATION_PARAMETERS_END, parametersBuilder, operation));
         String parametersContent = parametersBuilder.toString();
@@ -24,11 +24,13 @@ import io.github.swagger2markup.PageBreakLocations;
 import io.github.swagger2markup.Swagger2MarkupConverter;
 import io.github.swagger2markup.internal.resolver.DocumentResolver;
 import io.github.swagger2markup.internal.type.ObjectType;
+import io.github.swagger2markup.internal.utils.ConversionEvents;
 import io.github.swagger2markup.internal.utils.ExamplesUtil;
 import io.github.swagger2markup.markup.builder.MarkupAdmonition;
 import io.github.swagger2markup.markup.builder.MarkupBlockStyle;
 import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
 import io.github.swagger2markup.model.PathOperation;
+import io.github.swagger2markup.spi.ConversionListener.Phase;
 import io.github.swagger2markup.spi.MarkupComponent;
 import io.github.swagger2markup.spi.PathsDocumentExtension;
 import io.swagger.models.Model;
@@ -53,7 +55,7 @@ public class PathOperationComponent extends MarkupComponent<PathOperationCompone
 
     private final DocumentResolver definitionDocumentResolver;
     private final Map<String, Model> definitions;
-    private final PropertiesTableComponent propertiesTableComponent;
+    private final InlineDefinitionsComponent inlineDefinitionsComponent;
     private final ParameterTableComponent parameterTableComponent;
     private final ConsumesComponent consumesComponent;
     private final ProducesComponent producesComponent;
@@ -67,7 +69,7 @@ public class PathOperationComponent extends MarkupComponent<PathOperationCompone
         super(context);
         this.definitions = context.getSwagger().getDefinitions();
         this.definitionDocumentResolver = Validate.notNull(definitionDocumentResolver, "DocumentResolver must not be null");
-        this.propertiesTableComponent = new PropertiesTableComponent(context, definitionDocumentResolver);
+        this.inlineDefinitionsComponent = new InlineDefinitionsComponent(context, definitionDocumentResolver);
         this.parameterTableComponent = new ParameterTableComponent(context, definitionDocumentResolver);
         this.consumesComponent = new ConsumesComponent(context);
         this.producesComponent = new ProducesComponent(context);
@@ -98,13 +100,13 @@ public class PathOperationComponent extends MarkupComponent<PathOperationCompone
         if (locations.contains(AFTER_OPERATION_DESCRIPTION)) markupDocBuilder.pageBreak();
 
         if (locations.contains(BEFORE_OPERATION_PARAMETERS)) markupDocBuilder.pageBreak();
-        inlineDefinitions(markupDocBuilder, buildParametersSection(markupDocBuilder, operation), operation.getPath() + " " + operation.getMethod());
+        inlineDefinitionsComponent.apply(markupDocBuilder, InlineDefinitionsComponent.parameters(buildParametersSection(markupDocBuilder, operation), operation.getPath() + " " + operation.getMethod()));
         if (locations.contains(AFTER_OPERATION_PARAMETERS)) markupDocBuilder.pageBreak();
 
-        inlineDefinitions(markupDocBuilder, buildBodyParameterSection(markupDocBuilder, operation), operation.getPath() + " " + operation.getMethod());
+        inlineDefinitionsComponent.apply(markupDocBuilder, InlineDefinitionsComponent.parameters(buildBodyParameterSection(markupDocBuilder, operation), operation.getPath() + " " + operation.getMethod()));
 
         if (locations.contains(BEFORE_OPERATION_RESPONSES)) markupDocBuilder.pageBreak();
-        inlineDefinitions(markupDocBuilder, buildResponsesSection(markupDocBuilder, operation), operation.getPath() + " " + operation.getMethod());
+        inlineDefinitionsComponent.apply(markupDocBuilder, InlineDefinitionsComponent.parameters(buildResponsesSection(markupDocBuilder, operation), operation.getPath() + " " + operation.getMethod()));
         if (locations.contains(AFTER_OPERATION_RESPONSES)) markupDocBuilder.pageBreak();
 
         if (locations.contains(BEFORE_OPERATION_CONSUMES)) markupDocBuilder.pageBreak();
@@ -174,7 +176,7 @@ public class PathOperationComponent extends MarkupComponent<PathOperationCompone
         applyPathsDocumentExtension(new PathsDocumentExtension.Context(Position.OPERATION_DESCRIPTION_BEGIN, descriptionBuilder, operation));
         String description = operation.getOperation().getDescription();
         if (isNotBlank(description)) {
-            descriptionBuilder.paragraph(markupDescription(config.getSwaggerMarkupLanguage(), markupDocBuilder, description));
+            descriptionBuilder.paragraph(markupDescription(context, markupDocBuilder, description));
         }
         applyPathsDocumentExtension(new PathsDocumentExtension.Context(Position.OPERATION_DESCRIPTION_END, descriptionBuilder, operation));
         String descriptionContent = descriptionBuilder.toString();
@@ -247,44 +249,6 @@ public class PathOperationComponent extends MarkupComponent<PathOperationCompone
         }
     }
 
-    /**
-     * Builds the title of an inline schema.
-     * Inline definitions should never been referenced in TOC because they have no real existence, so they are just text.
-     *
-     * @param title  inline schema title
-     * @param anchor inline schema anchor
-     */
-    private void addInlineDefinitionTitle(MarkupDocBuilder markupDocBuilder, String title, String anchor) {
-        markupDocBuilder.anchor(anchor);
-        markupDocBuilder.newLine();
-        markupDocBuilder.boldTextLine(title);
-    }
-
-    /**
-     * Builds inline schema definitions
-     *
-     * @param markupDocBuilder the docbuilder do use for output
-     * @param definitions      all inline definitions to display
-     * @param uniquePrefix     unique prefix to prepend to inline object names to enforce unicity
-     */
-    private void inlineDefinitions(MarkupDocBuilder markupDocBuilder, List<ObjectType> definitions, String uniquePrefix) {
-        if (CollectionUtils.isNotEmpty(definitions)) {
-            for (ObjectType definition : definitions) {
-                addInlineDefinitionTitle(markupDocBuilder, definition.getName(), definition.getUniqueName());
-
-                List<ObjectType> localDefinitions = new ArrayList<>();
-                propertiesTableComponent.apply(markupDocBuilder, PropertiesTableComponent.parameters(
-                        definition.getProperties(),
-                        uniquePrefix,
-                        localDefinitions
-                ));
-                for (ObjectType localDefinition : localDefinitions)
-                    inlineDefinitions(markupDocBuilder, Collections.singletonList(localDefinition), localDefinition.getUniqueName());
-            }
-        }
-
-    }
-
     private void buildConsumesSection(MarkupDocBuilder markupDocBuilder, PathOperation operation) {
         List<String> consumes = operation.getOperation().getConsumes();
         if (CollectionUtils.isNotEmpty(consumes)) {
@@ -346,9 +310,11 @@ public class PathOperationComponent extends MarkupComponent<PathOperationCompone
      * @param operation the Swagger Operation
      */
     private void buildExamplesSection(MarkupDocBuilder markupDocBuilder, PathOperation operation, List<PageBreakLocations> locations) {
-
+        ConversionEvents events = context.getConversionEvents();
+        long examplesStart = events.start(Phase.EXAMPLE_GENERATION, operation.getId());
         Map<String, Object> generatedRequestExampleMap = ExamplesUtil.generateRequestExampleMap(config.isGeneratedExamplesEnabled(), operation, definitions, definitionDocumentResolver, markupDocBuilder);
         Map<String, Object> generatedResponseExampleMap = ExamplesUtil.generateResponseExampleMap(config.isGeneratedExamplesEnabled(), operation, definitions, definitionDocumentResolver, markupDocBuilder);
+        events.end(Phase.EXAMPLE_GENERATION, operation.getId(), examplesStart);
 
         boolean beforeExampleRequestBreak = locations.contains(BEFORE_OPERATION_EXAMPLE_REQUEST);
         boolean afterExampleRequestBreak = locations.contains(AFTER_OPERATION_EXAMPLE_REQUEST);
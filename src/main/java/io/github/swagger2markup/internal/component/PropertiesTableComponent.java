@@ -15,15 +15,18 @@
  */
 package io.github.swagger2markup.internal.component;
 
-import ch.netzwerg.paleo.ColumnIds;
-import ch.netzwerg.paleo.StringColumn;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.github.swagger2markup.Swagger2MarkupConverter;
 import io.github.swagger2markup.internal.adapter.PropertyAdapter;
 import io.github.swagger2markup.internal.resolver.DocumentResolver;
 import io.github.swagger2markup.internal.type.ObjectType;
 import io.github.swagger2markup.internal.type.RefType;
 import io.github.swagger2markup.internal.type.Type;
+import io.github.swagger2markup.internal.utils.FragmentCache;
 import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
+import io.github.swagger2markup.spi.ConversionListener.Counter;
 import io.github.swagger2markup.spi.MarkupComponent;
 import io.swagger.models.properties.Property;
 import io.swagger.util.Json;
@@ -33,12 +36,14 @@ import org.apache.commons.lang3.Validate;
 import java.math.BigDecimal;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import static io.github.swagger2markup.Labels.*;
 import static io.github.swagger2markup.internal.utils.InlineSchemaUtils.createInlineType;
+import static io.github.swagger2markup.internal.utils.InlineSchemaUtils.structuralSignature;
 import static io.github.swagger2markup.internal.utils.MapUtils.toSortedMap;
 import static io.github.swagger2markup.internal.utils.MarkupDocBuilderUtils.copyMarkupDocBuilder;
 import static io.github.swagger2markup.internal.utils.MarkupDocBuilderUtils.markupDescription;
@@ -47,9 +52,15 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 public class PropertiesTableComponent extends MarkupComponent<PropertiesTableComponent.Parameters> {
 
+    /* Jackson writers are immutable and thread-safe, a single pretty printer is shared by all components */
+    private static final ObjectWriter JSON_WRITER = Json.mapper().writer(new DefaultPrettyPrinter());
 
     private final DocumentResolver definitionDocumentResolver;
     private final TableComponent tableComponent;
+    private final DecimalFormat numberFormatter;
+    private final String requiredFlag;
+    private final String optionalFlag;
+    private final String readOnlyFlag;
 
     /**
      * Build a generic property table
@@ -61,6 +72,11 @@ public class PropertiesTableComponent extends MarkupComponent<PropertiesTableCom
         super(context);
         this.definitionDocumentResolver = definitionDocumentResolver;
         this.tableComponent = new TableComponent(context);
+        this.numberFormatter = new DecimalFormat("#.##",
+          DecimalFormatSymbols.getInstance(config.getOutputLanguage().toLocale()));
+        this.requiredFlag = labels.getLabel(FLAGS_REQUIRED).toLowerCase();
+        this.optionalFlag = labels.getLabel(FLAGS_OPTIONAL).toLowerCase();
+        this.readOnlyFlag = labels.getLabel(FLAGS_READ_ONLY).toLowerCase();
     }
 
     public static PropertiesTableComponent.Parameters parameters(Map<String, Property> properties,
@@ -69,20 +85,42 @@ public class PropertiesTableComponent extends MarkupComponent<PropertiesTableCom
         return new PropertiesTableComponent.Parameters(properties, parameterName, inlineDefinitions);
     }
 
+    /**
+     * Renders the properties table, or emits it from the fragment cache of the context when structurally identical properties have already been rendered.<br>
+     * A table which does not produce any inline definition does not depend on {@code parameterName} and is shared by all the parameter names.
+     */
     public MarkupDocBuilder apply(MarkupDocBuilder markupDocBuilder, Parameters params) {
-        //TODO: This method is too complex, split it up in smaller methods to increase readability
-        StringColumn.Builder nameColumnBuilder = StringColumn.builder(ColumnIds.StringColumnId.of(labels.getLabel(NAME_COLUMN)))
-          .putMetaData(TableComponent.WIDTH_RATIO, "3");
+        FragmentCache fragmentCache = context.getFragmentCache();
+        String signature = MapUtils.isNotEmpty(params.properties) ? structuralSignature(params.properties) : "";
+        FragmentCache.Fragment fragment = fragmentCache.get(fragmentKey(signature, null));
+        if (fragment == null)
+            fragment = fragmentCache.get(fragmentKey(signature, params.parameterName));
+
+        if (fragment == null) {
+            List<ObjectType> inlineDefinitions = new ArrayList<>();
+            MarkupDocBuilder tableContent = copyMarkupDocBuilder(markupDocBuilder);
+            renderTable(tableContent, params.properties, params.parameterName, inlineDefinitions);
+            fragment = new FragmentCache.Fragment(tableContent.toString(), inlineDefinitions);
+            fragmentCache.put(fragmentKey(signature, inlineDefinitions.isEmpty() ? null : params.parameterName), fragment);
+        } else {
+            context.getConversionEvents().count(Counter.FRAGMENT_CACHE_HITS, 1);
+        }
 
-        StringColumn.Builder descriptionColumnBuilder = StringColumn.builder(ColumnIds.StringColumnId.of(labels.getLabel(DESCRIPTION_COLUMN)))
-          .putMetaData(TableComponent.WIDTH_RATIO, "11")
-          .putMetaData(TableComponent.HEADER_COLUMN, "true");
+        params.inlineDefinitions.addAll(fragment.getInlineDefinitions());
+        return markupDocBuilder.text(fragment.getContent());
+    }
 
-        StringColumn.Builder schemaColumnBuilder = StringColumn.builder(ColumnIds.StringColumnId.of(labels.getLabel(SCHEMA_COLUMN)))
-          .putMetaData(TableComponent.WIDTH_RATIO, "4")
-          .putMetaData(TableComponent.HEADER_COLUMN, "true");
+    private FragmentCache.Key fragmentKey(String signature, String scope) {
+        return new FragmentCache.Key(signature, definitionDocumentResolver.getClass(), scope,
+                config.getMarkupLanguage(), 0, config.getAnchorPrefix());
+    }
+
+    private void renderTable(MarkupDocBuilder markupDocBuilder, Map<String, Property> properties, String parameterName, List<ObjectType> inlineDefinitions) {
+        TableComponent.Builder tableBuilder = TableComponent.builder(properties.size())
+          .column(labels.getLabel(NAME_COLUMN), 3, false)
+          .column(labels.getLabel(DESCRIPTION_COLUMN), 11, true)
+          .column(labels.getLabel(SCHEMA_COLUMN), 4, true);
 
-        Map<String, Property> properties = params.properties;
         if (MapUtils.isNotEmpty(properties)) {
             Map<String, Property> sortedProperties = toSortedMap(properties, config.getPropertyOrdering());
             sortedProperties.forEach((String propertyName, Property property) -> {
@@ -90,123 +128,130 @@ public class PropertiesTableComponent extends MarkupComponent<PropertiesTableCom
                 Type propertyType = propertyAdapter.getType(definitionDocumentResolver);
 
                 if (config.isInlineSchemaEnabled()) {
-                    propertyType = createInlineType(propertyType, propertyName, params.parameterName + " " + propertyName, params.inlineDefinitions);
+                    propertyType = createInlineType(propertyType, propertyName, parameterName + " " + propertyName, inlineDefinitions);
                 }
 
-                Optional<Object> optionalExample = propertyAdapter.getExample(config.isGeneratedExamplesEnabled(), markupDocBuilder);
-                Optional<Object> optionalDefaultValue = propertyAdapter.getDefaultValue();
-                Optional<Integer> optionalMaxLength = propertyAdapter.getMaxlength();
-                Optional<Integer> optionalMinLength = propertyAdapter.getMinlength();
-                Optional<String> optionalPattern = propertyAdapter.getPattern();
-
-                Optional<BigDecimal> optionalMinValue = propertyAdapter.getMin();
-                boolean exclusiveMin = propertyAdapter.getExclusiveMin();
-                Optional<BigDecimal> optionalMaxValue = propertyAdapter.getMax();
-                boolean exclusiveMax = propertyAdapter.getExclusiveMax();
-
-                MarkupDocBuilder propertyNameContent = copyMarkupDocBuilder(markupDocBuilder);
-                propertyNameContent.boldTextLine(propertyName, true);
-                if (property.getRequired())
-                    propertyNameContent.italicText(labels.getLabel(FLAGS_REQUIRED).toLowerCase());
-                else
-                    propertyNameContent.italicText(labels.getLabel(FLAGS_OPTIONAL).toLowerCase());
-                if (propertyAdapter.getReadOnly()) {
-                    propertyNameContent.newLine(true);
-                    propertyNameContent.italicText(labels.getLabel(FLAGS_READ_ONLY).toLowerCase());
-                }
+                tableBuilder.row(
+                  buildNameCell(markupDocBuilder, propertyName, property, propertyAdapter),
+                  buildDescriptionCell(markupDocBuilder, property, propertyAdapter, propertyType),
+                  propertyType.displaySchema(markupDocBuilder));
+            });
+        }
 
-                MarkupDocBuilder descriptionContent = copyMarkupDocBuilder(markupDocBuilder);
-                String description = markupDescription(config.getSwaggerMarkupLanguage(), markupDocBuilder, property.getDescription());
-                if (isNotBlank(description))
-                    descriptionContent.text(description);
+        tableComponent.apply(markupDocBuilder, tableBuilder.build());
+    }
 
-                if (optionalDefaultValue.isPresent()) {
-                    if (isNotBlank(descriptionContent.toString())) {
-                        descriptionContent.newLine(true);
-                    }
-                    descriptionContent.boldText(labels.getLabel(DEFAULT_COLUMN)).text(COLON).literalText(Json.pretty(optionalDefaultValue.get()));
-                }
+    /**
+     * Builds the name cell of a property row : the property name followed by its flags.
+     *
+     * @param markupDocBuilder the docbuilder do use for output
+     * @param propertyName     the property name
+     * @param property         the property
+     * @param propertyAdapter  the property adapter
+     * @return the name cell content
+     */
+    private String buildNameCell(MarkupDocBuilder markupDocBuilder, String propertyName, Property property, PropertyAdapter propertyAdapter) {
+        MarkupDocBuilder propertyNameContent = copyMarkupDocBuilder(markupDocBuilder);
+        propertyNameContent.boldTextLine(propertyName, true);
+        if (property.getRequired())
+            propertyNameContent.italicText(requiredFlag);
+        else
+            propertyNameContent.italicText(optionalFlag);
+        if (propertyAdapter.getReadOnly()) {
+            propertyNameContent.newLine(true);
+            propertyNameContent.italicText(readOnlyFlag);
+        }
+        return propertyNameContent.toString();
+    }
 
-                if (optionalMinLength.isPresent() && optionalMaxLength.isPresent()) {
-                    // combination of minlength/maxlength
-                    Integer minLength = optionalMinLength.get();
-                    Integer maxLength = optionalMaxLength.get();
-
-                    if (isNotBlank(descriptionContent.toString())) {
-                        descriptionContent.newLine(true);
-                    }
-
-                    String lengthRange = minLength + " - " + maxLength;
-                    if (minLength.equals(maxLength)) {
-                        lengthRange = minLength.toString();
-                    }
-
-                    descriptionContent.boldText(labels.getLabel(LENGTH_COLUMN)).text(COLON).literalText(lengthRange);
-
-                } else {
-                    if (optionalMinLength.isPresent()) {
-                        if (isNotBlank(descriptionContent.toString())) {
-                            descriptionContent.newLine(true);
-                        }
-                        descriptionContent.boldText(labels.getLabel(MINLENGTH_COLUMN)).text(COLON).literalText(optionalMinLength.get().toString());
-                    }
-
-                    if (optionalMaxLength.isPresent()) {
-                        if (isNotBlank(descriptionContent.toString())) {
-                            descriptionContent.newLine(true);
-                        }
-                        descriptionContent.boldText(labels.getLabel(MAXLENGTH_COLUMN)).text(COLON).literalText(optionalMaxLength.get().toString());
-                    }
-                }
+    /**
+     * Builds the description cell of a property row : the property description followed by its default value, constraints and example.<br>
+     * Each part is written on its own line, the cell buffer is only materialized once, when the cell is complete.
+     *
+     * @param markupDocBuilder the docbuilder do use for output
+     * @param property         the property
+     * @param propertyAdapter  the property adapter
+     * @param propertyType     the resolved property type
+     * @return the description cell content
+     */
+    private String buildDescriptionCell(MarkupDocBuilder markupDocBuilder, Property property, PropertyAdapter propertyAdapter, Type propertyType) {
+        DescriptionCell descriptionContent = new DescriptionCell(copyMarkupDocBuilder(markupDocBuilder));
 
-                if (optionalPattern.isPresent()) {
-                    if (isNotBlank(descriptionContent.toString())) {
-                        descriptionContent.newLine(true);
-                    }
-                    descriptionContent.boldText(labels.getLabel(PATTERN_COLUMN)).text(COLON).literalText(Json.pretty(optionalPattern.get()));
-                }
+        String description = markupDescription(context, markupDocBuilder, property.getDescription());
+        if (isNotBlank(description))
+            descriptionContent.line().text(description);
 
-                DecimalFormat numberFormatter = new DecimalFormat("#.##",
-                  DecimalFormatSymbols.getInstance(config.getOutputLanguage().toLocale()));
+        Optional<Object> optionalDefaultValue = propertyAdapter.getDefaultValue();
+        if (optionalDefaultValue.isPresent()) {
+            descriptionContent.line().boldText(labels.getLabel(DEFAULT_COLUMN)).text(COLON).literalText(prettyJson(optionalDefaultValue.get()));
+        }
 
-                if (optionalMinValue.isPresent()) {
-                    if (isNotBlank(descriptionContent.toString())) {
-                        descriptionContent.newLine(true);
-                    }
-                    String minValueColumn = exclusiveMin ? labels.getLabel(MINVALUE_EXCLUSIVE_COLUMN) : labels.getLabel(MINVALUE_COLUMN);
-                    descriptionContent.boldText(minValueColumn).text(COLON).literalText(numberFormatter.format(optionalMinValue.get()));
-                }
+        Optional<Integer> optionalMinLength = propertyAdapter.getMinlength();
+        Optional<Integer> optionalMaxLength = propertyAdapter.getMaxlength();
+        if (optionalMinLength.isPresent() && optionalMaxLength.isPresent()) {
+            // combination of minlength/maxlength
+            Integer minLength = optionalMinLength.get();
+            Integer maxLength = optionalMaxLength.get();
 
-                if (optionalMaxValue.isPresent()) {
-                    if (isNotBlank(descriptionContent.toString())) {
-                        descriptionContent.newLine(true);
-                    }
-                    String maxValueColumn = exclusiveMax ? labels.getLabel(MAXVALUE_EXCLUSIVE_COLUMN) : labels.getLabel(MAXVALUE_COLUMN);
-                    descriptionContent.boldText(maxValueColumn).text(COLON).literalText(numberFormatter.format(optionalMaxValue.get()));
-                }
+            String lengthRange = minLength + " - " + maxLength;
+            if (minLength.equals(maxLength)) {
+                lengthRange = minLength.toString();
+            }
 
-                if (optionalExample.isPresent()) {
-                    if (isNotBlank(descriptionContent.toString())) {
-                        descriptionContent.newLine(true);
-                    }
+            descriptionContent.line().boldText(labels.getLabel(LENGTH_COLUMN)).text(COLON).literalText(lengthRange);
 
-                    if(propertyType instanceof RefType && isReferenceLink(optionalExample.get().toString())) {
-                        descriptionContent.boldText(labels.getLabel(EXAMPLE_COLUMN)).text(COLON).crossReference(optionalExample.get().toString());
-                    } else {
-                        descriptionContent.boldText(labels.getLabel(EXAMPLE_COLUMN)).text(COLON).literalText(Json.pretty(optionalExample.get()));
-                    }
-                }
+        } else {
+            if (optionalMinLength.isPresent()) {
+                descriptionContent.line().boldText(labels.getLabel(MINLENGTH_COLUMN)).text(COLON).literalText(optionalMinLength.get().toString());
+            }
 
-                nameColumnBuilder.add(propertyNameContent.toString());
-                descriptionColumnBuilder.add(descriptionContent.toString());
-                schemaColumnBuilder.add(propertyType.displaySchema(markupDocBuilder));
-            });
+            if (optionalMaxLength.isPresent()) {
+                descriptionContent.line().boldText(labels.getLabel(MAXLENGTH_COLUMN)).text(COLON).literalText(optionalMaxLength.get().toString());
+            }
+        }
+
+        Optional<String> optionalPattern = propertyAdapter.getPattern();
+        if (optionalPattern.isPresent()) {
+            descriptionContent.line().boldText(labels.getLabel(PATTERN_COLUMN)).text(COLON).literalText(prettyJson(optionalPattern.get()));
+        }
+
+        Optional<BigDecimal> optionalMinValue = propertyAdapter.getMin();
+        if (optionalMinValue.isPresent()) {
+            String minValueColumn = propertyAdapter.getExclusiveMin() ? labels.getLabel(MINVALUE_EXCLUSIVE_COLUMN) : labels.getLabel(MINVALUE_COLUMN);
+            descriptionContent.line().boldText(minValueColumn).text(COLON).literalText(numberFormatter.format(optionalMinValue.get()));
+        }
+
+        Optional<BigDecimal> optionalMaxValue = propertyAdapter.getMax();
+        if (optionalMaxValue.isPresent()) {
+            String maxValueColumn = propertyAdapter.getExclusiveMax() ? labels.getLabel(MAXVALUE_EXCLUSIVE_COLUMN) : labels.getLabel(MAXVALUE_COLUMN);
+            descriptionContent.line().boldText(maxValueColumn).text(COLON).literalText(numberFormatter.format(optionalMaxValue.get()));
         }
 
-        return tableComponent.apply(markupDocBuilder, TableComponent.parameters(
-          nameColumnBuilder.build(),
-          descriptionColumnBuilder.build(),
-          schemaColumnBuilder.build()));
+        Optional<Object> optionalExample = propertyAdapter.getExample(config.isGeneratedExamplesEnabled(), markupDocBuilder);
+        if (optionalExample.isPresent()) {
+            String example = optionalExample.get().toString();
+            if (propertyType instanceof RefType && isReferenceLink(example)) {
+                descriptionContent.line().boldText(labels.getLabel(EXAMPLE_COLUMN)).text(COLON).crossReference(example);
+            } else {
+                descriptionContent.line().boldText(labels.getLabel(EXAMPLE_COLUMN)).text(COLON).literalText(prettyJson(optionalExample.get()));
+            }
+        }
+
+        return descriptionContent.toString();
+    }
+
+    /**
+     * Serializes a value to pretty printed JSON using the shared writer.
+     *
+     * @param value value to serialize
+     * @return the JSON representation of the value
+     */
+    private String prettyJson(Object value) {
+        try {
+            return JSON_WRITER.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize value to JSON", e);
+        }
     }
 
     /*
@@ -219,6 +264,37 @@ public class PropertiesTableComponent extends MarkupComponent<PropertiesTableCom
         return possibleAnchor.startsWith("<<_") && possibleAnchor.endsWith(">>");
     }
 
+    /**
+     * Description cell of a property row.<br>
+     * Tracks whether some content has already been written, so that a line break is only inserted between two parts of the cell.
+     */
+    private static class DescriptionCell {
+        private final MarkupDocBuilder markupDocBuilder;
+        private boolean empty = true;
+
+        DescriptionCell(MarkupDocBuilder markupDocBuilder) {
+            this.markupDocBuilder = markupDocBuilder;
+        }
+
+        /**
+         * Starts a new part of the cell.
+         *
+         * @return the cell docbuilder to write the part to
+         */
+        MarkupDocBuilder line() {
+            if (!empty) {
+                markupDocBuilder.newLine(true);
+            }
+            empty = false;
+            return markupDocBuilder;
+        }
+
+        @Override
+        public String toString() {
+            return markupDocBuilder.toString();
+        }
+    }
+
     public static class Parameters {
         private final Map<String, Property> properties;
         private final String parameterName;
@@ -16,7 +16,6 @@
 package io.github.swagger2markup.internal.component;
 
 
-import ch.netzwerg.paleo.StringColumn;
 import io.github.swagger2markup.Swagger2MarkupConverter;
 import io.github.swagger2markup.internal.adapter.PropertyAdapter;
 import io.github.swagger2markup.internal.resolver.DocumentResolver;
@@ -39,7 +38,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-import static ch.netzwerg.paleo.ColumnIds.StringColumnId;
 import static io.github.swagger2markup.Labels.*;
 import static io.github.swagger2markup.internal.utils.InlineSchemaUtils.createInlineType;
 import static io.github.swagger2markup.internal.utils.MapUtils.toSortedMap;
@@ -74,14 +72,10 @@ public class ResponseComponent extends MarkupComponent<ResponseComponent.Paramet
         MarkupDocBuilder responsesBuilder = copyMarkupDocBuilder(markupDocBuilder);
         applyPathsDocumentExtension(new PathsDocumentExtension.Context(PathsDocumentExtension.Position.OPERATION_RESPONSES_BEGIN, responsesBuilder, operation));
         if (MapUtils.isNotEmpty(responses)) {
-            StringColumn.Builder httpCodeColumnBuilder = StringColumn.builder(StringColumnId.of(labels.getLabel(HTTP_CODE_COLUMN)))
-                    .putMetaData(TableComponent.WIDTH_RATIO, "2");
-            StringColumn.Builder descriptionColumnBuilder = StringColumn.builder(StringColumnId.of(labels.getLabel(DESCRIPTION_COLUMN)))
-                    .putMetaData(TableComponent.WIDTH_RATIO, "14")
-                    .putMetaData(TableComponent.HEADER_COLUMN, "true");
-            StringColumn.Builder schemaColumnBuilder = StringColumn.builder(StringColumnId.of(labels.getLabel(SCHEMA_COLUMN)))
-                    .putMetaData(TableComponent.WIDTH_RATIO, "4")
-                    .putMetaData(TableComponent.HEADER_COLUMN, "true");
+            TableComponent.Builder tableBuilder = TableComponent.builder(responses.size())
+                    .column(labels.getLabel(HTTP_CODE_COLUMN), 2, false)
+                    .column(labels.getLabel(DESCRIPTION_COLUMN), 14, true)
+                    .column(labels.getLabel(SCHEMA_COLUMN), 4, true);
 
             Map<String, Response> sortedResponses = toSortedMap(responses, config.getResponseOrdering());
             sortedResponses.forEach((String responseName, Response response) -> {
@@ -105,7 +99,7 @@ public class ResponseComponent extends MarkupComponent<ResponseComponent.Paramet
 
                 MarkupDocBuilder descriptionBuilder = copyMarkupDocBuilder(markupDocBuilder);
 
-                descriptionBuilder.text(markupDescription(config.getSwaggerMarkupLanguage(), markupDocBuilder, response.getDescription()));
+                descriptionBuilder.text(markupDescription(context, markupDocBuilder, response.getDescription()));
 
                 Map<String, Property> headers = response.getHeaders();
                 if (MapUtils.isNotEmpty(headers)) {
@@ -115,7 +109,7 @@ public class ResponseComponent extends MarkupComponent<ResponseComponent.Paramet
                         Property headerProperty = header.getValue();
                         PropertyAdapter headerPropertyAdapter = new PropertyAdapter(headerProperty);
                         Type propertyType = headerPropertyAdapter.getType(definitionDocumentResolver);
-                        String headerDescription = markupDescription(config.getSwaggerMarkupLanguage(), markupDocBuilder, headerProperty.getDescription());
+                        String headerDescription = markupDescription(context, markupDocBuilder, headerProperty.getDescription());
                         Optional<Object> optionalDefaultValue = headerPropertyAdapter.getDefaultValue();
 
                         descriptionBuilder
@@ -137,14 +131,13 @@ public class ResponseComponent extends MarkupComponent<ResponseComponent.Paramet
                     }
                 }
 
-                httpCodeColumnBuilder.add(boldText(markupDocBuilder, responseName));
-                descriptionColumnBuilder.add(descriptionBuilder.toString());
-                schemaColumnBuilder.add(schemaContent);
+                tableBuilder.row(
+                        boldText(markupDocBuilder, responseName),
+                        descriptionBuilder.toString(),
+                        schemaContent);
             });
 
-            responsesBuilder = tableComponent.apply(responsesBuilder, TableComponent.parameters(httpCodeColumnBuilder.build(),
-                    descriptionColumnBuilder.build(),
-                    schemaColumnBuilder.build()));
+            responsesBuilder = tableComponent.apply(responsesBuilder, tableBuilder.build());
         }
         applyPathsDocumentExtension(new PathsDocumentExtension.Context(PathsDocumentExtension.Position.OPERATION_RESPONSES_END, responsesBuilder, operation));
         String responsesContent = responsesBuilder.toString();
@@ -16,7 +16,6 @@
 package io.github.swagger2markup.internal.component;
 
 
-import ch.netzwerg.paleo.StringColumn;
 import com.google.common.base.Joiner;
 import io.github.swagger2markup.Swagger2MarkupConverter;
 import io.github.swagger2markup.internal.resolver.DocumentResolver;
@@ -31,7 +30,6 @@ import org.apache.commons.lang3.Validate;
 import java.util.List;
 import java.util.Map;
 
-import static ch.netzwerg.paleo.ColumnIds.StringColumnId;
 import static io.github.swagger2markup.Labels.*;
 import static io.github.swagger2markup.internal.utils.MarkupDocBuilderUtils.*;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
@@ -62,14 +60,10 @@ public class SecuritySchemeComponent extends MarkupComponent<SecuritySchemeCompo
         List<Map<String, List<String>>> securitySchemes = operation.getOperation().getSecurity();
         applyPathsDocumentExtension(new PathsDocumentExtension.Context(PathsDocumentExtension.Position.OPERATION_SECURITY_BEGIN, securityBuilder, operation));
         if (CollectionUtils.isNotEmpty(securitySchemes)) {
-            StringColumn.Builder typeColumnBuilder = StringColumn.builder(StringColumnId.of(labels.getLabel(TYPE_COLUMN)))
-                    .putMetaData(TableComponent.WIDTH_RATIO, "3");
-            StringColumn.Builder nameColumnBuilder = StringColumn.builder(StringColumnId.of(labels.getLabel(NAME_COLUMN)))
-                    .putMetaData(TableComponent.WIDTH_RATIO, "4");
-            StringColumn.Builder scopeColumnBuilder = StringColumn.builder(StringColumnId.of(labels.getLabel(SCOPES_COLUMN)))
-                    .putMetaData(TableComponent.WIDTH_RATIO, "13")
-                    .putMetaData(TableComponent.HEADER_COLUMN, "true");
-
+            TableComponent.Builder tableBuilder = TableComponent.builder(securitySchemes.size())
+                    .column(labels.getLabel(TYPE_COLUMN), 3, false)
+                    .column(labels.getLabel(NAME_COLUMN), 4, false)
+                    .column(labels.getLabel(SCOPES_COLUMN), 13, true);
 
             for (Map<String, List<String>> securityScheme : securitySchemes) {
                 for (Map.Entry<String, List<String>> securityEntry : securityScheme.entrySet()) {
@@ -79,15 +73,14 @@ public class SecuritySchemeComponent extends MarkupComponent<SecuritySchemeCompo
                         type = securityDefinitions.get(securityKey).getType();
                     }
 
-                    typeColumnBuilder.add(boldText(markupDocBuilder, type));
-                    nameColumnBuilder.add(boldText(markupDocBuilder, crossReference(markupDocBuilder, securityDocumentResolver.apply(securityKey), securityKey, securityKey)));
-                    scopeColumnBuilder.add(Joiner.on(",").join(securityEntry.getValue()));
+                    tableBuilder.row(
+                            boldText(markupDocBuilder, type),
+                            boldText(markupDocBuilder, crossReference(markupDocBuilder, securityDocumentResolver.apply(securityKey), securityKey, securityKey)),
+                            Joiner.on(",").join(securityEntry.getValue()));
                 }
             }
 
-            securityBuilder = tableComponent.apply(securityBuilder, TableComponent.parameters(typeColumnBuilder.build(),
-                    nameColumnBuilder.build(),
-                    scopeColumnBuilder.build()));
+            securityBuilder = tableComponent.apply(securityBuilder, tableBuilder.build());
         }
         applyPathsDocumentExtension(new PathsDocumentExtension.Context(PathsDocumentExtension.Position.OPERATION_SECURITY_END, securityBuilder, operation));
         String securityContent = securityBuilder.toString();
@@ -16,7 +16,6 @@
 package io.github.swagger2markup.internal.component;
 
 
-import ch.netzwerg.paleo.StringColumn;
 import io.github.swagger2markup.Swagger2MarkupConverter;
 import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
 import io.github.swagger2markup.spi.MarkupComponent;
@@ -28,7 +27,6 @@ import org.apache.commons.lang3.Validate;
 
 import java.util.Map;
 
-import static ch.netzwerg.paleo.ColumnIds.StringColumnId;
 import static io.github.swagger2markup.Labels.*;
 import static io.github.swagger2markup.internal.utils.MarkupDocBuilderUtils.copyMarkupDocBuilder;
 import static io.github.swagger2markup.internal.utils.MarkupDocBuilderUtils.markupDescription;
@@ -59,7 +57,7 @@ public class SecuritySchemeDefinitionComponent extends MarkupComponent<SecurityS
         applySecurityDocumentExtension(new SecurityDocumentExtension.Context(Position.SECURITY_SCHEME_BEGIN, markupDocBuilder, securitySchemeDefinitionName, securitySchemeDefinition));
         String description = securitySchemeDefinition.getDescription();
         if (isNotBlank(description)) {
-            markupDocBuilder.paragraph(markupDescription(config.getSwaggerMarkupLanguage(), markupDocBuilder, description));
+            markupDocBuilder.paragraph(markupDescription(context, markupDocBuilder, description));
         }
         buildSecurityScheme(markupDocBuilder, securitySchemeDefinition);
         applySecurityDocumentExtension(new SecurityDocumentExtension.Context(Position.SECURITY_SCHEME_END, markupDocBuilder, securitySchemeDefinitionName, securitySchemeDefinition));
@@ -92,20 +90,15 @@ public class SecuritySchemeDefinitionComponent extends MarkupComponent<SecurityS
             markupDocBuilder.paragraph(paragraphBuilder.toString(), true);
 
             if (oauth2Scheme.getScopes() != null && !oauth2Scheme.getScopes().isEmpty()) {
-                StringColumn.Builder nameColumnBuilder = StringColumn.builder(StringColumnId.of(labels.getLabel(NAME_COLUMN)))
-                        .putMetaData(TableComponent.WIDTH_RATIO, "3")
-                        .putMetaData(TableComponent.HEADER_COLUMN, "true");
-                StringColumn.Builder descriptionColumnBuilder = StringColumn.builder(StringColumnId.of(labels.getLabel(DESCRIPTION_COLUMN)))
-                        .putMetaData(TableComponent.WIDTH_RATIO, "17")
-                        .putMetaData(TableComponent.HEADER_COLUMN, "true");
+                TableComponent.Builder tableBuilder = TableComponent.builder(oauth2Scheme.getScopes().size())
+                        .column(labels.getLabel(NAME_COLUMN), 3, true)
+                        .column(labels.getLabel(DESCRIPTION_COLUMN), 17, true);
 
                 for (Map.Entry<String, String> scope : oauth2Scheme.getScopes().entrySet()) {
-                    nameColumnBuilder.add(scope.getKey());
-                    descriptionColumnBuilder.add(scope.getValue());
+                    tableBuilder.row(scope.getKey(), scope.getValue());
                 }
 
-                return tableComponent.apply(markupDocBuilder, TableComponent.parameters(nameColumnBuilder.build(),
-                        descriptionColumnBuilder.build()));
+                return tableComponent.apply(markupDocBuilder, tableBuilder.build());
             } else {
 
                 return markupDocBuilder;
@@ -15,17 +15,20 @@
  */
 package io.github.swagger2markup.internal.component;
 
-import ch.netzwerg.paleo.DataFrame;
 import ch.netzwerg.paleo.StringColumn;
 import io.github.swagger2markup.Swagger2MarkupConverter;
 import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
 import io.github.swagger2markup.markup.builder.MarkupLanguage;
 import io.github.swagger2markup.markup.builder.MarkupTableColumn;
+import io.github.swagger2markup.spi.ConversionListener.Counter;
 import io.github.swagger2markup.spi.MarkupComponent;
-import io.vavr.collection.Array;
 import io.vavr.collection.IndexedSeq;
-import io.vavr.collection.List;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 
 public class TableComponent extends MarkupComponent<TableComponent.Parameters> {
@@ -41,36 +44,152 @@ public class TableComponent extends MarkupComponent<TableComponent.Parameters> {
         return new TableComponent.Parameters(columns);
     }
 
+    /**
+     * Creates a row-oriented table builder.
+     *
+     * @param expectedRowCount expected number of rows, used to pre-size the table
+     * @return a table builder
+     */
+    public static TableComponent.Builder builder(int expectedRowCount) {
+        return new TableComponent.Builder(expectedRowCount);
+    }
+
     public static boolean isNotBlank(StringColumn column) {
         return !column.getValues().filter(StringUtils::isNotBlank).isEmpty();
     }
 
     @Override
     public MarkupDocBuilder apply(MarkupDocBuilder markupDocBuilder, Parameters params) {
-        DataFrame dataFrame = params.dataFrame;
-        java.util.List<MarkupTableColumn> columnSpecs = dataFrame.getColumns().map(column -> {
-                    Integer widthRatio = Integer.valueOf(column.getMetaData().get(WIDTH_RATIO).getOrElse("0"));
-                    return new MarkupTableColumn(column.getId().getName())
-                            .withWidthRatio(widthRatio)
-                            .withHeaderColumn(Boolean.parseBoolean(column.getMetaData().get(HEADER_COLUMN).getOrElse("false")))
-                            .withMarkupSpecifiers(MarkupLanguage.ASCIIDOC, ".^" + widthRatio + "a");
-                }
-        ).toJavaList();
+        context.getConversionEvents().count(Counter.TABLES_RENDERED, 1);
+        return markupDocBuilder.tableWithColumnSpecs(params.columnSpecs, params.cells);
+    }
+
+    /**
+     * Row-oriented table builder.<br>
+     * Columns are declared first, then rows are added in display order. Columns whose cells are all blank are not displayed.
+     */
+    public static class Builder {
+        private final List<MarkupTableColumn> columnSpecs = new ArrayList<>();
+        private final List<String[]> rows;
+        private boolean[] notBlankColumns;
 
-        IndexedSeq<IndexedSeq<String>> columnValues = dataFrame.getColumns()
-                .map(column -> ((StringColumn) column).getValues());
+        Builder(int expectedRowCount) {
+            this.rows = new ArrayList<>(expectedRowCount);
+        }
+
+        /**
+         * Declares a new column.
+         *
+         * @param header       column header
+         * @param widthRatio   column width ratio
+         * @param headerColumn true if the column is a header column
+         * @return this builder
+         */
+        public Builder column(String header, int widthRatio, boolean headerColumn) {
+            Validate.validState(rows.isEmpty(), "Columns must be declared before rows");
+            columnSpecs.add(columnSpec(header, widthRatio, headerColumn));
+            return this;
+        }
+
+        /**
+         * Adds a row to the table.
+         *
+         * @param cells row cells, one per declared column
+         * @return this builder
+         */
+        public Builder row(String... cells) {
+            if (cells.length != columnSpecs.size()) {
+                throw new IllegalArgumentException(String.format("Row must have %d cells, but has %d", columnSpecs.size(), cells.length));
+            }
+            if (notBlankColumns == null) {
+                notBlankColumns = new boolean[columnSpecs.size()];
+            }
+            for (int i = 0; i < cells.length; i++) {
+                if (!notBlankColumns[i] && StringUtils.isNotBlank(cells[i])) {
+                    notBlankColumns[i] = true;
+                }
+            }
+            rows.add(cells);
+            return this;
+        }
 
-        java.util.List<java.util.List<String>> cells = Array.range(0, dataFrame.getRowCount())
-                .map(rowNumber -> columnValues.map(values -> values.get(rowNumber)).toJavaList()).toJavaList();
+        public Parameters build() {
+            return new Parameters(this);
+        }
+    }
 
-        return markupDocBuilder.tableWithColumnSpecs(columnSpecs, cells);
+    static MarkupTableColumn columnSpec(String header, int widthRatio, boolean headerColumn) {
+        return new MarkupTableColumn(header)
+                .withWidthRatio(widthRatio)
+                .withHeaderColumn(headerColumn)
+                .withMarkupSpecifiers(MarkupLanguage.ASCIIDOC, ".^" + widthRatio + "a");
     }
 
     public static class Parameters {
-        private final DataFrame dataFrame;
+        private final List<MarkupTableColumn> columnSpecs;
+        private final List<List<String>> cells;
 
+        /**
+         * Adapts column-oriented {@code columns} to a row-oriented table.
+         *
+         * @param columns table columns
+         */
         public Parameters(StringColumn... columns) {
-            this.dataFrame = DataFrame.ofAll(List.of(columns).filter(TableComponent::isNotBlank));
+            this(toBuilder(columns));
+        }
+
+        private Parameters(Builder builder) {
+            int columnCount = builder.columnSpecs.size();
+            boolean[] notBlankColumns = builder.notBlankColumns != null ? builder.notBlankColumns : new boolean[columnCount];
+            int[] displayedColumns = new int[columnCount];
+            int displayedColumnCount = 0;
+            for (int i = 0; i < columnCount; i++) {
+                if (notBlankColumns[i]) {
+                    displayedColumns[displayedColumnCount++] = i;
+                }
+            }
+
+            this.columnSpecs = new ArrayList<>(displayedColumnCount);
+            for (int i = 0; i < displayedColumnCount; i++) {
+                columnSpecs.add(builder.columnSpecs.get(displayedColumns[i]));
+            }
+
+            if (displayedColumnCount == 0) {
+                this.cells = new ArrayList<>();
+            } else if (displayedColumnCount == columnCount) {
+                this.cells = new ArrayList<>(builder.rows.size());
+                for (String[] row : builder.rows) {
+                    cells.add(Arrays.asList(row));
+                }
+            } else {
+                this.cells = new ArrayList<>(builder.rows.size());
+                for (String[] row : builder.rows) {
+                    String[] displayedRow = new String[displayedColumnCount];
+                    for (int i = 0; i < displayedColumnCount; i++) {
+                        displayedRow[i] = row[displayedColumns[i]];
+                    }
+                    cells.add(Arrays.asList(displayedRow));
+                }
+            }
+        }
+
+        private static Builder toBuilder(StringColumn... columns) {
+            int rowCount = columns.length == 0 ? 0 : columns[0].getRowCount();
+            Builder builder = new Builder(rowCount);
+            for (StringColumn column : columns) {
+                int widthRatio = Integer.valueOf(column.getMetaData().get(WIDTH_RATIO).getOrElse("0"));
+                builder.column(column.getId().getName(), widthRatio,
+                        Boolean.parseBoolean(column.getMetaData().get(HEADER_COLUMN).getOrElse("false")));
+            }
+            for (int rowNumber = 0; rowNumber < rowCount; rowNumber++) {
+                String[] row = new String[columns.length];
+                for (int i = 0; i < columns.length; i++) {
+                    IndexedSeq<String> values = columns[i].getValues();
+                    row[i] = values.get(rowNumber);
+                }
+                builder.row(row);
+            }
+            return builder;
         }
     }
 }
@@ -21,13 +21,17 @@ import io.github.swagger2markup.internal.component.DefinitionComponent;
 import io.github.swagger2markup.internal.resolver.DefinitionDocumentNameResolver;
 import io.github.swagger2markup.internal.resolver.DefinitionDocumentResolverDefault;
 import io.github.swagger2markup.internal.resolver.DefinitionDocumentResolverFromDefinition;
+import io.github.swagger2markup.internal.utils.BuildManifest;
+import io.github.swagger2markup.internal.utils.ConversionEvents;
 import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
+import io.github.swagger2markup.spi.ConversionListener.Counter;
+import io.github.swagger2markup.spi.ConversionListener.Phase;
 import io.github.swagger2markup.spi.MarkupComponent;
 import io.swagger.models.Model;
 import org.apache.commons.collections4.MapUtils;
 
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +39,8 @@ import java.util.Map;
 import static io.github.swagger2markup.internal.utils.MapUtils.toSortedMap;
 import static io.github.swagger2markup.internal.utils.MarkupDocBuilderUtils.copyMarkupDocBuilder;
 import static io.github.swagger2markup.internal.utils.MarkupDocBuilderUtils.crossReference;
+import static io.github.swagger2markup.internal.utils.MarkupDocBuilderUtils.endMarkupDocBuilderGroup;
+import static io.github.swagger2markup.internal.utils.MarkupDocBuilderUtils.flushMarkupDocBuilder;
 import static io.github.swagger2markup.spi.DefinitionsDocumentExtension.Context;
 import static io.github.swagger2markup.spi.DefinitionsDocumentExtension.Position;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
@@ -71,8 +77,14 @@ public class DefinitionsDocument extends MarkupComponent<DefinitionsDocument.Par
         return new DefinitionsDocument.Parameters(definitions);
     }
 
+    public static DefinitionsDocument.Parameters parameters(Map<String, Model> definitions, Writer writer) {
+        return new DefinitionsDocument.Parameters(definitions, writer);
+    }
+
     /**
-     * Builds the definitions MarkupDocument.
+     * Builds the definitions MarkupDocument.<br>
+     * If a writer is given in the parameters, each definition is flushed to the writer as soon as it is complete,
+     * and the returned MarkupDocument only contains the end of the document.
      *
      * @return the definitions MarkupDocument
      */
@@ -80,10 +92,11 @@ public class DefinitionsDocument extends MarkupComponent<DefinitionsDocument.Par
     public MarkupDocBuilder apply(MarkupDocBuilder markupDocBuilder, DefinitionsDocument.Parameters params) {
         Map<String, Model> definitions = params.definitions;
         if (MapUtils.isNotEmpty(definitions)) {
+            context.getInlineSchemaRegistry().clear();
             applyDefinitionsDocumentExtension(new Context(Position.DOCUMENT_BEFORE, markupDocBuilder));
             buildDefinitionsTitle(markupDocBuilder, labels.getLabel(Labels.DEFINITIONS));
             applyDefinitionsDocumentExtension(new Context(Position.DOCUMENT_BEGIN, markupDocBuilder));
-            buildDefinitionsSection(markupDocBuilder, definitions);
+            markupDocBuilder = buildDefinitionsSection(markupDocBuilder, definitions, params.writer);
             applyDefinitionsDocumentExtension(new Context(Position.DOCUMENT_END, markupDocBuilder));
             applyDefinitionsDocumentExtension(new Context(Position.DOCUMENT_AFTER, markupDocBuilder));
         }
@@ -94,14 +107,25 @@ public class DefinitionsDocument extends MarkupComponent<DefinitionsDocument.Par
         markupDocBuilder.sectionTitleWithAnchorLevel1(title, DEFINITIONS_ANCHOR);
     }
 
-    private void buildDefinitionsSection(MarkupDocBuilder markupDocBuilder, Map<String, Model> definitions) {
+    /**
+     * Builds the definitions section.
+     *
+     * @param definitions the Swagger definitions
+     * @param writer      optional writer to flush each definition to
+     * @return the docbuilder to continue the document with
+     */
+    private MarkupDocBuilder buildDefinitionsSection(MarkupDocBuilder markupDocBuilder, Map<String, Model> definitions, Writer writer) {
         Map<String, Model> sortedMap = toSortedMap(definitions, config.getDefinitionOrdering());
-        sortedMap.forEach((String definitionName, Model model) -> {
+        for (Map.Entry<String, Model> definition : sortedMap.entrySet()) {
+            String definitionName = definition.getKey();
             if (isNotBlank(definitionName)
                     && checkThatDefinitionIsNotInIgnoreList(definitionName)) {
-                buildDefinition(markupDocBuilder, definitionName, model);
+                buildDefinition(markupDocBuilder, definitionName, definition.getValue());
+                markupDocBuilder = flushMarkupDocBuilder(markupDocBuilder, writer);
+                markupDocBuilder = endMarkupDocBuilderGroup(markupDocBuilder, writer);
             }
-        });
+        }
+        return markupDocBuilder;
     }
 
     /**
@@ -124,12 +148,24 @@ public class DefinitionsDocument extends MarkupComponent<DefinitionsDocument.Par
             logger.debug("Definition processed : '{}'", definitionName);
         }
         if (config.isSeparatedDefinitionsEnabled()) {
-            MarkupDocBuilder defDocBuilder = copyMarkupDocBuilder(markupDocBuilder);
-            applyDefinitionComponent(defDocBuilder, definitionName, model);
-            Path definitionFile = context.getOutputPath().resolve(definitionDocumentNameResolver.apply(definitionName));
-            defDocBuilder.writeToFileWithoutExtension(definitionFile, StandardCharsets.UTF_8);
-            if (logger.isDebugEnabled()) {
-                logger.debug("Separate definition file produced : '{}'", definitionFile);
+            String definitionDocument = definitionDocumentNameResolver.apply(definitionName);
+            BuildManifest buildManifest = context.getBuildManifest();
+            String definitionHash = buildManifest != null ? context.getModelHasher().definitionHash(definitionName) : null;
+            if (buildManifest != null && buildManifest.isUpToDate(definitionDocument, definitionHash)) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Separate definition file reused : '{}'", definitionDocument);
+                }
+            } else {
+                MarkupDocBuilder defDocBuilder = copyMarkupDocBuilder(markupDocBuilder);
+                context.getInlineSchemaRegistry().clear();
+                applyDefinitionComponent(defDocBuilder, definitionName, model);
+                context.getOutputFileWriter().write(context.getOutputSink(), definitionDocument, defDocBuilder.toString(), StandardCharsets.UTF_8);
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Separate definition file produced : '{}'", definitionDocument);
+                }
+            }
+            if (buildManifest != null) {
+                buildManifest.put(definitionDocument, definitionHash);
             }
 
             definitionRef(markupDocBuilder, definitionName);
@@ -157,10 +193,14 @@ public class DefinitionsDocument extends MarkupComponent<DefinitionsDocument.Par
      * @param model            the Swagger Model of the definition
      */
     private void applyDefinitionComponent(MarkupDocBuilder markupDocBuilder, String definitionName, Model model) {
+        ConversionEvents events = context.getConversionEvents();
+        long start = events.start(Phase.DEFINITION, definitionName);
         definitionComponent.apply(markupDocBuilder, DefinitionComponent.parameters(
                 definitionName,
                 model,
                 2));
+        events.end(Phase.DEFINITION, definitionName, start);
+        events.count(Counter.DEFINITIONS_RENDERED, 1);
     }
 
     /**
@@ -185,9 +225,15 @@ public class DefinitionsDocument extends MarkupComponent<DefinitionsDocument.Par
 
     public static class Parameters {
         private final Map<String, Model> definitions;
+        private final Writer writer;
 
         public Parameters(Map<String, Model> definitions) {
+            this(definitions, null);
+        }
+
+        public Parameters(Map<String, Model> definitions, Writer writer) {
             this.definitions = definitions;
+            this.writer = writer;
         }
     }
 
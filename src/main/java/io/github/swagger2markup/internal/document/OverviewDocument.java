@@ -97,7 +97,7 @@ public class OverviewDocument extends MarkupComponent<OverviewDocument.Parameter
 
     void buildDescriptionParagraph(MarkupDocBuilder markupDocBuilder, String description) {
         if (isNotBlank(description)) {
-            markupDocBuilder.paragraph(markupDescription(config.getSwaggerMarkupLanguage(), markupDocBuilder, description));
+            markupDocBuilder.paragraph(markupDescription(context, markupDocBuilder, description));
         }
     }
 
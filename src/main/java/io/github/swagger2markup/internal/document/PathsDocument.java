@@ -25,11 +25,15 @@ import io.github.swagger2markup.internal.resolver.DefinitionDocumentResolverFrom
 import io.github.swagger2markup.internal.resolver.OperationDocumentNameResolver;
 import io.github.swagger2markup.internal.resolver.OperationDocumentResolverDefault;
 import io.github.swagger2markup.internal.resolver.SecurityDocumentResolver;
+import io.github.swagger2markup.internal.utils.BuildManifest;
+import io.github.swagger2markup.internal.utils.ConversionEvents;
 import io.github.swagger2markup.internal.utils.PathUtils;
 import io.github.swagger2markup.internal.utils.RegexUtils;
 import io.github.swagger2markup.internal.utils.TagUtils;
 import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
 import io.github.swagger2markup.model.PathOperation;
+import io.github.swagger2markup.spi.ConversionListener.Counter;
+import io.github.swagger2markup.spi.ConversionListener.Phase;
 import io.github.swagger2markup.spi.MarkupComponent;
 import io.swagger.models.Path;
 import io.swagger.models.Tag;
@@ -39,6 +43,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.text.WordUtils;
 
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
@@ -47,6 +52,8 @@ import java.util.regex.Pattern;
 
 import static io.github.swagger2markup.internal.utils.MarkupDocBuilderUtils.copyMarkupDocBuilder;
 import static io.github.swagger2markup.internal.utils.MarkupDocBuilderUtils.crossReference;
+import static io.github.swagger2markup.internal.utils.MarkupDocBuilderUtils.endMarkupDocBuilderGroup;
+import static io.github.swagger2markup.internal.utils.MarkupDocBuilderUtils.flushMarkupDocBuilder;
 import static io.github.swagger2markup.spi.PathsDocumentExtension.Context;
 import static io.github.swagger2markup.spi.PathsDocumentExtension.Position;
 import static io.github.swagger2markup.utils.IOUtils.normalizeName;
@@ -88,8 +95,14 @@ public class PathsDocument extends MarkupComponent<PathsDocument.Parameters> {
         return new PathsDocument.Parameters(paths);
     }
 
+    public static PathsDocument.Parameters parameters(Map<String, Path> paths, Writer writer) {
+        return new PathsDocument.Parameters(paths, writer);
+    }
+
     /**
-     * Builds the paths MarkupDocument.
+     * Builds the paths MarkupDocument.<br>
+     * If a writer is given in the parameters, each operation is flushed to the writer as soon as it is complete,
+     * and the returned MarkupDocument only contains the end of the document.
      *
      * @return the paths MarkupDocument
      */
@@ -97,10 +110,11 @@ public class PathsDocument extends MarkupComponent<PathsDocument.Parameters> {
     public MarkupDocBuilder apply(MarkupDocBuilder markupDocBuilder, PathsDocument.Parameters params) {
         Map<String, Path> paths = params.paths;
         if (MapUtils.isNotEmpty(paths)) {
+            context.getInlineSchemaRegistry().clear();
             applyPathsDocumentExtension(new Context(Position.DOCUMENT_BEFORE, markupDocBuilder));
             buildPathsTitle(markupDocBuilder);
             applyPathsDocumentExtension(new Context(Position.DOCUMENT_BEGIN, markupDocBuilder));
-            buildsPathsSection(markupDocBuilder, paths);
+            markupDocBuilder = buildsPathsSection(markupDocBuilder, paths, params.writer);
             applyPathsDocumentExtension(new Context(Position.DOCUMENT_END, markupDocBuilder));
             applyPathsDocumentExtension(new Context(Position.DOCUMENT_AFTER, markupDocBuilder));
         }
@@ -110,13 +124,19 @@ public class PathsDocument extends MarkupComponent<PathsDocument.Parameters> {
     /**
      * Builds the paths section. Groups the paths either as-is, by tags or using regex.
      *
-     * @param paths the Swagger paths
+     * @param paths  the Swagger paths
+     * @param writer optional writer to flush each operation to, and to end each group of operations with
+     * @return the docbuilder to continue the document with
      */
-    private void buildsPathsSection(MarkupDocBuilder markupDocBuilder, Map<String, Path> paths) {
+    private MarkupDocBuilder buildsPathsSection(MarkupDocBuilder markupDocBuilder, Map<String, Path> paths, Writer writer) {
         List<PathOperation> pathOperations = PathUtils.toPathOperationsList(paths, getBasePath(), config.getOperationOrdering());
         if (CollectionUtils.isNotEmpty(pathOperations)) {
             if (config.getPathsGroupedBy() == GroupBy.AS_IS) {
-                pathOperations.forEach(operation -> buildOperation(markupDocBuilder, operation, config));
+                for (PathOperation operation : pathOperations) {
+                    buildOperation(markupDocBuilder, operation, config);
+                    markupDocBuilder = flushMarkupDocBuilder(markupDocBuilder, writer);
+                    markupDocBuilder = endMarkupDocBuilderGroup(markupDocBuilder, writer);
+                }
             } else if (config.getPathsGroupedBy() == GroupBy.TAGS) {
                 Validate.notEmpty(context.getSwagger().getTags(), "Tags must not be empty, when operations are grouped by tags");
                 // Group operations by tag
@@ -124,15 +144,19 @@ public class PathsDocument extends MarkupComponent<PathsDocument.Parameters> {
 
                 Map<String, Tag> tagsMap = TagUtils.toSortedMap(context.getSwagger().getTags(), config.getTagOrdering());
 
-                tagsMap.forEach((String tagName, Tag tag) -> {
+                for (Map.Entry<String, Tag> tagEntry : tagsMap.entrySet()) {
+                    String tagName = tagEntry.getKey();
                     markupDocBuilder.sectionTitleWithAnchorLevel2(WordUtils.capitalize(tagName), tagName + "_resource");
-                    String description = tag.getDescription();
+                    String description = tagEntry.getValue().getDescription();
                     if (StringUtils.isNotBlank(description)) {
                         markupDocBuilder.paragraph(description);
                     }
-                    operationsGroupedByTag.get(tagName).forEach(operation -> buildOperation(markupDocBuilder, operation, config));
-
-                });
+                    for (PathOperation operation : operationsGroupedByTag.get(tagName)) {
+                        buildOperation(markupDocBuilder, operation, config);
+                        markupDocBuilder = flushMarkupDocBuilder(markupDocBuilder, writer);
+                    }
+                    markupDocBuilder = endMarkupDocBuilderGroup(markupDocBuilder, writer);
+                }
             } else if (config.getPathsGroupedBy() == GroupBy.REGEX) {
                 Validate.notNull(config.getHeaderPattern(), "Header regex pattern must not be empty when operations are grouped using regex");
 
@@ -143,10 +167,15 @@ public class PathsDocument extends MarkupComponent<PathsDocument.Parameters> {
 
                 for (String header : sortedHeaders) {
                     markupDocBuilder.sectionTitleWithAnchorLevel2(WordUtils.capitalize(header), header + "_resource");
-                    operationsGroupedByRegex.get(header).forEach(operation -> buildOperation(markupDocBuilder, operation, config));
+                    for (PathOperation operation : operationsGroupedByRegex.get(header)) {
+                        buildOperation(markupDocBuilder, operation, config);
+                        markupDocBuilder = flushMarkupDocBuilder(markupDocBuilder, writer);
+                    }
+                    markupDocBuilder = endMarkupDocBuilderGroup(markupDocBuilder, writer);
                 }
             }
         }
+        return markupDocBuilder;
     }
 
     /**
@@ -194,12 +223,24 @@ public class PathsDocument extends MarkupComponent<PathsDocument.Parameters> {
      */
     private void buildOperation(MarkupDocBuilder markupDocBuilder, PathOperation operation, Swagger2MarkupConfig config) {
         if (config.isSeparatedOperationsEnabled()) {
-            MarkupDocBuilder pathDocBuilder = copyMarkupDocBuilder(markupDocBuilder);
-            applyPathOperationComponent(pathDocBuilder, operation);
-            java.nio.file.Path operationFile = context.getOutputPath().resolve(operationDocumentNameResolver.apply(operation));
-            pathDocBuilder.writeToFileWithoutExtension(operationFile, StandardCharsets.UTF_8);
-            if (logger.isDebugEnabled()) {
-                logger.debug("Separate operation file produced : '{}'", operationFile);
+            String operationDocument = operationDocumentNameResolver.apply(operation);
+            BuildManifest buildManifest = context.getBuildManifest();
+            String operationHash = buildManifest != null ? context.getModelHasher().operationHash(operation) : null;
+            if (buildManifest != null && buildManifest.isUpToDate(operationDocument, operationHash)) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Separate operation file reused : '{}'", operationDocument);
+                }
+            } else {
+                MarkupDocBuilder pathDocBuilder = copyMarkupDocBuilder(markupDocBuilder);
+                context.getInlineSchemaRegistry().clear();
+                applyPathOperationComponent(pathDocBuilder, operation);
+                context.getOutputFileWriter().write(context.getOutputSink(), operationDocument, pathDocBuilder.toString(), StandardCharsets.UTF_8);
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Separate operation file produced : '{}'", operationDocument);
+                }
+            }
+            if (buildManifest != null) {
+                buildManifest.put(operationDocument, operationHash);
             }
             buildOperationRef(markupDocBuilder, operation);
 
@@ -220,7 +261,11 @@ public class PathsDocument extends MarkupComponent<PathsDocument.Parameters> {
      */
     private void applyPathOperationComponent(MarkupDocBuilder markupDocBuilder, PathOperation operation) {
         if (operation != null) {
+            ConversionEvents events = context.getConversionEvents();
+            long start = events.start(Phase.OPERATION, operation.getId());
             pathOperationComponent.apply(markupDocBuilder, PathOperationComponent.parameters(operation));
+            events.end(Phase.OPERATION, operation.getId(), start);
+            events.count(Counter.OPERATIONS_RENDERED, 1);
         }
     }
 
@@ -250,9 +295,15 @@ public class PathsDocument extends MarkupComponent<PathsDocument.Parameters> {
 
     public static class Parameters {
         private final Map<String, Path> paths;
+        private final Writer writer;
 
         public Parameters(Map<String, Path> paths) {
+            this(paths, null);
+        }
+
+        public Parameters(Map<String, Path> paths, Writer writer) {
             this.paths = paths;
+            this.writer = writer;
         }
     }
 }
@@ -18,8 +18,8 @@ package io.github.swagger2markup.internal.resolver;
 
 import io.github.swagger2markup.Swagger2MarkupConverter;
 
-import java.io.File;
-
+import static io.github.swagger2markup.internal.utils.SeparatedFilesLayoutUtils.definitionSubdirectory;
+import static io.github.swagger2markup.internal.utils.SeparatedFilesLayoutUtils.resolve;
 import static io.github.swagger2markup.utils.IOUtils.normalizeName;
 
 public class DefinitionDocumentNameResolver extends DocumentResolver {
@@ -29,9 +29,10 @@ public class DefinitionDocumentNameResolver extends DocumentResolver {
     }
 
     public String apply(String definitionName) {
-        if (config.isSeparatedDefinitionsEnabled())
-            return new File(config.getSeparatedDefinitionsFolder(), markupDocBuilder.addFileExtension(normalizeName(definitionName))).getPath();
-        else
+        if (config.isSeparatedDefinitionsEnabled()) {
+            String fileName = markupDocBuilder.addFileExtension(normalizeName(definitionName));
+            return resolve(config.getSeparatedDefinitionsFolder(), definitionSubdirectory(config.getSeparatedFilesLayout(), fileName), fileName);
+        } else
             return markupDocBuilder.addFileExtension(config.getDefinitionsDocument());
     }
 }
@@ -32,9 +32,9 @@ public class DefinitionDocumentResolverDefault extends DocumentResolver {
     }
 
     public String apply(String definitionName) {
-        if (!config.isInterDocumentCrossReferencesEnabled() || context.getOutputPath() == null)
+        if (!config.isInterDocumentCrossReferencesEnabled() || (context.getOutputPath() == null && context.getOutputSink() == null))
             return null;
         else
-            return defaultString(config.getInterDocumentCrossReferencesPrefix()) + definitionDocumentNameResolver.apply(definitionName);
+            return defaultString(config.getInterDocumentCrossReferencesPrefix()) + crossReferenceDocument(config, definitionDocumentNameResolver.apply(definitionName));
     }
 }
\ No newline at end of file
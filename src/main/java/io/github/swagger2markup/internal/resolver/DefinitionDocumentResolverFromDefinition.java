@@ -18,12 +18,16 @@ package io.github.swagger2markup.internal.resolver;
 
 import io.github.swagger2markup.Swagger2MarkupConverter;
 
+import java.io.File;
+
+import static io.github.swagger2markup.internal.utils.SeparatedFilesLayoutUtils.definitionSubdirectory;
 import static io.github.swagger2markup.utils.IOUtils.normalizeName;
 import static org.apache.commons.lang3.StringUtils.defaultString;
 
 /**
  * Overrides definition document resolver functor for inter-document cross-references from definitions files.
- * This implementation simplifies the path between two definitions because all definitions are in the same path.
+ * This implementation simplifies the path between two definitions because all definitions are in the same path,
+ * or in sibling subdirectories of the same path depending on the separated files layout.
  */
 public class DefinitionDocumentResolverFromDefinition extends DefinitionDocumentResolverDefault {
 
@@ -34,9 +38,13 @@ public class DefinitionDocumentResolverFromDefinition extends DefinitionDocument
     public String apply(String definitionName) {
         String defaultResolver = super.apply(definitionName);
 
-        if (defaultResolver != null && config.isSeparatedDefinitionsEnabled())
-            return defaultString(config.getInterDocumentCrossReferencesPrefix()) + markupDocBuilder.addFileExtension(normalizeName(definitionName));
-        else
+        if (defaultResolver != null && config.isSeparatedDefinitionsEnabled()) {
+            String fileName = markupDocBuilder.addFileExtension(normalizeName(definitionName));
+            String subdirectory = definitionSubdirectory(config.getSeparatedFilesLayout(), fileName);
+            if (subdirectory != null)
+                fileName = new File(new File("..", subdirectory), fileName).getPath();
+            return defaultString(config.getInterDocumentCrossReferencesPrefix()) + crossReferenceDocument(config, fileName);
+        } else
             return defaultResolver;
     }
 }
\ No newline at end of file
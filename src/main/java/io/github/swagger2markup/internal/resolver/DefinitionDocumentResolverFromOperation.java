@@ -4,6 +4,7 @@ import io.github.swagger2markup.Swagger2MarkupConverter;
 
 import java.io.File;
 
+import static io.github.swagger2markup.internal.utils.SeparatedFilesLayoutUtils.depth;
 import static org.apache.commons.lang3.StringUtils.defaultString;
 
 /**
@@ -19,9 +20,12 @@ public class DefinitionDocumentResolverFromOperation extends DefinitionDocumentR
     public String apply(String definitionName) {
         String defaultResolver = super.apply(definitionName);
 
-        if (defaultResolver != null && config.isSeparatedOperationsEnabled())
-            return defaultString(config.getInterDocumentCrossReferencesPrefix()) + new File("..", defaultResolver).getPath();
-        else
+        if (defaultResolver != null && config.isSeparatedOperationsEnabled()) {
+            File parentDirectory = new File("..");
+            for (int level = 0; level < depth(config.getSeparatedFilesLayout()); level++)
+                parentDirectory = new File(parentDirectory, "..");
+            return defaultString(config.getInterDocumentCrossReferencesPrefix()) + new File(parentDirectory, defaultResolver).getPath();
+        } else
             return defaultResolver;
     }
 }
\ No newline at end of file
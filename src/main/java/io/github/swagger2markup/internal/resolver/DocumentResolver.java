@@ -19,6 +19,7 @@ package io.github.swagger2markup.internal.resolver;
 import io.github.swagger2markup.Swagger2MarkupConfig;
 import io.github.swagger2markup.Swagger2MarkupConverter;
 import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
+import io.github.swagger2markup.output.GzipOutputSink;
 import io.vavr.Function1;
 
 /**
@@ -35,4 +36,18 @@ public abstract class DocumentResolver implements Function1<String, String> {
         this.markupDocBuilder = context.createMarkupDocBuilder();
         this.config = context.getConfig();
     }
+
+    /**
+     * Returns the path of {@code document} to use in cross-references, with the gzip suffix if the output is gzip-compressed and cross-references include the suffix.
+     *
+     * @param config   the configuration
+     * @param document the path of the document
+     * @return the path of the document to use in cross-references
+     */
+    static String crossReferenceDocument(Swagger2MarkupConfig config, String document) {
+        if (config.isGzipOutputEnabled() && config.isGzipCrossReferencesSuffixEnabled())
+            return document + GzipOutputSink.GZIP_SUFFIX;
+        else
+            return document;
+    }
 }
\ No newline at end of file
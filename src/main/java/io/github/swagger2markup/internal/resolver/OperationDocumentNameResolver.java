@@ -19,8 +19,8 @@ package io.github.swagger2markup.internal.resolver;
 import io.github.swagger2markup.Swagger2MarkupConverter;
 import io.github.swagger2markup.model.PathOperation;
 
-import java.io.File;
-
+import static io.github.swagger2markup.internal.utils.SeparatedFilesLayoutUtils.operationSubdirectory;
+import static io.github.swagger2markup.internal.utils.SeparatedFilesLayoutUtils.resolve;
 import static io.github.swagger2markup.utils.IOUtils.normalizeName;
 
 public class OperationDocumentNameResolver extends OperationDocumentResolver {
@@ -30,9 +30,10 @@ public class OperationDocumentNameResolver extends OperationDocumentResolver {
     }
 
     public String apply(PathOperation operation) {
-        if (config.isSeparatedOperationsEnabled())
-            return new File(config.getSeparatedOperationsFolder(), markupDocBuilder.addFileExtension(normalizeName(operation.getId()))).getPath();
-        else
+        if (config.isSeparatedOperationsEnabled()) {
+            String fileName = markupDocBuilder.addFileExtension(normalizeName(operation.getId()));
+            return resolve(config.getSeparatedOperationsFolder(), operationSubdirectory(config.getSeparatedFilesLayout(), operation, fileName), fileName);
+        } else
             return markupDocBuilder.addFileExtension(config.getPathsDocument());
     }
 }
@@ -33,9 +33,9 @@ public class OperationDocumentResolverDefault extends OperationDocumentResolver
     }
 
     public String apply(PathOperation operation) {
-        if (!config.isInterDocumentCrossReferencesEnabled() || context.getOutputPath() == null)
+        if (!config.isInterDocumentCrossReferencesEnabled() || (context.getOutputPath() == null && context.getOutputSink() == null))
             return null;
         else
-            return defaultString(config.getInterDocumentCrossReferencesPrefix()) + operationDocumentNameResolver.apply(operation);
+            return defaultString(config.getInterDocumentCrossReferencesPrefix()) + DocumentResolver.crossReferenceDocument(config, operationDocumentNameResolver.apply(operation));
     }
 }
\ No newline at end of file
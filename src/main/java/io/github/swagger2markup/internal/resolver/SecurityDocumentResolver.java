@@ -26,9 +26,9 @@ public class SecurityDocumentResolver extends DocumentResolver {
     }
 
     public String apply(String definitionName) {
-        if (!config.isInterDocumentCrossReferencesEnabled() || context.getOutputPath() == null)
+        if (!config.isInterDocumentCrossReferencesEnabled() || (context.getOutputPath() == null && context.getOutputSink() == null))
             return null;
         else
-            return defaultString(config.getInterDocumentCrossReferencesPrefix()) + markupDocBuilder.addFileExtension(config.getSecurityDocument());
+            return defaultString(config.getInterDocumentCrossReferencesPrefix()) + crossReferenceDocument(config, markupDocBuilder.addFileExtension(config.getSecurityDocument()));
     }
 }
\ No newline at end of file
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.swagger2markup.spi.OutputSink;
+import io.swagger.util.Json;
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Manifest of the separated files produced by a conversion, mapping each file to the hash of the operation or definition it has been rendered from.<br>
+ * The manifest of the previous conversion is read from the output sink : a file whose hash did not change can be reused instead of being re-rendered.
+ * No file is reused if the conversion {@link ModelHasher#getFingerprint() fingerprint} changed, but the files of the previous conversion
+ * which are not produced anymore, e.g after a change of the separated files layout, are still deleted.
+ */
+public class BuildManifest {
+
+    public static final String MANIFEST_FILE_NAME = ".swagger2markup-manifest.json";
+
+    private static final Logger logger = LoggerFactory.getLogger(BuildManifest.class);
+    private static final String FINGERPRINT_FIELD = "fingerprint";
+    private static final String FILES_FIELD = "files";
+
+    private final OutputSink outputSink;
+    private final String fingerprint;
+    private final Map<String, String> previousFiles;
+    private final boolean reusable;
+    private final Map<String, String> files = new TreeMap<>();
+    private int reusedFiles;
+
+    private BuildManifest(OutputSink outputSink, String fingerprint, Map<String, String> previousFiles, boolean reusable) {
+        this.outputSink = outputSink;
+        this.fingerprint = fingerprint;
+        this.previousFiles = previousFiles;
+        this.reusable = reusable;
+    }
+
+    /**
+     * Loads the manifest of the previous conversion into {@code outputSink}.
+     *
+     * @param outputSink  the output sink
+     * @param fingerprint the fingerprint of the current conversion
+     * @return the manifest, without previous files if there is no previous manifest, and reusing no file if the fingerprint changed
+     */
+    public static BuildManifest load(OutputSink outputSink, String fingerprint) {
+        Validate.notNull(outputSink, "outputSink must not be null");
+        Validate.notNull(fingerprint, "fingerprint must not be null");
+
+        Map<String, String> previousFiles = new TreeMap<>();
+        boolean reusable = false;
+        try {
+            byte[] manifestContent = outputSink.read(MANIFEST_FILE_NAME);
+            if (manifestContent != null) {
+                JsonNode manifest = Json.mapper().readTree(manifestContent);
+                manifest.path(FILES_FIELD).fields().forEachRemaining(file -> previousFiles.put(file.getKey(), file.getValue().asText()));
+                reusable = fingerprint.equals(manifest.path(FINGERPRINT_FIELD).asText());
+                if (!reusable && logger.isInfoEnabled()) {
+                    logger.info("Configuration changed since the previous conversion : all separated files are rendered");
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to read build manifest '{}' : all separated files are rendered", MANIFEST_FILE_NAME, e);
+        }
+        return new BuildManifest(outputSink, fingerprint, previousFiles, reusable);
+    }
+
+    /**
+     * Checks whether the file of the previous conversion can be reused.
+     *
+     * @param file relative path of the file in the output sink
+     * @param hash hash of the operation or definition the file is rendered from
+     * @return true if the file exists and has been rendered from the same hash
+     */
+    public boolean isUpToDate(String file, String hash) {
+        try {
+            if (reusable && hash.equals(previousFiles.get(file)) && outputSink.exists(file)) {
+                outputSink.keep(file);
+                reusedFiles++;
+                return true;
+            }
+            return false;
+        } catch (IOException e) {
+            throw new RuntimeException(String.format("Failed to check file '%s'", file), e);
+        }
+    }
+
+    /**
+     * Records a file produced, or reused, by the current conversion.
+     *
+     * @param file relative path of the file in the output sink
+     * @param hash hash of the operation or definition the file is rendered from
+     */
+    public void put(String file, String hash) {
+        files.put(file, hash);
+    }
+
+    /**
+     * Returns the number of files reused from the previous conversion.
+     *
+     * @return the number of reused files
+     */
+    public int getReusedFiles() {
+        return reusedFiles;
+    }
+
+    /**
+     * Deletes the files of the previous conversion which have not been produced by the current conversion, then writes the manifest.
+     *
+     * @param outputFileWriter the output file writer
+     */
+    public void store(OutputFileWriter outputFileWriter) {
+        for (String previousFile : previousFiles.keySet()) {
+            if (!files.containsKey(previousFile)) {
+                try {
+                    outputSink.delete(previousFile);
+                } catch (IOException e) {
+                    throw new RuntimeException(String.format("Failed to delete stale file '%s'", previousFile), e);
+                }
+            }
+        }
+
+        ObjectNode manifest = Json.mapper().createObjectNode();
+        manifest.put(FINGERPRINT_FIELD, fingerprint);
+        ObjectNode filesNode = manifest.putObject(FILES_FIELD);
+        files.forEach(filesNode::put);
+        try {
+            outputFileWriter.write(outputSink, MANIFEST_FILE_NAME, Json.pretty().writeValueAsString(manifest), StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to write build manifest", e);
+        }
+    }
+}
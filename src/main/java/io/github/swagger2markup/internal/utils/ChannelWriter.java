@@ -0,0 +1,147 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.utils;
+
+import org.apache.commons.lang3.Validate;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+
+/**
+ * Writer encoding characters directly into a byte channel.<br>
+ * A single {@link CharsetEncoder} and a single direct {@link ByteBuffer} are used for the whole life of the writer,
+ * characters are encoded chunk by chunk, so that a document is never entirely held in memory in its encoded form.<br>
+ * Like {@link java.nio.file.Files#newBufferedWriter}, malformed or unmappable characters are reported as errors. The writer is not thread-safe.
+ */
+public class ChannelWriter extends Writer {
+
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final WritableByteChannel channel;
+    private final CharsetEncoder encoder;
+    private final CharBuffer charBuffer;
+    private final ByteBuffer byteBuffer;
+    private boolean closed;
+
+    public ChannelWriter(WritableByteChannel channel, Charset charset) {
+        this(channel, charset, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param channel    the channel to write to. It is closed with the writer
+     * @param charset    the charset to encode characters with
+     * @param bufferSize size of the character buffer, the byte buffer is sized for the maximum number of bytes per character of {@code charset}
+     */
+    public ChannelWriter(WritableByteChannel channel, Charset charset, int bufferSize) {
+        Validate.notNull(channel, "channel must not be null");
+        Validate.notNull(charset, "charset must not be null");
+        Validate.isTrue(bufferSize > 1, "bufferSize must be greater than 1");
+        this.channel = channel;
+        this.encoder = charset.newEncoder();
+        this.charBuffer = CharBuffer.allocate(bufferSize);
+        this.byteBuffer = ByteBuffer.allocateDirect((int) Math.ceil(bufferSize * encoder.maxBytesPerChar()));
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        ensureOpen();
+        while (len > 0) {
+            int count = Math.min(len, charBuffer.remaining());
+            charBuffer.put(cbuf, off, count);
+            off += count;
+            len -= count;
+            if (!charBuffer.hasRemaining())
+                encode(false);
+        }
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        ensureOpen();
+        while (len > 0) {
+            int count = Math.min(len, charBuffer.remaining());
+            charBuffer.put(str, off, off + count);
+            off += count;
+            len -= count;
+            if (!charBuffer.hasRemaining())
+                encode(false);
+        }
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        ensureOpen();
+        charBuffer.put((char) c);
+        if (!charBuffer.hasRemaining())
+            encode(false);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        encode(false);
+        drain();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed)
+            return;
+        closed = true;
+        try {
+            encode(true);
+            while (encoder.flush(byteBuffer).isOverflow())
+                drain();
+            drain();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Encodes the buffered characters into the byte buffer, draining it to the channel when it is full.<br>
+     * An incomplete surrogate pair is kept in the character buffer until the next call, unless {@code endOfInput} is true.
+     */
+    private void encode(boolean endOfInput) throws IOException {
+        charBuffer.flip();
+        CoderResult result = encoder.encode(charBuffer, byteBuffer, endOfInput);
+        while (result.isOverflow()) {
+            drain();
+            result = encoder.encode(charBuffer, byteBuffer, endOfInput);
+        }
+        if (result.isError())
+            result.throwException();
+        charBuffer.compact();
+    }
+
+    private void drain() throws IOException {
+        byteBuffer.flip();
+        while (byteBuffer.hasRemaining())
+            channel.write(byteBuffer);
+        byteBuffer.clear();
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed)
+            throw new IOException("Writer closed");
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.utils;
+
+import io.github.swagger2markup.spi.ConversionListener;
+import io.github.swagger2markup.spi.ConversionListener.Counter;
+import io.github.swagger2markup.spi.ConversionListener.Phase;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Dispatches the phases and counters of a conversion to the registered {@link ConversionListener}s.<br>
+ * Inactive listeners are left out. Without active listeners, no clock is read and every method returns immediately.
+ */
+public class ConversionEvents {
+
+    private final List<ConversionListener> listeners;
+
+    /**
+     * @param listeners the registered listeners, notified through their {@link ConversionListener#forConversion()} instance if they are active
+     */
+    public ConversionEvents(List<ConversionListener> listeners) {
+        this.listeners = listeners.stream()
+                .filter(ConversionListener::isActive)
+                .map(ConversionListener::forConversion)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns true if at least one active listener is registered.
+     *
+     * @return true if events are dispatched
+     */
+    public boolean isEnabled() {
+        return !listeners.isEmpty();
+    }
+
+    /**
+     * Notifies the start of a phase.
+     *
+     * @param phase the phase
+     * @param name  the name of the item processed by the phase, or null
+     * @return the start time to pass to {@link #end(Phase, String, long)}
+     */
+    public long start(Phase phase, String name) {
+        if (listeners.isEmpty())
+            return 0;
+        for (ConversionListener listener : listeners) {
+            listener.onStart(phase, name);
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Notifies the end of a phase.
+     *
+     * @param phase     the phase
+     * @param name      the name of the item processed by the phase, or null
+     * @param startTime the start time returned by {@link #start(Phase, String)}
+     */
+    public void end(Phase phase, String name, long startTime) {
+        if (listeners.isEmpty())
+            return;
+        long durationNanos = System.nanoTime() - startTime;
+        for (ConversionListener listener : listeners) {
+            listener.onEnd(phase, name, durationNanos);
+        }
+    }
+
+    /**
+     * Notifies a phase which has been measured beforehand, e.g the parsing of the Swagger source.
+     *
+     * @param phase         the phase
+     * @param name          the name of the item processed by the phase, or null
+     * @param durationNanos the duration of the phase in nanoseconds
+     */
+    public void record(Phase phase, String name, long durationNanos) {
+        for (ConversionListener listener : listeners) {
+            listener.onStart(phase, name);
+            listener.onEnd(phase, name, durationNanos);
+        }
+    }
+
+    /**
+     * Increments a counter.
+     *
+     * @param counter   the counter
+     * @param increment the increment, ignored if not positive
+     */
+    public void count(Counter counter, long increment) {
+        if (increment <= 0)
+            return;
+        for (ConversionListener listener : listeners) {
+            listener.onCount(counter, increment);
+        }
+    }
+}
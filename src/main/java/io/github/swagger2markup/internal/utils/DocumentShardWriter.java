@@ -0,0 +1,191 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.utils;
+
+import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
+import io.github.swagger2markup.spi.OutputSink;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static io.github.swagger2markup.internal.utils.MarkupDocBuilderUtils.copyMarkupDocBuilder;
+
+/**
+ * Splits a document into shard files of bounded size, and writes an index document including the shards on {@link #close()}.<br>
+ * The document is written as a sequence of items (operations or definitions), themselves part of groups (tags or regex groups),
+ * delimited by {@link #endItem()} and {@link #endGroup()}. Shards are cut between groups whenever possible :
+ * a group is only split between its items if it is larger than a shard on its own.<br>
+ * The shards are named after the document, e.g {@code paths-1.adoc}, {@code paths-2.adoc}. As the index includes every shard,
+ * anchors and cross-references of the document remain valid whatever shard they end up in.
+ * Shards left over by a previous conversion which produced more shards are deleted.
+ */
+public class DocumentShardWriter extends Writer {
+
+    private final OutputSink outputSink;
+    private final OutputFileWriter outputFileWriter;
+    private final MarkupDocBuilder markupDocBuilder;
+    private final String document;
+    private final int maxItems;
+    private final int maxSize;
+    private final List<String> shards = new ArrayList<>();
+    private final StringBuilder shard = new StringBuilder();
+    private final StringBuilder group = new StringBuilder();
+    private int shardItems;
+    private int groupItems;
+    private boolean closed;
+
+    /**
+     * @param outputSink       the output sink
+     * @param outputFileWriter the output file writer
+     * @param markupDocBuilder a docbuilder of the markup language of the document
+     * @param document         the name of the document, without file extension
+     * @param maxItems         maximum number of items per shard, 0 for no limit
+     * @param maxSize          target size of a shard in characters, 0 for no limit
+     */
+    public DocumentShardWriter(OutputSink outputSink, OutputFileWriter outputFileWriter, MarkupDocBuilder markupDocBuilder, String document, int maxItems, int maxSize) {
+        Validate.notNull(outputSink, "outputSink must not be null");
+        Validate.notNull(outputFileWriter, "outputFileWriter must not be null");
+        Validate.notNull(markupDocBuilder, "markupDocBuilder must not be null");
+        Validate.notBlank(document, "document must not be blank");
+        Validate.isTrue(maxItems >= 0, "%s must be a positive integer", "maxItems");
+        Validate.isTrue(maxSize >= 0, "%s must be a positive integer", "maxSize");
+        this.outputSink = outputSink;
+        this.outputFileWriter = outputFileWriter;
+        this.markupDocBuilder = markupDocBuilder;
+        this.document = document;
+        this.maxItems = maxItems;
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        ensureOpen();
+        group.append(cbuf, off, len);
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        ensureOpen();
+        group.append(str, off, off + len);
+    }
+
+    /**
+     * Ends an item of the current group. The group is split if it is already larger than a shard.
+     */
+    public void endItem() {
+        groupItems++;
+        if (isReached(group.length(), groupItems)) {
+            if (shardItems > 0)
+                cutShard();
+            appendGroup();
+            cutShard();
+        }
+    }
+
+    /**
+     * Ends the current group. The current shard is cut before the group if the group does not fit into it.
+     */
+    public void endGroup() {
+        if (shardItems > 0 && isExceeded(shard.length() + group.length(), shardItems + groupItems))
+            cutShard();
+        appendGroup();
+    }
+
+    /**
+     * Returns the names of the shards written so far.
+     *
+     * @return the shard names, including the file extension
+     */
+    public List<String> getShards() {
+        return Collections.unmodifiableList(shards);
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * Writes the last shard and the index document, then deletes the stale shards of a previous conversion.
+     */
+    @Override
+    public void close() {
+        if (closed)
+            return;
+        closed = true;
+        appendGroup();
+        if (StringUtils.isNotBlank(shard) || shards.isEmpty())
+            cutShard();
+
+        MarkupDocBuilder indexDocBuilder = copyMarkupDocBuilder(markupDocBuilder);
+        for (String shardName : shards) {
+            indexDocBuilder.textLine("include::" + shardName + "[]").newLine();
+        }
+        outputFileWriter.write(outputSink, markupDocBuilder.addFileExtension(document), indexDocBuilder.toString(), StandardCharsets.UTF_8);
+        deleteStaleShards();
+    }
+
+    /**
+     * Deletes the shards following the last shard written, until a shard does not exist or can't be deleted by the sink.
+     */
+    private void deleteStaleShards() {
+        for (int shardNumber = shards.size() + 1; ; shardNumber++) {
+            String shardName = markupDocBuilder.addFileExtension(document + "-" + shardNumber);
+            try {
+                if (!outputSink.exists(shardName))
+                    return;
+                outputSink.delete(shardName);
+                if (outputSink.exists(shardName))
+                    return;
+            } catch (IOException e) {
+                throw new RuntimeException(String.format("Failed to delete stale shard '%s'", shardName), e);
+            }
+        }
+    }
+
+    private boolean isReached(int size, int items) {
+        return (maxItems > 0 && items >= maxItems) || (maxSize > 0 && size >= maxSize);
+    }
+
+    private boolean isExceeded(int size, int items) {
+        return (maxItems > 0 && items > maxItems) || (maxSize > 0 && size > maxSize);
+    }
+
+    private void appendGroup() {
+        shard.append(group);
+        shardItems += groupItems;
+        group.setLength(0);
+        groupItems = 0;
+    }
+
+    private void cutShard() {
+        String shardName = markupDocBuilder.addFileExtension(document + "-" + (shards.size() + 1));
+        outputFileWriter.write(outputSink, shardName, shard.toString(), StandardCharsets.UTF_8);
+        shards.add(shardName);
+        shard.setLength(0);
+        shardItems = 0;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed)
+            throw new IOException(String.format("Shards of '%s' are already written", document));
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.utils;
+
+import io.github.swagger2markup.internal.type.ObjectType;
+import io.github.swagger2markup.markup.builder.MarkupLanguage;
+import org.apache.commons.lang3.Validate;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Cache of rendered markup fragments, shared by all the components of a conversion.<br>
+ * A fragment is addressed by the content of the rendered source (e.g. the structural signature of a properties map of the Swagger model),
+ * the renderer settings (e.g. the class of the definition document resolver) and the markup settings of the output,
+ * so that identical schemas parsed as distinct objects share their fragment.<br>
+ * The cache is bounded, the least recently used fragments are evicted first. It is not thread-safe.
+ */
+public class FragmentCache {
+
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    private final Map<Key, Fragment> fragments;
+
+    public FragmentCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxSize maximum number of cached fragments
+     */
+    public FragmentCache(int maxSize) {
+        Validate.isTrue(maxSize > 0, "maxSize must be greater than 0");
+        this.fragments = new LinkedHashMap<Key, Fragment>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Fragment> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached fragment for a key.
+     *
+     * @param key fragment key
+     * @return the cached fragment, or null
+     */
+    public Fragment get(Key key) {
+        return fragments.get(key);
+    }
+
+    public void put(Key key, Fragment fragment) {
+        fragments.put(Validate.notNull(key, "key must not be null"), Validate.notNull(fragment, "fragment must not be null"));
+    }
+
+    public void clear() {
+        fragments.clear();
+    }
+
+    public int size() {
+        return fragments.size();
+    }
+
+    /**
+     * Fragment key.<br>
+     * All the members are compared by value : {@code source} must address the content of the rendered object, e.g its structural signature,
+     * and {@code renderer} the settings it is rendered with, e.g the class of a stateless resolver.
+     * {@code scope} must be set when the rendered content depends on the context of the source (e.g. the unique name prefix of inline schemas), null otherwise.
+     */
+    public static final class Key {
+        private final Object source;
+        private final Object renderer;
+        private final String scope;
+        private final MarkupLanguage markupLanguage;
+        private final int titleLevel;
+        private final String anchorPrefix;
+        private final int hashCode;
+
+        public Key(Object source, Object renderer, String scope, MarkupLanguage markupLanguage, int titleLevel, String anchorPrefix) {
+            this.source = Validate.notNull(source, "source must not be null");
+            this.renderer = renderer;
+            this.scope = scope;
+            this.markupLanguage = Validate.notNull(markupLanguage, "markupLanguage must not be null");
+            this.titleLevel = titleLevel;
+            this.anchorPrefix = anchorPrefix;
+            this.hashCode = Objects.hash(source, renderer, scope, markupLanguage, titleLevel, anchorPrefix);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return source.equals(key.source) &&
+                    Objects.equals(renderer, key.renderer) &&
+                    titleLevel == key.titleLevel &&
+                    markupLanguage == key.markupLanguage &&
+                    Objects.equals(scope, key.scope) &&
+                    Objects.equals(anchorPrefix, key.anchorPrefix);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * Rendered fragment : the markup content and the inline definitions collected while rendering it.
+     */
+    public static final class Fragment {
+        private final String content;
+        private final List<ObjectType> inlineDefinitions;
+
+        public Fragment(String content, List<ObjectType> inlineDefinitions) {
+            this.content = Validate.notNull(content, "content must not be null");
+            this.inlineDefinitions = Collections.unmodifiableList(Validate.notNull(inlineDefinitions, "inlineDefinitions must not be null"));
+        }
+
+        public String getContent() {
+            return content;
+        }
+
+        public List<ObjectType> getInlineDefinitions() {
+            return inlineDefinitions;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.utils;
+
+import io.swagger.models.*;
+import io.swagger.models.parameters.BodyParameter;
+import io.swagger.models.parameters.Parameter;
+import io.swagger.models.properties.ArrayProperty;
+import io.swagger.models.properties.MapProperty;
+import io.swagger.models.properties.ObjectProperty;
+import io.swagger.models.properties.Property;
+import io.swagger.models.properties.RefProperty;
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+import static org.apache.commons.collections4.MapUtils.isNotEmpty;
+import static io.github.swagger2markup.utils.IOUtils.normalizeName;
+import static org.apache.commons.lang3.StringUtils.defaultIfBlank;
+
+/**
+ * Moves the inline object schemas of a Swagger specification which occur at least {@code threshold} times into its definitions.<br>
+ * Occurrences are compared with {@link InlineSchemaUtils#structuralSignature(Map)} and are replaced by a reference to the hoisted definition.
+ * The hoisted definition is named after the title of the first occurrence, or after its location if it has no title, normalized like file names.
+ * Inline schemas with additional properties, an example or an XML object are never hoisted, since only their properties are compared.
+ */
+public class InlineSchemaHoister {
+
+    private static final Logger logger = LoggerFactory.getLogger(InlineSchemaHoister.class);
+
+    private final int threshold;
+    private final Map<Map<String, Property>, String> signatures = new IdentityHashMap<>();
+    private final Map<String, Integer> occurrences = new HashMap<>();
+    private final Map<String, String> hoistedNames = new HashMap<>();
+    private final Map<String, Model> hoistedDefinitions = new LinkedHashMap<>();
+    private Set<String> definitionNames;
+    private boolean hoisting;
+
+    /**
+     * @param threshold minimum number of occurrences of an inline object schema to hoist it
+     */
+    public InlineSchemaHoister(int threshold) {
+        Validate.isTrue(threshold > 0, "threshold must be greater than 0");
+        this.threshold = threshold;
+    }
+
+    /**
+     * Hoists the repeated inline object schemas of {@code swagger} into its definitions.
+     *
+     * @param swagger the Swagger specification to update
+     * @return the number of hoisted definitions
+     */
+    public int apply(Swagger swagger) {
+        Validate.notNull(swagger, "swagger must not be null");
+        definitionNames = swagger.getDefinitions() == null ? new HashSet<>() : new HashSet<>(swagger.getDefinitions().keySet());
+
+        hoisting = false;
+        visitSwagger(swagger);
+        if (occurrences.values().stream().noneMatch(count -> count >= threshold))
+            return 0;
+
+        hoisting = true;
+        visitSwagger(swagger);
+        hoistedDefinitions.forEach(swagger::addDefinition);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Inline schemas hoisted into definitions : {}", hoistedDefinitions.keySet());
+        }
+        return hoistedDefinitions.size();
+    }
+
+    private void visitSwagger(Swagger swagger) {
+        if (swagger.getDefinitions() != null) {
+            for (Map.Entry<String, Model> definition : new ArrayList<>(swagger.getDefinitions().entrySet()))
+                visitDefinition(definition.getValue(), definition.getKey());
+        }
+        if (swagger.getParameters() != null) {
+            swagger.getParameters().forEach((name, parameter) -> visitParameter(parameter, name));
+        }
+        if (swagger.getResponses() != null) {
+            swagger.getResponses().forEach((name, response) -> visitResponse(response, name));
+        }
+        if (swagger.getPaths() != null) {
+            swagger.getPaths().forEach((pathName, path) -> path.getOperationMap().forEach((method, operation) -> {
+                String operationName = defaultIfBlank(operation.getOperationId(), method.toString().toLowerCase() + " " + pathName);
+                if (operation.getParameters() != null)
+                    operation.getParameters().forEach(parameter -> visitParameter(parameter, operationName + " " + parameter.getName()));
+                if (operation.getResponses() != null)
+                    operation.getResponses().forEach((code, response) -> visitResponse(response, operationName + " response " + code));
+            }));
+        }
+    }
+
+    private void visitDefinition(Model model, String name) {
+        if (model instanceof ComposedModel) {
+            List<Model> allOf = ((ComposedModel) model).getAllOf();
+            if (allOf != null)
+                allOf.forEach(innerModel -> visitDefinition(innerModel, name));
+        } else if (model instanceof ModelImpl) {
+            ModelImpl modelImpl = (ModelImpl) model;
+            if (modelImpl.getProperties() != null)
+                visitProperties(modelImpl.getProperties());
+            if (modelImpl.getAdditionalProperties() != null)
+                modelImpl.setAdditionalProperties(visitProperty(modelImpl.getAdditionalProperties(), name));
+        } else if (model instanceof ArrayModel) {
+            ArrayModel arrayModel = (ArrayModel) model;
+            if (arrayModel.getItems() != null)
+                arrayModel.setItems(visitProperty(arrayModel.getItems(), name));
+        }
+    }
+
+    private void visitParameter(Parameter parameter, String name) {
+        if (parameter instanceof BodyParameter) {
+            BodyParameter bodyParameter = (BodyParameter) parameter;
+            if (bodyParameter.getSchema() != null)
+                bodyParameter.setSchema(visitModel(bodyParameter.getSchema(), name));
+        }
+    }
+
+    private void visitResponse(Response response, String name) {
+        if (response.getResponseSchema() != null)
+            response.setResponseSchema(visitModel(response.getResponseSchema(), name));
+    }
+
+    /**
+     * Visits an inline model.
+     *
+     * @return the model to use in place of {@code model}
+     */
+    private Model visitModel(Model model, String name) {
+        if (model instanceof ModelImpl && isNotEmpty(model.getProperties()) && isHoistable((ModelImpl) model)) {
+            ModelImpl modelImpl = (ModelImpl) model;
+            String definitionName = visitObject(modelImpl.getProperties(), defaultIfBlank(modelImpl.getTitle(), name), modelImpl.getDescription());
+            if (definitionName != null)
+                return new RefModel(definitionName);
+        } else {
+            visitDefinition(model, name);
+        }
+        return model;
+    }
+
+    /**
+     * Visits an inline property.
+     *
+     * @return the property to use in place of {@code property}
+     */
+    private Property visitProperty(Property property, String name) {
+        if (property instanceof ObjectProperty && isNotEmpty(((ObjectProperty) property).getProperties())) {
+            if (!isHoistable(property)) {
+                visitProperties(((ObjectProperty) property).getProperties());
+                return property;
+            }
+            String definitionName = visitObject(((ObjectProperty) property).getProperties(), defaultIfBlank(property.getTitle(), name), property.getDescription());
+            if (definitionName != null) {
+                RefProperty refProperty = new RefProperty(definitionName);
+                refProperty.setRequired(property.getRequired());
+                refProperty.setReadOnly(property.getReadOnly());
+                refProperty.setDescription(property.getDescription());
+                return refProperty;
+            }
+        } else if (property instanceof ArrayProperty) {
+            ArrayProperty arrayProperty = (ArrayProperty) property;
+            if (arrayProperty.getItems() != null)
+                arrayProperty.setItems(visitProperty(arrayProperty.getItems(), name));
+        } else if (property instanceof MapProperty) {
+            MapProperty mapProperty = (MapProperty) property;
+            if (mapProperty.getAdditionalProperties() != null)
+                mapProperty.setAdditionalProperties(visitProperty(mapProperty.getAdditionalProperties(), name));
+        }
+        return property;
+    }
+
+    private static boolean isHoistable(ModelImpl model) {
+        return model.getAdditionalProperties() == null && model.getExample() == null && model.getXml() == null;
+    }
+
+    private static boolean isHoistable(Property property) {
+        return property.getExample() == null && property.getXml() == null;
+    }
+
+    private void visitProperties(Map<String, Property> properties) {
+        for (Map.Entry<String, Property> property : properties.entrySet()) {
+            Property replacement = visitProperty(property.getValue(), property.getKey());
+            if (replacement != property.getValue())
+                property.setValue(replacement);
+        }
+    }
+
+    /**
+     * Visits an inline object schema : counts its occurrence, or hoists it if it occurs often enough.
+     *
+     * @return the name of the definition replacing the inline object schema, or null if it is kept inline
+     */
+    private String visitObject(Map<String, Property> properties, String name, String description) {
+        String signature = signatures.computeIfAbsent(properties, InlineSchemaUtils::structuralSignature);
+        if (!hoisting) {
+            occurrences.merge(signature, 1, Integer::sum);
+            visitProperties(properties);
+            return null;
+        }
+        if (occurrences.getOrDefault(signature, 0) < threshold) {
+            visitProperties(properties);
+            return null;
+        }
+
+        String definitionName = hoistedNames.get(signature);
+        if (definitionName == null) {
+            definitionName = uniqueDefinitionName(name);
+            hoistedNames.put(signature, definitionName);
+            visitProperties(properties);
+
+            ModelImpl definition = new ModelImpl();
+            definition.setType(ModelImpl.OBJECT);
+            definition.setDescription(description);
+            definition.setProperties(properties);
+            hoistedDefinitions.put(definitionName, definition);
+        }
+        return definitionName;
+    }
+
+    private String uniqueDefinitionName(String name) {
+        String normalizedName = defaultIfBlank(normalizeName(name), "inline");
+        String definitionName = normalizedName;
+        for (int i = 2; !definitionNames.add(definitionName); i++)
+            definitionName = normalizedName + "_" + i;
+        return definitionName;
+    }
+}
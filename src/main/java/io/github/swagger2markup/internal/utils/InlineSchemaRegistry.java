@@ -0,0 +1,54 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.utils;
+
+import io.github.swagger2markup.internal.type.ObjectType;
+import io.swagger.models.properties.Property;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Registry of the inline schemas rendered in the current document, indexed by structural signature.<br>
+ * The registry must be cleared each time a new document is started, so that references never target another document.
+ */
+public class InlineSchemaRegistry {
+
+    private final Map<String, ObjectType> renderedSchemas = new HashMap<>();
+    private final Map<Map<String, Property>, String> signatures = new IdentityHashMap<>();
+
+    /**
+     * Registers an inline schema about to be rendered.
+     *
+     * @param inlineSchema inline schema to render
+     * @return the structurally identical inline schema already rendered in the current document, or null if {@code inlineSchema} must be rendered in full
+     */
+    public ObjectType register(ObjectType inlineSchema) {
+        String signature = signatures.computeIfAbsent(inlineSchema.getProperties(), InlineSchemaUtils::structuralSignature);
+        ObjectType renderedSchema = renderedSchemas.putIfAbsent(signature, inlineSchema);
+        if (renderedSchema == null || renderedSchema == inlineSchema || renderedSchema.getUniqueName().equals(inlineSchema.getUniqueName()))
+            return null;
+        return renderedSchema;
+    }
+
+    /**
+     * Starts a new document.
+     */
+    public void clear() {
+        renderedSchemas.clear();
+    }
+}
@@ -16,13 +16,24 @@
 package io.github.swagger2markup.internal.utils;
 
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.github.swagger2markup.internal.type.*;
+import io.swagger.models.properties.Property;
+import io.swagger.util.Json;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import static org.apache.commons.collections4.MapUtils.isNotEmpty;
 
 public class InlineSchemaUtils {
+
+    private static final ObjectWriter SIGNATURE_WRITER = Json.mapper().writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
     /**
      * Returns a RefType to a new inlined type named with {@code name} and {@code uniqueName}.<br>
      * The returned RefType point to the new inlined type which is added to the {@code inlineDefinitions} collection.<br>
@@ -69,4 +80,21 @@ public class InlineSchemaUtils {
         } else
             return type;
     }
+
+    /**
+     * Returns the structural signature of an object schema.<br>
+     * Two object schemas have the same signature if their properties are identical, whatever their name or their location in the specification.
+     *
+     * @param properties properties of the object schema
+     * @return the signature of the object schema
+     */
+    public static String structuralSignature(Map<String, Property> properties) {
+        Map<String, Object> structure = new TreeMap<>();
+        properties.forEach((name, property) -> structure.put(name, Arrays.asList(property.getRequired(), property)));
+        try {
+            return SIGNATURE_WRITER.writeValueAsString(structure);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to compute the signature of an inline schema", e);
+        }
+    }
 }
@@ -15,11 +15,18 @@
  */
 package io.github.swagger2markup.internal.utils;
 
+import io.github.swagger2markup.Swagger2MarkupConfig;
+import io.github.swagger2markup.Swagger2MarkupConverter;
 import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
 import io.github.swagger2markup.markup.builder.MarkupLanguage;
+import io.github.swagger2markup.spi.ConversionListener.Counter;
+import io.github.swagger2markup.spi.ConversionListener.Phase;
+import io.github.swagger2markup.utils.DescriptionCache;
 import org.apache.commons.lang3.StringUtils;
 
+import java.io.IOException;
 import java.io.StringReader;
+import java.io.Writer;
 
 public class MarkupDocBuilderUtils {
 
@@ -27,6 +34,51 @@ public class MarkupDocBuilderUtils {
         return markupDocBuilder.copy(false);
     }
 
+    /**
+     * Writes the content of {@code markupDocBuilder} to {@code writer} and returns an empty copy of {@code markupDocBuilder} to build the rest of the document with.<br>
+     * The function is transparent if {@code writer} is null : {@code markupDocBuilder} is returned as-is.
+     * If {@code writer} is a {@link DocumentShardWriter}, the content is an item of the document.
+     *
+     * @param markupDocBuilder the docbuilder to flush
+     * @param writer           the writer, or null
+     * @return the docbuilder to continue the document with
+     */
+    public static MarkupDocBuilder flushMarkupDocBuilder(MarkupDocBuilder markupDocBuilder, Writer writer) {
+        if (writer == null) {
+            return markupDocBuilder;
+        }
+        write(markupDocBuilder, writer);
+        if (writer instanceof DocumentShardWriter) {
+            ((DocumentShardWriter) writer).endItem();
+        }
+        return copyMarkupDocBuilder(markupDocBuilder);
+    }
+
+    /**
+     * Ends a group of items of the document, e.g the operations of a tag, so that a {@link DocumentShardWriter} can start a new shard.<br>
+     * The function is transparent if {@code writer} is not a {@link DocumentShardWriter} : {@code markupDocBuilder} is returned as-is.
+     *
+     * @param markupDocBuilder the docbuilder to flush
+     * @param writer           the writer, or null
+     * @return the docbuilder to continue the document with
+     */
+    public static MarkupDocBuilder endMarkupDocBuilderGroup(MarkupDocBuilder markupDocBuilder, Writer writer) {
+        if (!(writer instanceof DocumentShardWriter)) {
+            return markupDocBuilder;
+        }
+        write(markupDocBuilder, writer);
+        ((DocumentShardWriter) writer).endGroup();
+        return copyMarkupDocBuilder(markupDocBuilder);
+    }
+
+    private static void write(MarkupDocBuilder markupDocBuilder, Writer writer) {
+        try {
+            writer.write(markupDocBuilder.toString());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write document section", e);
+        }
+    }
+
     public static String literalText(MarkupDocBuilder markupDocBuilder, String text) {
         if (StringUtils.isBlank(text)) {
             return StringUtils.EMPTY;
@@ -60,6 +112,34 @@ public class MarkupDocBuilderUtils {
                 .crossReference(document, anchor, text).toString();
     }
 
+    /**
+     * Converts a description from the markup language of the Swagger source to the output markup language,
+     * using the {@link DescriptionCache} of the context.
+     *
+     * @param context          the context of the conversion
+     * @param markupDocBuilder the docbuilder of the output markup language
+     * @param markupText       the description
+     * @return the converted description
+     */
+    public static String markupDescription(Swagger2MarkupConverter.Context context, MarkupDocBuilder markupDocBuilder, String markupText) {
+        if (StringUtils.isBlank(markupText)) {
+            return StringUtils.EMPTY;
+        }
+        Swagger2MarkupConfig config = context.getConfig();
+        ConversionEvents events = context.getConversionEvents();
+        boolean[] imported = new boolean[1];
+        String description = context.getDescriptionCache().get(config, markupText, () -> {
+            imported[0] = true;
+            long start = events.start(Phase.DESCRIPTION_IMPORT, null);
+            String importedDescription = markupDescription(config.getSwaggerMarkupLanguage(), markupDocBuilder, markupText);
+            events.end(Phase.DESCRIPTION_IMPORT, null, start);
+            return importedDescription;
+        });
+        if (!imported[0])
+            events.count(Counter.DESCRIPTION_CACHE_HITS, 1);
+        return description;
+    }
+
     public static String markupDescription(MarkupLanguage swaggerMarkupLanguage, MarkupDocBuilder markupDocBuilder, String markupText) {
         if (StringUtils.isBlank(markupText)) {
             return StringUtils.EMPTY;
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.github.swagger2markup.Swagger2MarkupConfig;
+import io.github.swagger2markup.Swagger2MarkupConverter;
+import io.github.swagger2markup.Swagger2MarkupExtensionRegistry;
+import io.github.swagger2markup.Swagger2MarkupProperties;
+import io.github.swagger2markup.model.PathOperation;
+import io.github.swagger2markup.utils.HashUtils;
+import io.swagger.models.Model;
+import io.swagger.models.Response;
+import io.swagger.models.Swagger;
+import io.swagger.models.parameters.Parameter;
+import io.swagger.util.Json;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Computes the hashes of the operations and definitions of a Swagger specification, used to detect which separated files must be re-rendered.<br>
+ * The hash of an operation or a definition covers its source model node, the source model nodes of all the definitions it transitively references
+ * and the {@link #getFingerprint() fingerprint} of the conversion.
+ */
+public class ModelHasher {
+
+    private static final String DEFINITION_REF_PREFIX = "#/definitions/";
+    private static final String PARAMETER_REF_PREFIX = "#/parameters/";
+    private static final String RESPONSE_REF_PREFIX = "#/responses/";
+    private static final String LIBRARY_VERSION = String.valueOf(Swagger2MarkupConverter.class.getPackage().getImplementationVersion());
+    private static final ObjectWriter SIGNATURE_WRITER = Json.mapper().writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+    private final Map<String, Model> definitions;
+    private final Map<String, Parameter> parameters;
+    private final Map<String, Response> responses;
+    private final String fingerprint;
+    private final String globalSignature;
+    private final Map<String, String> definitionSignatures = new HashMap<>();
+    private final Map<String, Set<String>> definitionReferences = new HashMap<>();
+
+    public ModelHasher(Swagger2MarkupConverter.Context context) {
+        Swagger swagger = context.getSwagger();
+        this.definitions = swagger.getDefinitions() != null ? swagger.getDefinitions() : Collections.emptyMap();
+        this.parameters = swagger.getParameters() != null ? swagger.getParameters() : Collections.emptyMap();
+        this.responses = swagger.getResponses() != null ? swagger.getResponses() : Collections.emptyMap();
+        this.fingerprint = digest(LIBRARY_VERSION + '\n' + configSignature(context.getConfig()) + extensionsSignature(context.getExtensionRegistry()));
+        this.globalSignature = signature(Arrays.asList(swagger.getBasePath(), swagger.getConsumes(), swagger.getProduces(),
+                swagger.getSecurityDefinitions()));
+    }
+
+    /**
+     * Returns the fingerprint of the conversion : the library version, the configuration, the registered extensions and their {@link io.github.swagger2markup.spi.SwaggerModelExtension#getContentHash() content hash}.<br>
+     * Values of the configuration which are neither strings, numbers, booleans nor enums (e.g. comparators) only contribute their class name.
+     *
+     * @return the conversion fingerprint
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Returns the hash of a configuration, computed like the configuration part of the {@link #getFingerprint() fingerprint}.
+     *
+     * @param config the configuration
+     * @return the configuration hash
+     */
+    public static String configHash(Swagger2MarkupConfig config) {
+        return digest(configSignature(config));
+    }
+
+    /**
+     * Returns the configuration values without value semantics, e.g. the ordering comparators, in a stable order.<br>
+     * The {@link #configHash(Swagger2MarkupConfig) configuration hash} only covers their class, callers which must tell them apart compare them with {@code equals}.
+     *
+     * @param config the configuration
+     * @return the configuration values without value semantics
+     */
+    public static List<Object> configObjectValues(Swagger2MarkupConfig config) {
+        List<Object> objectValues = new ArrayList<>();
+        configValues(config).values().forEach(value -> {
+            if (!hasValueSignature(value))
+                objectValues.add(value);
+        });
+        return objectValues;
+    }
+
+    /**
+     * Returns the hash of a definition.
+     *
+     * @param definitionName the definition name
+     * @return the definition hash
+     */
+    public String definitionHash(String definitionName) {
+        return hash(definitionSignature(definitionName), definitionReferences(definitionName));
+    }
+
+    /**
+     * Returns the hash of an operation.
+     *
+     * @param operation the operation
+     * @return the operation hash
+     */
+    public String operationHash(PathOperation operation) {
+        JsonNode operationNode = Json.mapper().valueToTree(operation.getOperation());
+        StringBuilder signature = new StringBuilder(globalSignature).append('\n')
+                .append(operation.getMethod()).append(' ').append(operation.getPath()).append('\n')
+                .append(signature(operationNode));
+        Set<String> references = new TreeSet<>();
+        Set<String> globalReferences = new TreeSet<>();
+        collectReferences(operationNode, references, globalReferences);
+        for (String globalReference : globalReferences) {
+            Object globalNode = globalReference.startsWith(PARAMETER_REF_PREFIX) ?
+                    parameters.get(globalReference.substring(PARAMETER_REF_PREFIX.length())) :
+                    responses.get(globalReference.substring(RESPONSE_REF_PREFIX.length()));
+            if (globalNode != null) {
+                JsonNode node = Json.mapper().valueToTree(globalNode);
+                signature.append('\n').append(globalReference).append('=').append(signature(node));
+                collectReferences(node, references, new TreeSet<>());
+            }
+        }
+        return hash(signature.toString(), references);
+    }
+
+    private String hash(String signature, Set<String> references) {
+        StringBuilder content = new StringBuilder(fingerprint).append('\n').append(signature);
+        for (String definitionName : transitiveReferences(references))
+            content.append('\n').append(definitionName).append('=').append(definitionSignature(definitionName));
+        return digest(content.toString());
+    }
+
+    /**
+     * Walks the definition dependency graph from {@code references}, cycles included.
+     *
+     * @return the names of all the definitions transitively referenced, sorted
+     */
+    private Set<String> transitiveReferences(Set<String> references) {
+        Set<String> visited = new TreeSet<>();
+        Deque<String> worklist = new ArrayDeque<>(references);
+        while (!worklist.isEmpty()) {
+            String definitionName = worklist.pop();
+            if (visited.add(definitionName))
+                worklist.addAll(definitionReferences(definitionName));
+        }
+        return visited;
+    }
+
+    private String definitionSignature(String definitionName) {
+        computeDefinition(definitionName);
+        return definitionSignatures.get(definitionName);
+    }
+
+    private Set<String> definitionReferences(String definitionName) {
+        computeDefinition(definitionName);
+        return definitionReferences.get(definitionName);
+    }
+
+    private void computeDefinition(String definitionName) {
+        if (definitionSignatures.containsKey(definitionName))
+            return;
+        Model model = definitions.get(definitionName);
+        JsonNode definitionNode = model != null ? Json.mapper().valueToTree(model) : null;
+        Set<String> references = new TreeSet<>();
+        if (definitionNode != null)
+            collectReferences(definitionNode, references, new TreeSet<>());
+        definitionSignatures.put(definitionName, definitionNode != null ? signature(definitionNode) : "");
+        definitionReferences.put(definitionName, references);
+    }
+
+    /**
+     * Collects the names of the definitions, and the global parameters and responses, referenced anywhere in {@code node}.
+     *
+     * @param node             the node to walk
+     * @param references       the names of the referenced definitions
+     * @param globalReferences the references to global parameters and responses
+     */
+    private void collectReferences(JsonNode node, Set<String> references, Set<String> globalReferences) {
+        Deque<JsonNode> worklist = new ArrayDeque<>();
+        worklist.push(node);
+        while (!worklist.isEmpty()) {
+            JsonNode currentNode = worklist.pop();
+            JsonNode ref = currentNode.get("$ref");
+            if (ref != null && ref.isTextual()) {
+                String reference = ref.asText();
+                if (reference.startsWith(DEFINITION_REF_PREFIX))
+                    references.add(reference.substring(DEFINITION_REF_PREFIX.length()));
+                else if (reference.startsWith(PARAMETER_REF_PREFIX) || reference.startsWith(RESPONSE_REF_PREFIX))
+                    globalReferences.add(reference);
+            }
+            currentNode.elements().forEachRemaining(worklist::push);
+        }
+    }
+
+    private static String configSignature(Swagger2MarkupConfig config) {
+        Map<String, String> values = new TreeMap<>();
+        configValues(config).forEach((name, value) -> values.put(name, valueSignature(value)));
+        return values.toString();
+    }
+
+    private static Map<String, Object> configValues(Swagger2MarkupConfig config) {
+        Map<String, Object> values = new TreeMap<>();
+        for (Method method : Swagger2MarkupConfig.class.getMethods()) {
+            if (method.getParameterCount() != 0)
+                continue;
+            try {
+                values.put(method.getName(), method.invoke(config));
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new RuntimeException(String.format("Failed to read configuration value '%s'", method.getName()), e);
+            }
+        }
+        return values;
+    }
+
+    private static boolean hasValueSignature(Object value) {
+        return value == null || value instanceof CharSequence || value instanceof Number || value instanceof Boolean || value instanceof Character
+                || value instanceof Enum || value instanceof Pattern || value instanceof URI || value instanceof Collection
+                || value instanceof Swagger2MarkupProperties;
+    }
+
+    private static String valueSignature(Object value) {
+        if (value == null || value instanceof CharSequence || value instanceof Number || value instanceof Boolean || value instanceof Character
+                || value instanceof Enum || value instanceof Pattern || value instanceof URI || value instanceof Collection) {
+            return String.valueOf(value);
+        } else if (value instanceof Swagger2MarkupProperties) {
+            Swagger2MarkupProperties properties = (Swagger2MarkupProperties) value;
+            Map<String, String> values = new TreeMap<>();
+            properties.getKeys().forEach(key -> values.put(key, properties.getString(key).orElse(null)));
+            return values.toString();
+        } else {
+            return value.getClass().getName();
+        }
+    }
+
+    private static String extensionsSignature(Swagger2MarkupExtensionRegistry extensionRegistry) {
+        StringBuilder signature = new StringBuilder();
+        extensionRegistry.getSwaggerModelExtensions().forEach(extension -> appendExtension(signature, extension, extension.getContentHash()));
+        extensionRegistry.getOverviewDocumentExtensions().forEach(extension -> appendExtension(signature, extension, extension.getContentHash()));
+        extensionRegistry.getPathsDocumentExtensions().forEach(extension -> appendExtension(signature, extension, extension.getContentHash()));
+        extensionRegistry.getDefinitionsDocumentExtensions().forEach(extension -> appendExtension(signature, extension, extension.getContentHash()));
+        extensionRegistry.getSecurityDocumentExtensions().forEach(extension -> appendExtension(signature, extension, extension.getContentHash()));
+        return signature.toString();
+    }
+
+    private static void appendExtension(StringBuilder signature, Object extension, String contentHash) {
+        signature.append(extension.getClass().getName());
+        if (contentHash != null)
+            signature.append('=').append(contentHash);
+        signature.append(';');
+    }
+
+    private static String signature(Object node) {
+        try {
+            return SIGNATURE_WRITER.writeValueAsString(node);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to compute model signature", e);
+        }
+    }
+
+    private static String digest(String content) {
+        return HashUtils.sha256Hex(content);
+    }
+}
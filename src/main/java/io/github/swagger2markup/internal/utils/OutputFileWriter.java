@@ -0,0 +1,114 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.utils;
+
+import io.github.swagger2markup.spi.OutputSink;
+import org.apache.commons.lang3.Validate;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Writes the output files of a conversion to an {@link OutputSink}.<br>
+ * If {@code skipUnchanged} is true, a file whose content is identical to the rendered content is left untouched,
+ * so that its modification time is preserved for incremental downstream builds.
+ */
+public class OutputFileWriter {
+
+    private final boolean skipUnchanged;
+    private int writtenFiles;
+    private int skippedFiles;
+    private long writtenBytes;
+
+    /**
+     * @param skipUnchanged true to leave the files whose content did not change untouched
+     */
+    public OutputFileWriter(boolean skipUnchanged) {
+        this.skipUnchanged = skipUnchanged;
+    }
+
+    /**
+     * Writes {@code content} to the file {@code name} of {@code outputSink}.
+     *
+     * @param outputSink the output sink
+     * @param name       relative path of the file
+     * @param content    the rendered content
+     * @param charset    the charset of the file
+     * @return true if the file has been written, false if it has been skipped because it did not change
+     */
+    public boolean write(OutputSink outputSink, String name, String content, Charset charset) {
+        Validate.notNull(outputSink, "outputSink must not be null");
+        Validate.notNull(name, "name must not be null");
+        Validate.notNull(content, "content must not be null");
+        Validate.notNull(charset, "charset must not be null");
+
+        byte[] bytes = content.getBytes(charset);
+        try {
+            if (skipUnchanged && isUnchanged(outputSink.read(name), bytes)) {
+                outputSink.keep(name);
+                skippedFiles++;
+                return false;
+            }
+            outputSink.write(name, bytes);
+            writtenFiles++;
+            writtenBytes += bytes.length;
+            return true;
+        } catch (IOException e) {
+            throw new RuntimeException(String.format("Failed to write file '%s'", name), e);
+        }
+    }
+
+    /**
+     * Returns the number of files written since the last {@link #reset()}.
+     *
+     * @return the number of written files
+     */
+    public int getWrittenFiles() {
+        return writtenFiles;
+    }
+
+    /**
+     * Returns the number of unchanged files skipped since the last {@link #reset()}.
+     *
+     * @return the number of skipped files
+     */
+    public int getSkippedFiles() {
+        return skippedFiles;
+    }
+
+    /**
+     * Returns the number of bytes of the files written since the last {@link #reset()}.
+     *
+     * @return the number of written bytes
+     */
+    public long getWrittenBytes() {
+        return writtenBytes;
+    }
+
+    /**
+     * Resets the counters, before a new conversion.
+     */
+    public void reset() {
+        writtenFiles = 0;
+        skippedFiles = 0;
+        writtenBytes = 0;
+    }
+
+    private boolean isUnchanged(byte[] previousBytes, byte[] bytes) {
+        return previousBytes != null && Arrays.equals(previousBytes, bytes);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.util.Yaml;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Collects the local files a Swagger specification is made of : the specification file and the files it transitively references with relative
+ * or {@code file:} {@code $ref}s.<br>
+ * References to remote URLs are ignored. A file which can't be parsed is still collected, its references are not followed.
+ */
+public class ReferencedFiles {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReferencedFiles.class);
+    private static final String REF_FIELD = "$ref";
+    private static final Pattern REMOTE_REF = Pattern.compile("^[a-zA-Z][a-zA-Z0-9+.-]+:.*");
+
+    /**
+     * Collects the files of the specification.
+     *
+     * @param swaggerPath the specification file
+     * @return the absolute, normalized paths of the specification file and of the existing files it transitively references
+     */
+    public static Set<Path> collect(Path swaggerPath) {
+        Validate.notNull(swaggerPath, "swaggerPath must not be null");
+
+        Set<Path> files = new LinkedHashSet<>();
+        Deque<Path> pending = new ArrayDeque<>();
+        pending.add(swaggerPath.toAbsolutePath().normalize());
+        while (!pending.isEmpty()) {
+            Path file = pending.poll();
+            if (!files.add(file))
+                continue;
+            JsonNode root;
+            try {
+                root = Yaml.mapper().readTree(Files.readAllBytes(file));
+            } catch (IOException e) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Failed to parse '{}', its references are ignored", file, e);
+                }
+                continue;
+            }
+            collectReferences(root, file, pending);
+        }
+        return files;
+    }
+
+    /**
+     * Returns the {@code $ref}s of a specification document which point to another document : local files or remote URLs.
+     *
+     * @param content the specification document
+     * @return the external references, in document order, or an empty set if the document can't be parsed
+     */
+    public static Set<String> externalReferences(byte[] content) {
+        Validate.notNull(content, "content must not be null");
+
+        JsonNode root;
+        try {
+            root = Yaml.mapper().readTree(content);
+        } catch (IOException e) {
+            return new LinkedHashSet<>();
+        }
+        Set<String> references = new LinkedHashSet<>();
+        Deque<JsonNode> worklist = new ArrayDeque<>();
+        if (root != null)
+            worklist.push(root);
+        while (!worklist.isEmpty()) {
+            JsonNode node = worklist.pop();
+            JsonNode ref = node.get(REF_FIELD);
+            if (ref != null && ref.isTextual() && !StringUtils.substringBefore(ref.asText(), "#").isEmpty())
+                references.add(ref.asText());
+            node.elements().forEachRemaining(worklist::push);
+        }
+        return references;
+    }
+
+    /**
+     * Resolves an external {@code $ref} of a specification file to a local file.
+     *
+     * @param file the specification file containing the reference
+     * @param ref  the reference
+     * @return the absolute, normalized path of the referenced file, or null if the reference is local to {@code file}, points to a remote URL or is malformed
+     */
+    public static Path resolve(Path file, String ref) {
+        Validate.notNull(file, "file must not be null");
+        Validate.notNull(ref, "ref must not be null");
+
+        String location = StringUtils.substringBefore(ref, "#");
+        if (location.isEmpty())
+            return null;
+        try {
+            if (location.startsWith("file:"))
+                return Paths.get(URI.create(location)).toAbsolutePath().normalize();
+            if (REMOTE_REF.matcher(location).matches())
+                return null;
+            return file.toAbsolutePath().resolveSibling(location).normalize();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void collectReferences(JsonNode node, Path file, Deque<Path> pending) {
+        if (node == null)
+            return;
+        if (node.isObject()) {
+            JsonNode ref = node.get(REF_FIELD);
+            if (ref != null && ref.isTextual()) {
+                Path referencedFile = resolve(file, ref.asText());
+                if (referencedFile != null && Files.isRegularFile(referencedFile))
+                    pending.add(referencedFile);
+            }
+        }
+        if (node.isContainerNode())
+            node.forEach(child -> collectReferences(child, file, pending));
+    }
+}
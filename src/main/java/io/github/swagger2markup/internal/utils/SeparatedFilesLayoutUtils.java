@@ -0,0 +1,97 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.utils;
+
+import io.github.swagger2markup.SeparatedFilesLayout;
+import io.github.swagger2markup.model.PathOperation;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.File;
+import java.util.List;
+
+import static io.github.swagger2markup.utils.IOUtils.normalizeName;
+
+/**
+ * Computes the subdirectories of the separated operation and definition files, depending on the {@link SeparatedFilesLayout}.
+ */
+public class SeparatedFilesLayoutUtils {
+
+    public static final String UNTAGGED_DIRECTORY = "untagged";
+
+    /**
+     * Returns the subdirectory of a separated definition file.
+     *
+     * @param layout   the separated files layout
+     * @param fileName the name of the definition file
+     * @return the subdirectory, or null if the file is directly in the definitions folder
+     */
+    public static String definitionSubdirectory(SeparatedFilesLayout layout, String fileName) {
+        if (layout == null || layout == SeparatedFilesLayout.FLAT)
+            return null;
+        else
+            return hashDirectory(fileName);
+    }
+
+    /**
+     * Returns the subdirectory of a separated operation file.
+     *
+     * @param layout    the separated files layout
+     * @param operation the operation
+     * @param fileName  the name of the operation file
+     * @return the subdirectory, or null if the file is directly in the operations folder
+     */
+    public static String operationSubdirectory(SeparatedFilesLayout layout, PathOperation operation, String fileName) {
+        if (layout == null || layout == SeparatedFilesLayout.FLAT)
+            return null;
+        else if (layout == SeparatedFilesLayout.TAGS)
+            return tagDirectory(operation);
+        else
+            return hashDirectory(fileName);
+    }
+
+    /**
+     * Returns the number of subdirectory levels between a separated files folder and its files.
+     *
+     * @param layout the separated files layout
+     * @return the number of subdirectory levels
+     */
+    public static int depth(SeparatedFilesLayout layout) {
+        return layout == null || layout == SeparatedFilesLayout.FLAT ? 0 : 1;
+    }
+
+    /**
+     * Resolves {@code fileName} in the optional {@code subdirectory} of {@code folder}.
+     *
+     * @param folder       the separated files folder
+     * @param subdirectory the subdirectory, or null
+     * @param fileName     the file name
+     * @return the path of the file
+     */
+    public static String resolve(String folder, String subdirectory, String fileName) {
+        File directory = subdirectory == null ? new File(folder) : new File(folder, subdirectory);
+        return new File(directory, fileName).getPath();
+    }
+
+    private static String hashDirectory(String fileName) {
+        return String.format("%02x", fileName.hashCode() & 0xff);
+    }
+
+    private static String tagDirectory(PathOperation operation) {
+        List<String> tags = operation.getOperation().getTags();
+        String tag = tags == null || tags.isEmpty() ? null : normalizeName(tags.get(0));
+        return StringUtils.isBlank(tag) ? UNTAGGED_DIRECTORY : tag;
+    }
+}
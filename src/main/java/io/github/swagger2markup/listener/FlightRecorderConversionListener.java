@@ -0,0 +1,32 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.listener;
+
+import io.github.swagger2markup.spi.ConversionListener;
+
+/**
+ * Conversion listener emitting Java Flight Recorder events for the conversions, the documents, the operations, the definitions,
+ * the example generation and the description import.<br>
+ * It is registered automatically. The JAR is a multi-release JAR : this version, used on Java 8, is inactive and never notified ;
+ * the version used on Java 11 and later emits events in the "Swagger2Markup" category, recorded only when a recording enables them.
+ */
+public class FlightRecorderConversionListener extends ConversionListener {
+
+    @Override
+    public boolean isActive() {
+        return false;
+    }
+}
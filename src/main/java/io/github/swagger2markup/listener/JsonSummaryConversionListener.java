@@ -0,0 +1,189 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.listener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.swagger2markup.spi.ConversionListener;
+import io.github.swagger2markup.spi.OutputSink;
+import io.swagger.util.Json;
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Conversion listener writing a JSON summary of each conversion : the count, total and maximum duration of every phase,
+ * the slowest operations, definitions and extensions, and the counters.<br>
+ * The summary is written to {@value #SUMMARY_FILE_NAME} into the output sink of the conversion, next to the documents, or to the summary file if one is given.
+ * A conversion to a single file, a writer or a String does not have an output sink : its summary is only logged, unless a summary file is given.
+ * <p>
+ * Phases reported when the converter is built, like the parsing, are included in the summary of its first conversion.
+ * The listener is thread-safe, but the summary of conversions running concurrently through the same listener mixes their phases.
+ */
+public class JsonSummaryConversionListener extends ConversionListener {
+
+    public static final String SUMMARY_FILE_NAME = "swagger2markup-summary.json";
+    public static final int DEFAULT_SLOWEST_ITEMS = 10;
+
+    private static final Logger logger = LoggerFactory.getLogger(JsonSummaryConversionListener.class);
+
+    private final Path summaryFile;
+    private final int slowestItems;
+    private final Map<Phase, PhaseSummary> phases = new EnumMap<>(Phase.class);
+    private final Map<Counter, Long> counters = new EnumMap<>(Counter.class);
+    private String lastSummary;
+
+    /**
+     * Writes the summary into the output sink of the conversion.
+     */
+    public JsonSummaryConversionListener() {
+        this.summaryFile = null;
+        this.slowestItems = DEFAULT_SLOWEST_ITEMS;
+    }
+
+    /**
+     * Writes the summary to {@code summaryFile}, replaced by every conversion.
+     *
+     * @param summaryFile the summary file
+     */
+    public JsonSummaryConversionListener(Path summaryFile) {
+        this(summaryFile, DEFAULT_SLOWEST_ITEMS);
+    }
+
+    /**
+     * Writes the summary to {@code summaryFile}, replaced by every conversion.
+     *
+     * @param summaryFile  the summary file, or null to write the summary into the output sink of the conversion
+     * @param slowestItems the number of slowest items listed per phase
+     */
+    public JsonSummaryConversionListener(Path summaryFile, int slowestItems) {
+        Validate.isTrue(slowestItems >= 0, "%s must be a positive integer", "slowestItems");
+        this.summaryFile = summaryFile;
+        this.slowestItems = slowestItems;
+    }
+
+    @Override
+    public synchronized void onEnd(Phase phase, String name, long durationNanos) {
+        phases.computeIfAbsent(phase, key -> new PhaseSummary()).add(name, durationNanos, slowestItems);
+        if (phase == Phase.CONVERSION) {
+            lastSummary = toJson(name);
+            phases.clear();
+            counters.clear();
+            writeSummary(lastSummary);
+        }
+    }
+
+    @Override
+    public synchronized void onCount(Counter counter, long increment) {
+        counters.merge(counter, increment, Long::sum);
+    }
+
+    /**
+     * Returns the summary of the last completed conversion.
+     *
+     * @return the JSON summary, or null if no conversion completed yet
+     */
+    public synchronized String getLastSummary() {
+        return lastSummary;
+    }
+
+    private String toJson(String source) {
+        ObjectNode summary = Json.mapper().createObjectNode();
+        summary.put("source", source);
+        ObjectNode phasesNode = summary.putObject("phases");
+        phases.forEach((phase, phaseSummary) -> phaseSummary.toJson(phasesNode.putObject(phase.name())));
+        ObjectNode countersNode = summary.putObject("counters");
+        counters.forEach((counter, value) -> countersNode.put(counter.name(), value));
+        try {
+            return Json.pretty().writeValueAsString(summary);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize conversion summary", e);
+        }
+    }
+
+    private void writeSummary(String summary) {
+        byte[] content = summary.getBytes(StandardCharsets.UTF_8);
+        OutputSink outputSink = globalContext != null ? globalContext.getOutputSink() : null;
+        try {
+            if (summaryFile != null) {
+                Path parent = summaryFile.toAbsolutePath().getParent();
+                if (parent != null)
+                    Files.createDirectories(parent);
+                Files.write(summaryFile, content);
+            } else if (outputSink != null) {
+                outputSink.write(SUMMARY_FILE_NAME, content);
+            } else if (logger.isInfoEnabled()) {
+                logger.info("Conversion summary : {}", summary);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(String.format("Failed to write conversion summary '%s'", summaryFile != null ? summaryFile : SUMMARY_FILE_NAME), e);
+        }
+    }
+
+    private static class PhaseSummary {
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+        private final PriorityQueue<Item> slowest = new PriorityQueue<>(Comparator.comparingLong((Item item) -> item.durationNanos));
+
+        void add(String name, long durationNanos, int slowestItems) {
+            count++;
+            totalNanos += durationNanos;
+            maxNanos = Math.max(maxNanos, durationNanos);
+            if (name != null && slowestItems > 0) {
+                slowest.add(new Item(name, durationNanos));
+                if (slowest.size() > slowestItems)
+                    slowest.poll();
+            }
+        }
+
+        void toJson(ObjectNode phaseNode) {
+            phaseNode.put("count", count);
+            phaseNode.put("totalNanos", totalNanos);
+            phaseNode.put("maxNanos", maxNanos);
+            if (!slowest.isEmpty()) {
+                List<Item> items = new ArrayList<>(slowest);
+                items.sort(Comparator.comparingLong((Item item) -> item.durationNanos).reversed());
+                ArrayNode slowestNode = phaseNode.putArray("slowest");
+                for (Item item : items) {
+                    slowestNode.addObject().put("name", item.name).put("durationNanos", item.durationNanos);
+                }
+            }
+        }
+    }
+
+    private static class Item {
+        private final String name;
+        private final long durationNanos;
+
+        Item(String name, long durationNanos) {
+            this.name = name;
+            this.durationNanos = durationNanos;
+        }
+    }
+}
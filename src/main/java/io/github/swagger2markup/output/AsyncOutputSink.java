@@ -0,0 +1,203 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.output;
+
+import io.github.swagger2markup.spi.OutputSink;
+import org.apache.commons.lang3.Validate;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Write-behind decorator of an {@link OutputSink} : documents are handed over to background writer threads, so that rendering and I/O overlap.<br>
+ * At most {@code queueCapacity} writes are pending at any time, {@link #write(String, byte[])} blocks when writers fall behind.
+ * A write of a document which is still pending supersedes the pending content : the delegate always ends up with the last written content.
+ * The first write failure is rethrown by the next call to the sink, and by {@link #flush()} and {@link #close()}.<br>
+ * The delegate must support concurrent writes of distinct documents. Closing this sink does not close the delegate.
+ */
+public class AsyncOutputSink implements OutputSink {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 256;
+
+    private static final AtomicInteger SINK_COUNTER = new AtomicInteger();
+    private static final int LOCK_STRIPES = 64;
+
+    private final OutputSink delegate;
+    private final ExecutorService executor;
+    private final int queueCapacity;
+    private final Semaphore pendingPermits;
+    private final Map<String, PendingWrite> pendingWrites = new ConcurrentHashMap<>();
+    private final Object[] documentLocks = new Object[LOCK_STRIPES];
+    private final AtomicReference<IOException> failure = new AtomicReference<>();
+
+    public AsyncOutputSink(OutputSink delegate, int threads) {
+        this(delegate, threads, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * @param delegate      the sink to write to
+     * @param threads       number of writer threads
+     * @param queueCapacity maximum number of pending writes
+     */
+    public AsyncOutputSink(OutputSink delegate, int threads, int queueCapacity) {
+        Validate.notNull(delegate, "delegate must not be null");
+        Validate.isTrue(threads > 0, "threads must be greater than 0");
+        Validate.isTrue(queueCapacity > 0, "queueCapacity must be greater than 0");
+        this.delegate = delegate;
+        this.queueCapacity = queueCapacity;
+        this.pendingPermits = new Semaphore(queueCapacity);
+        for (int i = 0; i < LOCK_STRIPES; i++)
+            documentLocks[i] = new Object();
+        String threadNamePrefix = "swagger2markup-writer-" + SINK_COUNTER.incrementAndGet() + "-";
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void write(String name, byte[] content) throws IOException {
+        checkFailure();
+        try {
+            pendingPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(String.format("Interrupted while queuing '%s'", name));
+        }
+        PendingWrite pendingWrite = new PendingWrite(content);
+        pendingWrites.put(name, pendingWrite);
+        try {
+            executor.execute(() -> {
+                try {
+                    writePending(name, pendingWrite);
+                } finally {
+                    pendingPermits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingWrites.remove(name, pendingWrite);
+            pendingPermits.release();
+            throw new IOException("Output sink is closed", e);
+        }
+    }
+
+    /**
+     * Writes {@code pendingWrite} unless a later write of the same document superseded it.
+     * Writes of the same document are serialized, so that a superseded content never overwrites a later one.
+     */
+    private void writePending(String name, PendingWrite pendingWrite) {
+        synchronized (documentLocks[Math.floorMod(name.hashCode(), LOCK_STRIPES)]) {
+            try {
+                if (failure.get() == null && pendingWrites.get(name) == pendingWrite)
+                    delegate.write(name, pendingWrite.content);
+            } catch (IOException e) {
+                failure.compareAndSet(null, e);
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, new IOException(String.format("Failed to write '%s'", name), e));
+            } finally {
+                pendingWrites.remove(name, pendingWrite);
+            }
+        }
+    }
+
+    /**
+     * Returns the pending content of the document if it is still queued, otherwise the content read from the delegate.
+     */
+    @Override
+    public byte[] read(String name) throws IOException {
+        checkFailure();
+        PendingWrite pendingWrite = pendingWrites.get(name);
+        return pendingWrite != null ? pendingWrite.content : delegate.read(name);
+    }
+
+    @Override
+    public boolean exists(String name) throws IOException {
+        checkFailure();
+        return pendingWrites.containsKey(name) || delegate.exists(name);
+    }
+
+    @Override
+    public void keep(String name) throws IOException {
+        checkFailure();
+        delegate.keep(name);
+    }
+
+    /**
+     * Waits for the pending writes, then deletes the document.
+     */
+    @Override
+    public void delete(String name) throws IOException {
+        flush();
+        delegate.delete(name);
+    }
+
+    /**
+     * Waits until all pending writes are complete.
+     *
+     * @throws IOException if a write failed
+     */
+    public void flush() throws IOException {
+        try {
+            pendingPermits.acquire(queueCapacity);
+            pendingPermits.release(queueCapacity);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for pending writes");
+        }
+        checkFailure();
+    }
+
+    /**
+     * Waits until all pending writes are complete, then stops the writer threads.
+     *
+     * @throws IOException if a write failed
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Stops the writer threads without waiting for the pending writes, e.g. when the conversion failed.
+     */
+    public void abort() {
+        executor.shutdownNow();
+    }
+
+    private void checkFailure() throws IOException {
+        IOException writeFailure = failure.get();
+        if (writeFailure != null)
+            throw new IOException("Asynchronous write failed", writeFailure);
+    }
+
+    private static final class PendingWrite {
+        private final byte[] content;
+
+        PendingWrite(byte[] content) {
+            this.content = content;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.output;
+
+import io.github.swagger2markup.spi.OutputSink;
+import org.apache.commons.lang3.Validate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes the documents as files of a directory. Missing directories are created on demand.
+ */
+public class FileSystemOutputSink implements OutputSink {
+
+    private final Path directory;
+
+    /**
+     * @param directory the root directory of the documents
+     */
+    public FileSystemOutputSink(Path directory) {
+        Validate.notNull(directory, "directory must not be null");
+        this.directory = directory;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    @Override
+    public void write(String name, byte[] content) throws IOException {
+        Path file = directory.resolve(name);
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null)
+            Files.createDirectories(parent);
+        Files.write(file, content);
+    }
+
+    @Override
+    public byte[] read(String name) throws IOException {
+        Path file = directory.resolve(name);
+        return Files.isRegularFile(file) ? Files.readAllBytes(file) : null;
+    }
+
+    @Override
+    public boolean exists(String name) {
+        return Files.isRegularFile(directory.resolve(name));
+    }
+
+    @Override
+    public void delete(String name) throws IOException {
+        Files.deleteIfExists(directory.resolve(name));
+    }
+}
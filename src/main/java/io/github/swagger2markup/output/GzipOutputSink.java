@@ -0,0 +1,136 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.output;
+
+import io.github.swagger2markup.spi.OutputSink;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Gzip-compressing decorator of an {@link OutputSink} : each document is compressed as it is written, and stored with the {@code .gz} suffix.<br>
+ * Documents are still identified by their uncompressed name, e.g {@code definitions/Pet.adoc} is stored as {@code definitions/Pet.adoc.gz},
+ * and are decompressed when read back, so that unchanged files and previous conversions are detected on the uncompressed content.
+ * The compressed content of a document only depends on its content and the compression level, the gzip header has no modification time.
+ */
+public class GzipOutputSink implements OutputSink {
+
+    public static final String GZIP_SUFFIX = ".gz";
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private static final Logger logger = LoggerFactory.getLogger(GzipOutputSink.class);
+
+    private final OutputSink delegate;
+    private final int compressionLevel;
+    private final int bufferSize;
+
+    public GzipOutputSink(OutputSink delegate) {
+        this(delegate, Deflater.DEFAULT_COMPRESSION, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param delegate         the sink to write the compressed documents to
+     * @param compressionLevel the compression level, from 0 to 9, or -1 for the default level
+     * @param bufferSize       the size of the compression buffer
+     */
+    public GzipOutputSink(OutputSink delegate, int compressionLevel, int bufferSize) {
+        Validate.notNull(delegate, "delegate must not be null");
+        Validate.inclusiveBetween(Deflater.DEFAULT_COMPRESSION, Deflater.BEST_COMPRESSION, compressionLevel, "compressionLevel must be between -1 and 9");
+        Validate.isTrue(bufferSize > 0, "bufferSize must be greater than 0");
+        this.delegate = delegate;
+        this.compressionLevel = compressionLevel;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Creates a gzip output stream with the given compression level.
+     *
+     * @param outputStream     the stream to write the compressed data to
+     * @param compressionLevel the compression level, from 0 to 9, or -1 for the default level
+     * @param bufferSize       the size of the compression buffer
+     * @return the gzip output stream
+     * @throws IOException if the gzip header can't be written
+     */
+    public static GZIPOutputStream gzipOutputStream(OutputStream outputStream, int compressionLevel, int bufferSize) throws IOException {
+        return new GZIPOutputStream(outputStream, bufferSize) {
+            {
+                def.setLevel(compressionLevel);
+            }
+        };
+    }
+
+    @Override
+    public void write(String name, byte[] content) throws IOException {
+        ByteArrayOutputStream compressedContent = new ByteArrayOutputStream(Math.max(content.length / 4, 64));
+        try (GZIPOutputStream gzipOutputStream = gzipOutputStream(compressedContent, compressionLevel, bufferSize)) {
+            gzipOutputStream.write(content);
+        }
+        delegate.write(name + GZIP_SUFFIX, compressedContent.toByteArray());
+    }
+
+    /**
+     * Returns the decompressed content of the document, or null if the stored document is not a valid gzip file, so that it is rewritten.
+     */
+    @Override
+    public byte[] read(String name) throws IOException {
+        byte[] compressedContent = delegate.read(name + GZIP_SUFFIX);
+        if (compressedContent == null)
+            return null;
+        try (InputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(compressedContent), bufferSize)) {
+            return IOUtils.toByteArray(gzipInputStream);
+        } catch (ZipException | EOFException e) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Ignoring invalid gzip file '{}'", name + GZIP_SUFFIX, e);
+            }
+            return null;
+        }
+    }
+
+    @Override
+    public boolean exists(String name) throws IOException {
+        return delegate.exists(name + GZIP_SUFFIX);
+    }
+
+    @Override
+    public void keep(String name) throws IOException {
+        delegate.keep(name + GZIP_SUFFIX);
+    }
+
+    @Override
+    public void delete(String name) throws IOException {
+        delegate.delete(name + GZIP_SUFFIX);
+    }
+
+    /**
+     * Closes the delegate.
+     */
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+}
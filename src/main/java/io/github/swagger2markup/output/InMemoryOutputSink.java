@@ -0,0 +1,56 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.output;
+
+import io.github.swagger2markup.spi.OutputSink;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.apache.commons.io.FilenameUtils.separatorsToUnix;
+
+/**
+ * Keeps the documents in memory, indexed by their relative path, in the order they have been written.
+ */
+public class InMemoryOutputSink implements OutputSink {
+
+    private final Map<String, byte[]> documents = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    /**
+     * Returns the documents written to this sink.
+     *
+     * @return an unmodifiable view of the documents, indexed by their relative path using '/' separators
+     */
+    public Map<String, byte[]> getDocuments() {
+        return Collections.unmodifiableMap(documents);
+    }
+
+    @Override
+    public void write(String name, byte[] content) {
+        documents.put(separatorsToUnix(name), content);
+    }
+
+    @Override
+    public byte[] read(String name) {
+        return documents.get(separatorsToUnix(name));
+    }
+
+    @Override
+    public void delete(String name) {
+        documents.remove(separatorsToUnix(name));
+    }
+}
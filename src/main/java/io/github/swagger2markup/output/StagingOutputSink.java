@@ -0,0 +1,194 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.output;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Writes the documents into a staging directory created next to the output directory, which replaces the output directory on {@link #publish()}.<br>
+ * Documents are read from the staging directory first, then from the previous output directory. A document kept, or written with the content it
+ * already had, is hard-linked from the previous output directory, or copied if the file system does not support hard links.
+ * The staging directory gets the permissions of the output directory, or the default permissions of new directories if there is none yet.
+ * <p>
+ * The output directory is published as a symbolic link to the staging directory : {@link #publish()} creates the link on the first conversion,
+ * then atomically retargets it, and deletes the previous target if it is a former staging directory. Readers never see a partial or missing output directory.
+ * An output directory which already exists as a plain directory can't be swapped atomically and is rejected by {@link #publish()}.
+ * On file systems without symbolic links, a missing output directory is created by renaming the staging directory into place.
+ */
+public class StagingOutputSink extends FileSystemOutputSink {
+
+    private static final Logger logger = LoggerFactory.getLogger(StagingOutputSink.class);
+
+    private final Path outputDirectory;
+
+    private StagingOutputSink(Path stagingDirectory, Path outputDirectory) {
+        super(stagingDirectory);
+        this.outputDirectory = outputDirectory;
+    }
+
+    /**
+     * Creates a staging directory for {@code outputDirectory}.
+     *
+     * @param outputDirectory the output directory to replace
+     * @return the staging sink
+     * @throws IOException if the output directory is a plain directory, or if the staging directory can't be created
+     */
+    public static StagingOutputSink create(Path outputDirectory) throws IOException {
+        Validate.notNull(outputDirectory, "outputDirectory must not be null");
+        Path absoluteOutputDirectory = outputDirectory.toAbsolutePath();
+        Path parent = absoluteOutputDirectory.getParent();
+        Validate.notNull(parent, "outputDirectory must not be a root directory");
+        checkReplaceable(absoluteOutputDirectory);
+        Files.createDirectories(parent);
+        Path stagingDirectory = createStagingDirectory(absoluteOutputDirectory);
+        return new StagingOutputSink(stagingDirectory, absoluteOutputDirectory);
+    }
+
+    /**
+     * Creates a uniquely named staging directory with the default permissions, rather than the owner-only permissions of temporary directories,
+     * then copies the permissions of the current output directory if any.
+     */
+    private static Path createStagingDirectory(Path outputDirectory) throws IOException {
+        Path stagingDirectory;
+        while (true) {
+            stagingDirectory = outputDirectory.resolveSibling(stagingPrefix(outputDirectory) + Long.toHexString(ThreadLocalRandom.current().nextLong()));
+            try {
+                Files.createDirectory(stagingDirectory);
+                break;
+            } catch (FileAlreadyExistsException e) {
+                // try another name
+            }
+        }
+        PosixFileAttributeView outputView = Files.getFileAttributeView(outputDirectory, PosixFileAttributeView.class);
+        if (outputView != null && Files.isDirectory(outputDirectory)) {
+            Files.getFileAttributeView(stagingDirectory, PosixFileAttributeView.class, LinkOption.NOFOLLOW_LINKS)
+                    .setPermissions(outputView.readAttributes().permissions());
+        }
+        return stagingDirectory;
+    }
+
+    private static void checkReplaceable(Path outputDirectory) throws IOException {
+        if (Files.exists(outputDirectory) && !Files.isSymbolicLink(outputDirectory))
+            throw new IOException(String.format("Output directory '%s' is a plain directory and can't be replaced atomically : "
+                    + "delete it, or replace it with a symbolic link to a directory", outputDirectory));
+    }
+
+    private static String stagingPrefix(Path outputDirectory) {
+        return "." + outputDirectory.getFileName() + "-";
+    }
+
+    public Path getOutputDirectory() {
+        return outputDirectory;
+    }
+
+    @Override
+    public void write(String name, byte[] content) throws IOException {
+        Path previousFile = outputDirectory.resolve(name);
+        if (Files.isRegularFile(previousFile) && Files.size(previousFile) == content.length
+                && Arrays.equals(Files.readAllBytes(previousFile), content)) {
+            keep(name);
+        } else {
+            super.write(name, content);
+        }
+    }
+
+    @Override
+    public byte[] read(String name) throws IOException {
+        byte[] content = super.read(name);
+        if (content == null) {
+            Path previousFile = outputDirectory.resolve(name);
+            content = Files.isRegularFile(previousFile) ? Files.readAllBytes(previousFile) : null;
+        }
+        return content;
+    }
+
+    @Override
+    public boolean exists(String name) {
+        return super.exists(name) || Files.isRegularFile(outputDirectory.resolve(name));
+    }
+
+    @Override
+    public void keep(String name) throws IOException {
+        Path previousFile = outputDirectory.resolve(name);
+        Path stagedFile = getDirectory().resolve(name);
+        if (!Files.isRegularFile(previousFile) || Files.exists(stagedFile))
+            return;
+        Files.createDirectories(stagedFile.getParent());
+        try {
+            Files.createLink(stagedFile, previousFile);
+        } catch (IOException | UnsupportedOperationException e) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Failed to hard-link '{}', copying it instead", previousFile, e);
+            }
+            Files.copy(previousFile, stagedFile, StandardCopyOption.COPY_ATTRIBUTES);
+        }
+    }
+
+    /**
+     * Points the output directory to the staging directory, creating the symbolic link if the output directory does not exist yet.
+     *
+     * @throws IOException if the output directory is a plain directory, or if the link can't be created or retargeted. The output directory is then left untouched
+     */
+    public void publish() throws IOException {
+        Path stagingDirectory = getDirectory();
+        if (Files.isSymbolicLink(outputDirectory)) {
+            Path previousTarget = outputDirectory.resolveSibling(Files.readSymbolicLink(outputDirectory));
+            Path link = stagingDirectory.resolveSibling(stagingDirectory.getFileName() + ".link");
+            Files.createSymbolicLink(link, stagingDirectory.getFileName());
+            try {
+                Files.move(link, outputDirectory, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                Files.deleteIfExists(link);
+                throw e;
+            }
+            if (previousTarget.getFileName().toString().startsWith(stagingPrefix(outputDirectory)))
+                FileUtils.deleteQuietly(previousTarget.toFile());
+        } else {
+            checkReplaceable(outputDirectory);
+            try {
+                Files.createSymbolicLink(outputDirectory, stagingDirectory.getFileName());
+            } catch (UnsupportedOperationException | FileSystemException e) {
+                if (Files.exists(outputDirectory, LinkOption.NOFOLLOW_LINKS))
+                    throw e;
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Failed to link '{}', moving the staging directory into place instead", outputDirectory, e);
+                }
+                Files.move(stagingDirectory, outputDirectory, StandardCopyOption.ATOMIC_MOVE);
+            }
+        }
+    }
+
+    /**
+     * Deletes the staging directory, leaving the output directory untouched.
+     */
+    public void discard() {
+        FileUtils.deleteQuietly(getDirectory().toFile());
+    }
+}
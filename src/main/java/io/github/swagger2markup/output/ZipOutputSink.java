@@ -0,0 +1,56 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.output;
+
+import io.github.swagger2markup.spi.OutputSink;
+import org.apache.commons.lang3.Validate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.apache.commons.io.FilenameUtils.separatorsToUnix;
+
+/**
+ * Streams the documents as entries of a ZIP archive, which can also be read as a JAR.<br>
+ * Entries are written as soon as documents are produced, the archive is complete once the sink is closed.
+ * A ZIP stream can't be read back : incremental writes always write every document.
+ */
+public class ZipOutputSink implements OutputSink {
+
+    private final ZipOutputStream zipOutputStream;
+
+    /**
+     * @param outputStream the stream to write the archive to. It is closed with the sink
+     */
+    public ZipOutputSink(OutputStream outputStream) {
+        Validate.notNull(outputStream, "outputStream must not be null");
+        this.zipOutputStream = new ZipOutputStream(outputStream);
+    }
+
+    @Override
+    public synchronized void write(String name, byte[] content) throws IOException {
+        zipOutputStream.putNextEntry(new ZipEntry(separatorsToUnix(name)));
+        zipOutputStream.write(content);
+        zipOutputStream.closeEntry();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        zipOutputStream.close();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.server;
+
+import org.apache.commons.lang3.Validate;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least recently used cache of rendered results, bounded by number of entries and total content size.
+ */
+public class RenderCache {
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final LinkedHashMap<String, RenderResult> results = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+    private long hits;
+    private long misses;
+
+    /**
+     * @param maxEntries maximum number of cached results, 0 disables the cache
+     * @param maxBytes   maximum total size of the cached contents
+     */
+    public RenderCache(int maxEntries, long maxBytes) {
+        Validate.isTrue(maxEntries >= 0, "%s must be a positive integer", "maxEntries");
+        Validate.isTrue(maxBytes >= 0, "%s must be a positive integer", "maxBytes");
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the cached result of {@code key}, and marks it as most recently used.
+     *
+     * @param key the cache key
+     * @return the cached result, or null
+     */
+    public synchronized RenderResult get(String key) {
+        RenderResult result = results.get(key);
+        if (result != null)
+            hits++;
+        else
+            misses++;
+        return result;
+    }
+
+    /**
+     * Caches the result of {@code key}, evicting the least recently used results if the cache is full.
+     * A result larger than the cache on its own is not cached.
+     *
+     * @param key    the cache key
+     * @param result the result
+     */
+    public synchronized void put(String key, RenderResult result) {
+        if (maxEntries == 0 || result.getContent().length > maxBytes)
+            return;
+        RenderResult previousResult = results.put(key, result);
+        if (previousResult != null)
+            bytes -= previousResult.getContent().length;
+        bytes += result.getContent().length;
+        Iterator<Map.Entry<String, RenderResult>> eldestResults = results.entrySet().iterator();
+        while ((results.size() > maxEntries || bytes > maxBytes) && eldestResults.hasNext()) {
+            bytes -= eldestResults.next().getValue().getContent().length;
+            eldestResults.remove();
+        }
+    }
+
+    public synchronized int size() {
+        return results.size();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+}
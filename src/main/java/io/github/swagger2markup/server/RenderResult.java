@@ -0,0 +1,49 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.server;
+
+/**
+ * Content rendered by the {@link Swagger2MarkupServer}, with its content type and entity tag.
+ */
+public class RenderResult {
+
+    private final byte[] content;
+    private final String contentType;
+    private final String entityTag;
+
+    public RenderResult(byte[] content, String contentType, String entityTag) {
+        this.content = content;
+        this.contentType = contentType;
+        this.entityTag = entityTag;
+    }
+
+    public byte[] getContent() {
+        return content;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Returns the quoted entity tag of the content, e.g {@code "3f2a..."}
+     *
+     * @return the entity tag
+     */
+    public String getEntityTag() {
+        return entityTag;
+    }
+}
@@ -0,0 +1,488 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.swagger2markup.Swagger2MarkupConfig;
+import io.github.swagger2markup.Swagger2MarkupConverter;
+import io.github.swagger2markup.builder.Swagger2MarkupConfigBuilder;
+import io.github.swagger2markup.internal.utils.ReferencedFiles;
+import io.github.swagger2markup.utils.HashUtils;
+import io.github.swagger2markup.utils.SingleFlight;
+import io.github.swagger2markup.markup.builder.MarkupLanguage;
+import io.github.swagger2markup.output.InMemoryOutputSink;
+import io.github.swagger2markup.output.ZipOutputSink;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.BoundedInputStream;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.github.swagger2markup.Swagger2MarkupProperties.*;
+
+/**
+ * Embedded HTTP server rendering Swagger specifications on demand, built on the JDK {@code com.sun.net.httpserver} server.
+ * <p>
+ * The specification is either uploaded as the body of a {@code POST /render} request,
+ * or read from a file below the specification root directory with {@code GET /render?spec=relative/path.yaml}.
+ * Query parameters prefixed with {@code swagger2markup.} are configuration properties, e.g {@code swagger2markup.markupLanguage=MARKDOWN}.
+ * The {@code format} query parameter selects the response :
+ * <ul>
+ * <li>{@code single} (default) : all documents concatenated, separated files are not supported</li>
+ * <li>{@code document} : the document named by the {@code document} query parameter, without file extension, e.g {@code paths} or {@code definitions/Pet}</li>
+ * <li>{@code zip} : a ZIP archive of all documents and separated files</li>
+ * </ul>
+ * Identical requests arriving while a rendering is in flight share its result.
+ * Rendered results are cached in a {@link RenderCache}, keyed by the hash of the specification and of the local files it references,
+ * the hash of the configuration, the markup language and the format.
+ * Uploaded specifications larger than the maximum body size are rejected with a {@code 413 Payload Too Large} response.
+ * Uploaded specifications must not have external {@code $ref}s, and specification files must only reference local files below the
+ * specification root : other requests are rejected before any reference is resolved.
+ * Responses carry an {@code ETag} header, requests with a matching {@code If-None-Match} header get a {@code 304 Not Modified} response.
+ */
+public class Swagger2MarkupServer implements Closeable {
+
+    public static final String RENDER_PATH = "/render";
+    public static final String SPEC_PARAMETER = "spec";
+    public static final String FORMAT_PARAMETER = "format";
+    public static final String DOCUMENT_PARAMETER = "document";
+
+    private static final Logger logger = LoggerFactory.getLogger(Swagger2MarkupServer.class);
+
+    /**
+     * Properties which only apply to output folders, ignored when rendering in memory
+     */
+    private static final Set<String> IGNORED_PROPERTIES = new HashSet<>(Arrays.asList(SKIP_UNCHANGED_FILES_ENABLED, INCREMENTAL_CONVERSION_ENABLED,
+            ASYNC_WRITE_THREADS, ATOMIC_OUTPUT_ENABLED, GZIP_OUTPUT_ENABLED));
+
+    /**
+     * Response formats
+     */
+    public enum Format {
+        SINGLE, DOCUMENT, ZIP
+    }
+
+    private final HttpServer httpServer;
+    private final ExecutorService executor;
+    private final RenderCache renderCache;
+    private final SingleFlight<String, RenderResult> renders = new SingleFlight<>();
+    private final Path specRoot;
+    private final long maxBodySize;
+
+    private Swagger2MarkupServer(Builder builder) throws IOException {
+        this.renderCache = new RenderCache(builder.cacheEntries, builder.cacheBytes);
+        this.maxBodySize = builder.maxBodySize;
+        this.specRoot = builder.specRoot != null ? builder.specRoot.toAbsolutePath().normalize() : null;
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(builder.threads, runnable -> {
+            Thread thread = new Thread(runnable, "swagger2markup-server-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.httpServer = HttpServer.create(builder.address, 0);
+        this.httpServer.setExecutor(executor);
+        this.httpServer.createContext(RENDER_PATH, this::handle);
+    }
+
+    /**
+     * Creates a Swagger2MarkupServer.Builder, listening on the loopback address with an ephemeral port by default.
+     *
+     * @return a Swagger2MarkupServer.Builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        httpServer.start();
+        if (logger.isInfoEnabled()) {
+            logger.info("Swagger2Markup server listening on {}", getAddress());
+        }
+    }
+
+    /**
+     * Returns the address the server is bound to, including the actual port if an ephemeral port was requested.
+     *
+     * @return the server address
+     */
+    public InetSocketAddress getAddress() {
+        return httpServer.getAddress();
+    }
+
+    public RenderCache getRenderCache() {
+        return renderCache;
+    }
+
+    /**
+     * Returns the number of requests which shared the rendering of an identical request in flight instead of rendering the specification.
+     *
+     * @return the number of coalesced renderings
+     */
+    public long getCoalescedRenders() {
+        return renders.getCoalescedCalls();
+    }
+
+    /**
+     * Stops the server, aborting the requests in progress.
+     */
+    @Override
+    public void close() {
+        httpServer.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            if (!"GET".equals(method) && !"POST".equals(method)) {
+                exchange.getResponseHeaders().set("Allow", "GET, POST");
+                throw new HttpException(405, String.format("Method %s is not allowed", method));
+            }
+            RenderResult result = render(exchange);
+            exchange.getResponseHeaders().set("ETag", result.getEntityTag());
+            if (matchesEntityTag(exchange.getRequestHeaders().getFirst("If-None-Match"), result.getEntityTag())) {
+                exchange.sendResponseHeaders(304, -1);
+            } else {
+                exchange.getResponseHeaders().set("Content-Type", result.getContentType());
+                exchange.sendResponseHeaders(200, result.getContent().length);
+                try (OutputStream responseBody = exchange.getResponseBody()) {
+                    responseBody.write(result.getContent());
+                }
+            }
+        } catch (HttpException e) {
+            sendError(exchange, e.status, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            sendError(exchange, 400, e.getMessage());
+        } catch (RuntimeException e) {
+            logger.warn("Failed to render {}", exchange.getRequestURI(), e);
+            sendError(exchange, 500, "Internal server error");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private RenderResult render(HttpExchange exchange) throws IOException {
+        Map<String, String> parameters = parseQuery(exchange.getRequestURI().getRawQuery());
+
+        Path specPath = null;
+        byte[] spec;
+        if ("POST".equals(exchange.getRequestMethod())) {
+            spec = IOUtils.toByteArray(new BoundedInputStream(exchange.getRequestBody(), maxBodySize + 1));
+            if (spec.length > maxBodySize)
+                throw new HttpException(413, String.format("Request body must not be larger than %d bytes", maxBodySize));
+            if (spec.length == 0)
+                throw new HttpException(400, "Request body must contain the specification");
+        } else {
+            specPath = resolveSpecPath(parameters.get(SPEC_PARAMETER));
+            spec = Files.readAllBytes(specPath);
+        }
+        checkReferences(specPath, spec);
+
+        Format format;
+        try {
+            format = Format.valueOf(parameters.getOrDefault(FORMAT_PARAMETER, Format.SINGLE.name()).toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new HttpException(400, String.format("Unknown format '%s'", parameters.get(FORMAT_PARAMETER)));
+        }
+        String document = parameters.get(DOCUMENT_PARAMETER);
+        if (format == Format.DOCUMENT && StringUtils.isBlank(document))
+            throw new HttpException(400, String.format("Missing '%s' parameter", DOCUMENT_PARAMETER));
+
+        Map<String, String> properties = new TreeMap<>();
+        parameters.forEach((key, value) -> {
+            if (key.startsWith(PROPERTIES_PREFIX + ".") && !IGNORED_PROPERTIES.contains(key))
+                properties.put(key, value);
+        });
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder(properties).build();
+        if (format == Format.SINGLE && (config.isSeparatedDefinitionsEnabled() || config.isSeparatedOperationsEnabled()))
+            throw new HttpException(400, String.format("Separated files are not supported with format '%s'", Format.SINGLE.name().toLowerCase()));
+
+        String cacheKey = String.join(":", specificationHash(specPath, spec), hash(properties.toString().getBytes(StandardCharsets.UTF_8)),
+                config.getMarkupLanguage().name(), format.name(), format == Format.DOCUMENT ? document : "");
+        RenderResult result = renderCache.get(cacheKey);
+        if (result == null) {
+            Path renderedSpecPath = specPath;
+            result = renders.execute(cacheKey, () -> {
+                Swagger2MarkupConverter.Builder converterBuilder = renderedSpecPath != null ? Swagger2MarkupConverter.from(renderedSpecPath)
+                        : Swagger2MarkupConverter.from(new String(spec, StandardCharsets.UTF_8));
+                try {
+                    RenderResult renderResult = render(converterBuilder.withConfig(config).build(), format, document);
+                    renderCache.put(cacheKey, renderResult);
+                    return renderResult;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        return result;
+    }
+
+    private RenderResult render(Swagger2MarkupConverter converter, Format format, String document) throws IOException {
+        byte[] content;
+        String contentType;
+        switch (format) {
+            case DOCUMENT:
+                InMemoryOutputSink outputSink = new InMemoryOutputSink();
+                converter.toSink(outputSink);
+                content = outputSink.getDocuments().get(converter.getContext().createMarkupDocBuilder().addFileExtension(document));
+                if (content == null)
+                    throw new HttpException(404, String.format("Document '%s' not found", document));
+                contentType = contentType(converter.getContext().getConfig().getMarkupLanguage());
+                break;
+            case ZIP:
+                ByteArrayOutputStream zipContent = new ByteArrayOutputStream();
+                try (ZipOutputSink zipOutputSink = new ZipOutputSink(zipContent)) {
+                    converter.toSink(zipOutputSink);
+                }
+                content = zipContent.toByteArray();
+                contentType = "application/zip";
+                break;
+            default:
+                content = converter.toString().getBytes(StandardCharsets.UTF_8);
+                contentType = contentType(converter.getContext().getConfig().getMarkupLanguage());
+        }
+        return new RenderResult(content, contentType, "\"" + hash(content) + "\"");
+    }
+
+    private Path resolveSpecPath(String spec) {
+        if (StringUtils.isBlank(spec))
+            throw new HttpException(400, String.format("Missing '%s' parameter", SPEC_PARAMETER));
+        if (specRoot == null)
+            throw new HttpException(403, "Rendering local files is disabled");
+        Path specPath = specRoot.resolve(spec).normalize();
+        if (!specPath.startsWith(specRoot))
+            throw new HttpException(403, String.format("'%s' is outside of the specification root", spec));
+        if (!Files.isRegularFile(specPath))
+            throw new HttpException(404, String.format("Specification '%s' not found", spec));
+        return specPath;
+    }
+
+    /**
+     * Rejects the specification if it references documents the request must not read : any external document for an uploaded specification,
+     * remote URLs and files outside of the specification root for a specification file. Files are only read once their reference has been checked.
+     */
+    private void checkReferences(Path specPath, byte[] spec) throws IOException {
+        Set<Path> visitedFiles = new HashSet<>();
+        Deque<Path> pendingFiles = new ArrayDeque<>();
+        Path file = specPath;
+        byte[] content = spec;
+        while (content != null) {
+            for (String ref : ReferencedFiles.externalReferences(content)) {
+                if (file == null)
+                    throw new HttpException(400, String.format("External reference '%s' is not supported in uploaded specifications", ref));
+                Path referencedFile = ReferencedFiles.resolve(file, ref);
+                if (referencedFile == null || !referencedFile.startsWith(specRoot))
+                    throw new HttpException(403, String.format("Reference '%s' is outside of the specification root", ref));
+                if (visitedFiles.add(referencedFile) && Files.isRegularFile(referencedFile))
+                    pendingFiles.add(referencedFile);
+            }
+            file = pendingFiles.poll();
+            content = file != null ? Files.readAllBytes(file) : null;
+        }
+    }
+
+    private static String contentType(MarkupLanguage markupLanguage) {
+        switch (markupLanguage) {
+            case ASCIIDOC:
+                return "text/asciidoc; charset=UTF-8";
+            case MARKDOWN:
+                return "text/markdown; charset=UTF-8";
+            default:
+                return "text/plain; charset=UTF-8";
+        }
+    }
+
+    private static boolean matchesEntityTag(String ifNoneMatch, String entityTag) {
+        if (ifNoneMatch == null)
+            return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            candidate = StringUtils.removeStart(candidate.trim(), "W/");
+            if ("*".equals(candidate) || entityTag.equals(candidate))
+                return true;
+        }
+        return false;
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) throws UnsupportedEncodingException {
+        Map<String, String> parameters = new TreeMap<>();
+        if (StringUtils.isNotEmpty(rawQuery)) {
+            for (String parameter : rawQuery.split("&")) {
+                int separator = parameter.indexOf('=');
+                String key = separator >= 0 ? parameter.substring(0, separator) : parameter;
+                String value = separator >= 0 ? parameter.substring(separator + 1) : "";
+                parameters.put(URLDecoder.decode(key, "UTF-8"), URLDecoder.decode(value, "UTF-8"));
+            }
+        }
+        return parameters;
+    }
+
+    /**
+     * Hashes the specification, and the local files it references if it is read from the specification root.
+     */
+    private static String specificationHash(Path specPath, byte[] spec) throws IOException {
+        if (specPath == null)
+            return hash(spec);
+        StringBuilder signature = new StringBuilder();
+        for (Path file : ReferencedFiles.collect(specPath)) {
+            byte[] content = file.equals(specPath) ? spec : Files.readAllBytes(file);
+            signature.append(file).append('=').append(hash(content)).append('\n');
+        }
+        return HashUtils.sha256Hex(signature.toString());
+    }
+
+    private static String hash(byte[] content) {
+        return HashUtils.sha256Hex(content);
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        byte[] content = StringUtils.defaultString(message, "").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=UTF-8");
+        exchange.sendResponseHeaders(status, content.length == 0 ? -1 : content.length);
+        if (content.length > 0) {
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(content);
+            }
+        }
+    }
+
+    private static class HttpException extends RuntimeException {
+
+        private final int status;
+
+        HttpException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    public static class Builder {
+        private InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+        private int threads = Runtime.getRuntime().availableProcessors();
+        private int cacheEntries = 128;
+        private long cacheBytes = 256L * 1024 * 1024;
+        private Path specRoot;
+        private long maxBodySize = 16L * 1024 * 1024;
+
+        Builder() {
+        }
+
+        /**
+         * Binds the server to the given address. Port 0 selects an ephemeral port.
+         *
+         * @param address the server address
+         * @return this builder
+         */
+        public Builder withAddress(InetSocketAddress address) {
+            Validate.notNull(address, "address must not be null");
+            this.address = address;
+            return this;
+        }
+
+        /**
+         * Sets the number of threads handling requests, by default the number of available processors.
+         *
+         * @param threads the number of request threads
+         * @return this builder
+         */
+        public Builder withThreads(int threads) {
+            Validate.isTrue(threads > 0, "threads must be greater than 0");
+            this.threads = threads;
+            return this;
+        }
+
+        /**
+         * Bounds the render cache, by default to 128 results and 256 MB.
+         *
+         * @param maxEntries maximum number of cached results, 0 disables the cache
+         * @param maxBytes   maximum total size of the cached results
+         * @return this builder
+         */
+        public Builder withCache(int maxEntries, long maxBytes) {
+            Validate.isTrue(maxEntries >= 0, "%s must be a positive integer", "maxEntries");
+            Validate.isTrue(maxBytes >= 0, "%s must be a positive integer", "maxBytes");
+            this.cacheEntries = maxEntries;
+            this.cacheBytes = maxBytes;
+            return this;
+        }
+
+        /**
+         * Allows rendering specification files below {@code specRoot} with {@code GET /render?spec=relative/path}.
+         * The files may only reference other files below {@code specRoot}.
+         * By default specifications can only be uploaded.
+         *
+         * @param specRoot the specification root directory
+         * @return this builder
+         */
+        public Builder withSpecRoot(Path specRoot) {
+            Validate.notNull(specRoot, "specRoot must not be null");
+            this.specRoot = specRoot;
+            return this;
+        }
+
+        /**
+         * Bounds the size of uploaded specifications, by default to 16 MB.
+         *
+         * @param maxBodySize maximum size of a request body in bytes
+         * @return this builder
+         */
+        public Builder withMaxBodySize(long maxBodySize) {
+            Validate.isTrue(maxBodySize > 0, "maxBodySize must be greater than 0");
+            this.maxBodySize = maxBodySize;
+            return this;
+        }
+
+        /**
+         * Creates the server, bound to its address but not started yet.
+         *
+         * @return the server
+         */
+        public Swagger2MarkupServer build() {
+            try {
+                return new Swagger2MarkupServer(this);
+            } catch (IOException e) {
+                throw new RuntimeException(String.format("Failed to bind server to '%s'", address), e);
+            }
+        }
+    }
+}
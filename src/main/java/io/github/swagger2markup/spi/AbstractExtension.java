@@ -44,4 +44,14 @@ abstract class AbstractExtension implements Extension {
         /* must be left empty */
     }
 
+    /**
+     * Overridable hash of the content the extension contributes which does not only depend on its class, e.g the files it imports.<br>
+     * Incremental conversions render all the separated files again when the hash changes.
+     *
+     * @return the content hash, or null if the content only depends on the extension class and the configuration
+     */
+    public String getContentHash() {
+        return null;
+    }
+
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.spi;
+
+/**
+ * ConversionListener extension point can be used to observe the phases of a conversion and the counters it produces.<br>
+ * Phases are reported with their duration in nanoseconds, measured with {@link System#nanoTime()}. Nested phases are reported before the phase
+ * they belong to completes, e.g every {@link Phase#OPERATION} ends before the {@link Phase#PATHS_DOCUMENT} ends.
+ * {@link #onEnd(Phase, String, long)} is not invoked for a phase which failed.
+ * <p>
+ * Listeners are invoked on the thread running the conversion. A listener registered into a registry shared by several threads,
+ * e.g by a {@link io.github.swagger2markup.Swagger2MarkupBatch}, must be thread-safe, or keep its state in the instance returned by {@link #forConversion()}.
+ */
+public abstract class ConversionListener extends AbstractExtension {
+
+    /**
+     * Returns true if the listener is notified. Inactive listeners are left out when a converter is built,
+     * so that a registry without active listeners adds no overhead to the conversion.
+     *
+     * @return true by default
+     */
+    public boolean isActive() {
+        return true;
+    }
+
+    /**
+     * Returns the listener notified of the phases and counters of one converter.<br>
+     * Listeners keeping track of the conversion in progress can return a new instance, so that their state belongs to the conversion
+     * and is not shared by the converters built from the same registry.
+     *
+     * @return this listener by default
+     */
+    public ConversionListener forConversion() {
+        return this;
+    }
+
+    /**
+     * Invoked when a phase starts.
+     *
+     * @param phase the phase
+     * @param name  the name of the document, operation, definition or extension the phase processes, or null
+     */
+    public void onStart(Phase phase, String name) {
+        /* must be left empty */
+    }
+
+    /**
+     * Invoked when a phase ends.
+     *
+     * @param phase         the phase
+     * @param name          the name of the document, operation, definition or extension the phase processes, or null
+     * @param durationNanos the duration of the phase in nanoseconds
+     */
+    public void onEnd(Phase phase, String name, long durationNanos) {
+        /* must be left empty */
+    }
+
+    /**
+     * Invoked when a counter is incremented.
+     *
+     * @param counter   the counter
+     * @param increment the increment, always positive
+     */
+    public void onCount(Counter counter, long increment) {
+        /* must be left empty */
+    }
+
+    /**
+     * Phases of a conversion.
+     */
+    public enum Phase {
+        /**
+         * Parsing of the Swagger source, reported when the converter is built. Not reported for converters built from a Swagger model.
+         */
+        PARSING,
+        /**
+         * Application of a {@link SwaggerModelExtension}, named after the extension class, reported when the converter is built.
+         */
+        SWAGGER_MODEL_EXTENSION,
+        /**
+         * A whole conversion, until all its files are written.
+         */
+        CONVERSION,
+        OVERVIEW_DOCUMENT,
+        PATHS_DOCUMENT,
+        DEFINITIONS_DOCUMENT,
+        SECURITY_DOCUMENT,
+        /**
+         * Rendering of an operation, named after the operation id. Not reported for reused separated files.
+         */
+        OPERATION,
+        /**
+         * Rendering of a definition, named after the definition. Not reported for reused separated files.
+         */
+        DEFINITION,
+        /**
+         * Generation of the request and response examples of an operation, named after the operation id.
+         */
+        EXAMPLE_GENERATION,
+        /**
+         * Import of a description into the output markup language, reported when the description is not found in the description cache.
+         */
+        DESCRIPTION_IMPORT
+    }
+
+    /**
+     * Counters of a conversion.
+     */
+    public enum Counter {
+        OPERATIONS_RENDERED,
+        DEFINITIONS_RENDERED,
+        TABLES_RENDERED,
+        /**
+         * Files written into the output sink, reported at the end of a conversion into an output sink or directory.
+         */
+        FILES_WRITTEN,
+        /**
+         * Bytes written into the output sink, before compression, reported at the end of a conversion into an output sink or directory.
+         */
+        BYTES_WRITTEN,
+        /**
+         * Files left untouched because their content did not change, reported at the end of a conversion into an output sink or directory.
+         */
+        FILES_SKIPPED,
+        /**
+         * Separated files reused from the previous incremental conversion, reported at the end of a conversion into an output sink or directory.
+         */
+        FILES_REUSED,
+        FRAGMENT_CACHE_HITS,
+        DESCRIPTION_CACHE_HITS
+    }
+}
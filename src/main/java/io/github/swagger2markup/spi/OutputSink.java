@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.spi;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Destination of the documents and separated files produced by {@link io.github.swagger2markup.Swagger2MarkupConverter#toSink(OutputSink)}.<br>
+ * Documents are identified by their path relative to the root of the sink, including the file extension, e.g {@code definitions/Pet.adoc}.
+ * The converter never closes the sink.
+ */
+public interface OutputSink extends Closeable {
+
+    /**
+     * Writes a document, replacing any previous content.
+     *
+     * @param name    relative path of the document
+     * @param content encoded content of the document
+     * @throws IOException if the document can't be written
+     */
+    void write(String name, byte[] content) throws IOException;
+
+    /**
+     * Reads the current content of a document.<br>
+     * Sinks which can't read their documents back return null, so that documents are always written.
+     *
+     * @param name relative path of the document
+     * @return the content of the document, or null if the document does not exist or can't be read
+     * @throws IOException if the document can't be read
+     */
+    default byte[] read(String name) throws IOException {
+        return null;
+    }
+
+    /**
+     * Checks whether a document exists.
+     *
+     * @param name relative path of the document
+     * @return true if the document exists
+     * @throws IOException if the document can't be checked
+     */
+    default boolean exists(String name) throws IOException {
+        return read(name) != null;
+    }
+
+    /**
+     * Keeps the current content of a document which the conversion did not rewrite because it did not change.<br>
+     * Sinks which always retain their documents ignore the call.
+     *
+     * @param name relative path of the document
+     * @throws IOException if the document can't be kept
+     */
+    default void keep(String name) throws IOException {
+    }
+
+    /**
+     * Deletes a document if it exists.<br>
+     * Sinks which can't delete their documents ignore the call.
+     *
+     * @param name relative path of the document
+     * @throws IOException if the document can't be deleted
+     */
+    default void delete(String name) throws IOException {
+    }
+
+    @Override
+    default void close() throws IOException {
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.utils;
+
+import io.github.swagger2markup.Swagger2MarkupConfig;
+import org.apache.commons.lang3.Validate;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Cache of descriptions converted from the markup language of the Swagger source to the output markup language.<br>
+ * Converted descriptions only depend on the description and on the markup settings of the configuration, not on the Swagger model,
+ * so the cache can be shared by the conversions of several specifications.
+ * The cache is bounded, the least recently used descriptions are evicted first. It is thread-safe.
+ */
+public class DescriptionCache {
+
+    public static final int DEFAULT_MAX_SIZE = 4096;
+
+    private final Map<List<Object>, String> descriptions;
+
+    public DescriptionCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxSize maximum number of cached descriptions
+     */
+    public DescriptionCache(int maxSize) {
+        Validate.isTrue(maxSize > 0, "maxSize must be greater than 0");
+        this.descriptions = new LinkedHashMap<List<Object>, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, String> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the converted description, converting it with {@code converter} if it is not cached.
+     * The conversion runs outside of the cache lock : concurrent conversions of the same description may both run.
+     *
+     * @param config      the configuration of the conversion
+     * @param description the description in the markup language of the Swagger source
+     * @param converter   converts the description
+     * @return the converted description
+     */
+    public String get(Swagger2MarkupConfig config, String description, Supplier<String> converter) {
+        List<Object> key = Arrays.asList(config.getSwaggerMarkupLanguage(), config.getMarkupLanguage(), config.getLineSeparator(),
+                config.getAnchorPrefix(), description);
+        String convertedDescription;
+        synchronized (descriptions) {
+            convertedDescription = descriptions.get(key);
+        }
+        if (convertedDescription == null) {
+            convertedDescription = converter.get();
+            synchronized (descriptions) {
+                descriptions.put(key, convertedDescription);
+            }
+        }
+        return convertedDescription;
+    }
+
+    public int size() {
+        synchronized (descriptions) {
+            return descriptions.size();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.utils;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+public class HashUtils {
+
+    private static final String SHA_256 = "SHA-256";
+
+    /**
+     * Computes the SHA-256 digest of {@code bytes}.
+     *
+     * @param bytes bytes to digest
+     * @return the digest
+     */
+    public static byte[] sha256(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance(SHA_256).digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(String.format("Failed to compute %s digest", SHA_256), e);
+        }
+    }
+
+    /**
+     * Computes the SHA-256 digest of {@code bytes} as a lower case hexadecimal string.
+     *
+     * @param bytes bytes to digest
+     * @return the hexadecimal digest, 64 characters long
+     */
+    public static String sha256Hex(byte[] bytes) {
+        return String.format("%064x", new BigInteger(1, sha256(bytes)));
+    }
+
+    /**
+     * Computes the SHA-256 digest of the UTF-8 encoding of {@code content} as a lower case hexadecimal string.
+     *
+     * @param content content to digest
+     * @return the hexadecimal digest, 64 characters long
+     */
+    public static String sha256Hex(String content) {
+        return sha256Hex(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,344 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.swagger.util.Json;
+import io.swagger.util.Yaml;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * On-disk cache of remote Swagger specifications and of the remote documents they reference with {@code $ref}s.<br>
+ * Each document is mirrored below the cache directory, at a path derived from its URL, so that relative {@code $ref}s resolve to the mirrored documents.
+ * Absolute {@code http(s)} {@code $ref}s are rewritten to relative paths within the mirror.
+ * Cached documents are revalidated with {@code If-None-Match} and {@code If-Modified-Since} requests : an unchanged document costs a
+ * {@code 304 Not Modified} response instead of a download. If the server can't be reached or fails with a {@code 5xx} status, the cached document is used.
+ * Other error statuses, e.g {@code 404 Not Found}, fail the fetch even if the document is cached.
+ * <p>
+ * The documents referenced by the documents of one level are fetched concurrently. Responses are read completely and connections are never
+ * disconnected explicitly, so that {@link HttpURLConnection} keeps connections to the same host alive and reuses them.
+ */
+public class RemoteSpecificationCache {
+
+    public static final int DEFAULT_THREADS = 4;
+
+    private static final Logger logger = LoggerFactory.getLogger(RemoteSpecificationCache.class);
+    private static final String REF_FIELD = "$ref";
+    private static final String METADATA_SUFFIX = ".metadata.json";
+    private static final String ETAG_FIELD = "etag";
+    private static final String LAST_MODIFIED_FIELD = "lastModified";
+    private static final String DEFAULT_FILE_NAME = "index";
+
+    private final Path cacheDirectory;
+    private final int threads;
+    private final AtomicInteger downloads = new AtomicInteger();
+    private final AtomicInteger revalidations = new AtomicInteger();
+
+    public RemoteSpecificationCache(Path cacheDirectory) {
+        this(cacheDirectory, DEFAULT_THREADS);
+    }
+
+    /**
+     * @param cacheDirectory the cache directory
+     * @param threads        maximum number of concurrent requests
+     */
+    public RemoteSpecificationCache(Path cacheDirectory, int threads) {
+        Validate.notNull(cacheDirectory, "cacheDirectory must not be null");
+        Validate.isTrue(threads > 0, "threads must be greater than 0");
+        this.cacheDirectory = cacheDirectory.toAbsolutePath().normalize();
+        this.threads = threads;
+    }
+
+    /**
+     * Fetches a specification and the remote documents it transitively references into the cache.
+     *
+     * @param url the URL of the specification
+     * @return the cached copy of the specification, to be parsed instead of the URL
+     * @throws IOException if a document can't be fetched and is not cached
+     */
+    public Path fetch(URL url) throws IOException {
+        Validate.notNull(url, "url must not be null");
+        URI uri = toUri(url);
+        Set<URI> visited = new HashSet<>();
+        Set<URI> level = new LinkedHashSet<>();
+        level.add(uri);
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "swagger2markup-fetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            while (!level.isEmpty()) {
+                visited.addAll(level);
+                List<Future<Set<URI>>> references = new ArrayList<>();
+                for (URI document : level) {
+                    references.add(executor.submit(() -> fetchDocument(document)));
+                }
+                Set<URI> nextLevel = new LinkedHashSet<>();
+                for (Future<Set<URI>> documentReferences : references) {
+                    for (URI reference : getReferences(documentReferences)) {
+                        if (!visited.contains(reference))
+                            nextLevel.add(reference);
+                    }
+                }
+                level = nextLevel;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return cachePath(uri);
+    }
+
+    /**
+     * Returns the number of documents downloaded since this cache has been created.
+     *
+     * @return the number of downloads
+     */
+    public int getDownloads() {
+        return downloads.get();
+    }
+
+    /**
+     * Returns the number of cached documents the server confirmed unchanged since this cache has been created.
+     *
+     * @return the number of revalidations
+     */
+    public int getRevalidations() {
+        return revalidations.get();
+    }
+
+    private static Set<URI> getReferences(Future<Set<URI>> references) throws IOException {
+        try {
+            return references.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while fetching remote documents", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException)
+                throw (IOException) e.getCause();
+            throw new RuntimeException("Failed to fetch remote documents", e.getCause());
+        }
+    }
+
+    /**
+     * Fetches one document into the cache.
+     *
+     * @return the remote documents referenced by the document
+     */
+    private Set<URI> fetchDocument(URI uri) throws IOException {
+        Path cachePath = cachePath(uri);
+        Path metadataPath = cachePath.resolveSibling(cachePath.getFileName() + METADATA_SUFFIX);
+        JsonNode metadata = Files.isRegularFile(cachePath) && Files.isRegularFile(metadataPath)
+                ? Json.mapper().readTree(metadataPath.toFile()) : null;
+
+        HttpURLConnection connection = (HttpURLConnection) uri.toURL().openConnection();
+        try {
+            if (metadata != null) {
+                if (metadata.hasNonNull(ETAG_FIELD))
+                    connection.setRequestProperty("If-None-Match", metadata.get(ETAG_FIELD).asText());
+                if (metadata.hasNonNull(LAST_MODIFIED_FIELD))
+                    connection.setRequestProperty("If-Modified-Since", metadata.get(LAST_MODIFIED_FIELD).asText());
+            }
+            int status = connection.getResponseCode();
+            if (status == HttpURLConnection.HTTP_NOT_MODIFIED && metadata != null) {
+                drain(connection);
+                revalidations.incrementAndGet();
+            } else if (status == HttpURLConnection.HTTP_OK) {
+                byte[] content;
+                try (InputStream body = connection.getInputStream()) {
+                    content = org.apache.commons.io.IOUtils.toByteArray(body);
+                }
+                store(uri, cachePath, content);
+                ObjectNode newMetadata = Json.mapper().createObjectNode();
+                newMetadata.put(ETAG_FIELD, connection.getHeaderField("ETag"));
+                newMetadata.put(LAST_MODIFIED_FIELD, connection.getHeaderField("Last-Modified"));
+                write(metadataPath, Json.mapper().writeValueAsBytes(newMetadata));
+                downloads.incrementAndGet();
+            } else {
+                drain(connection);
+                String message = String.format("Failed to fetch '%s' : HTTP %d", uri, status);
+                throw status >= HttpURLConnection.HTTP_INTERNAL_ERROR ? new IOException(message) : new HttpStatusException(message);
+            }
+        } catch (IOException e) {
+            if (e instanceof HttpStatusException || !Files.isRegularFile(cachePath))
+                throw e;
+            logger.warn("Failed to revalidate '{}', using the cached copy : {}", uri, e.getMessage());
+        }
+        return references(uri, readTree(cachePath));
+    }
+
+    /**
+     * Stores a downloaded document, rewriting its absolute remote references to relative paths within the cache.
+     */
+    private void store(URI uri, Path cachePath, byte[] content) throws IOException {
+        JsonNode document = readTree(content);
+        if (document != null && rewriteAbsoluteReferences(document, cachePath)) {
+            boolean json = new String(content, StandardCharsets.UTF_8).trim().startsWith("{");
+            content = (json ? Json.pretty() : Yaml.pretty()).writeValueAsBytes(document);
+        }
+        write(cachePath, content);
+    }
+
+    private boolean rewriteAbsoluteReferences(JsonNode node, Path cachePath) {
+        boolean rewritten = false;
+        if (node.isObject()) {
+            JsonNode ref = node.get(REF_FIELD);
+            if (ref != null && ref.isTextual() && isRemote(ref.asText())) {
+                URI reference = URI.create(ref.asText());
+                String relativePath = cachePath.getParent().relativize(cachePath(withoutFragment(reference))).toString().replace('\\', '/');
+                ((ObjectNode) node).set(REF_FIELD, new TextNode(reference.getRawFragment() != null
+                        ? relativePath + "#" + reference.getRawFragment() : relativePath));
+                rewritten = true;
+            }
+        }
+        for (JsonNode child : node) {
+            rewritten |= rewriteAbsoluteReferences(child, cachePath);
+        }
+        return rewritten;
+    }
+
+    private Set<URI> references(URI uri, JsonNode document) {
+        Set<URI> references = new LinkedHashSet<>();
+        collectReferences(uri, document, references);
+        return references;
+    }
+
+    private void collectReferences(URI uri, JsonNode node, Set<URI> references) {
+        if (node == null)
+            return;
+        if (node.isObject()) {
+            JsonNode ref = node.get(REF_FIELD);
+            if (ref != null && ref.isTextual()) {
+                String location = StringUtils.substringBefore(ref.asText(), "#");
+                if (!location.isEmpty()) {
+                    try {
+                        URI reference = uri.resolve(location);
+                        if ("http".equals(reference.getScheme()) || "https".equals(reference.getScheme()))
+                            references.add(reference.normalize());
+                    } catch (IllegalArgumentException e) {
+                        logger.warn("Ignoring invalid reference '{}' in '{}'", ref.asText(), uri);
+                    }
+                }
+            }
+        }
+        for (JsonNode child : node) {
+            collectReferences(uri, child, references);
+        }
+    }
+
+    /**
+     * Maps a URL to its path in the cache : {@code <cache>/<scheme>/<host>[_<port>]/<path>}, with a hash of the query string appended to the file name.
+     */
+    private Path cachePath(URI uri) {
+        String authority = uri.getHost() + (uri.getPort() >= 0 ? "_" + uri.getPort() : "");
+        Path hostDirectory = cacheDirectory.resolve(uri.getScheme()).resolve(authority);
+        String path = StringUtils.defaultString(uri.normalize().getPath());
+        String fileName = StringUtils.defaultIfEmpty(StringUtils.substringAfterLast("/" + path, "/"), DEFAULT_FILE_NAME);
+        if (uri.getRawQuery() != null)
+            fileName += "_" + Integer.toHexString(uri.getRawQuery().hashCode());
+        Path directory = hostDirectory.resolve(StringUtils.removeStart(StringUtils.substringBeforeLast("/" + path, "/"), "/")).normalize();
+        Validate.isTrue(directory.startsWith(hostDirectory), "Invalid URL path '%s'", path);
+        return directory.resolve(fileName);
+    }
+
+    private static boolean isRemote(String ref) {
+        return ref.startsWith("http://") || ref.startsWith("https://");
+    }
+
+    private static URI withoutFragment(URI uri) {
+        try {
+            return new URI(uri.getScheme(), uri.getRawSchemeSpecificPart(), null);
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static URI toUri(URL url) {
+        try {
+            return url.toURI().normalize();
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException(String.format("Invalid URL '%s'", url), e);
+        }
+    }
+
+    private static JsonNode readTree(Path file) throws IOException {
+        return readTree(Files.readAllBytes(file));
+    }
+
+    private static JsonNode readTree(byte[] content) {
+        try {
+            return Yaml.mapper().readTree(content);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static void drain(HttpURLConnection connection) {
+        try (InputStream body = connection.getResponseCode() >= 400 ? connection.getErrorStream() : connection.getInputStream()) {
+            if (body != null)
+                org.apache.commons.io.IOUtils.toByteArray(body);
+        } catch (IOException e) {
+            // the connection is not reused
+        }
+    }
+
+    private static void write(Path file, byte[] content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Path temporaryFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temporaryFile, content);
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    /**
+     * Response status which must not fall back to the cached document, e.g. a document which does not exist anymore.
+     */
+    private static class HttpStatusException extends IOException {
+
+        HttpStatusException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.utils;
+
+import org.apache.commons.lang3.Validate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Deduplicates concurrent computations of the same key : the first caller computes the value,
+ * callers arriving while the computation is in flight wait for it and share its value, or its exception.<br>
+ * Values are not retained once the computation completed, a later call computes the value again.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong coalescedCalls = new AtomicLong();
+
+    /**
+     * Returns the value of {@code key}, computed by {@code supplier} unless a computation of the same key is already in flight.
+     *
+     * @param key      the key
+     * @param supplier computes the value
+     * @return the value
+     */
+    public V execute(K key, Supplier<V> supplier) {
+        Validate.notNull(key, "key must not be null");
+        Validate.notNull(supplier, "supplier must not be null");
+        calls.incrementAndGet();
+
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> inFlightFuture = inFlight.putIfAbsent(key, future);
+        if (inFlightFuture != null) {
+            coalescedCalls.incrementAndGet();
+            return await(inFlightFuture);
+        }
+        try {
+            V value = supplier.get();
+            future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * Returns the number of calls of {@link #execute(Object, Supplier)}.
+     *
+     * @return the number of calls
+     */
+    public long getCalls() {
+        return calls.get();
+    }
+
+    /**
+     * Returns the number of calls which shared the computation of a previous call instead of computing the value.
+     *
+     * @return the number of coalesced calls
+     */
+    public long getCoalescedCalls() {
+        return coalescedCalls.get();
+    }
+
+    /**
+     * Returns the number of computations currently in flight.
+     *
+     * @return the number of computations in flight
+     */
+    public int getInFlight() {
+        return inFlight.size();
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a computation in flight", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            if (cause instanceof Error)
+                throw (Error) cause;
+            throw new RuntimeException(cause);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.listener;
+
+import io.github.swagger2markup.spi.ConversionListener;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Conversion listener emitting Java Flight Recorder events for the conversions, the documents, the operations, the definitions,
+ * the example generation and the description import.<br>
+ * It is registered automatically. The JAR is a multi-release JAR : this version, used on Java 11 and later, emits events in the "Swagger2Markup" category,
+ * recorded only when a recording enables them, e.g {@code -XX:StartFlightRecording=settings=profile}.
+ * The events in progress are kept by the instance returned by {@link #forConversion()}, one per converter.
+ */
+public class FlightRecorderConversionListener extends ConversionListener {
+
+    private static final String CATEGORY = "Swagger2Markup";
+
+    private final List<Event> stack = new ArrayList<>();
+
+    @Override
+    public boolean isActive() {
+        return FlightRecorder.isAvailable();
+    }
+
+    @Override
+    public ConversionListener forConversion() {
+        return new FlightRecorderConversionListener();
+    }
+
+    @Override
+    public void onStart(Phase phase, String name) {
+        if (!isRecorded(phase))
+            return;
+        if (phase == Phase.CONVERSION) {
+            // phases of a failed conversion are never ended
+            stack.clear();
+        }
+        Event event = createEvent(phase, name);
+        if (event.isEnabled()) {
+            event.begin();
+            stack.add(event);
+        } else {
+            stack.add(null);
+        }
+    }
+
+    @Override
+    public void onEnd(Phase phase, String name, long durationNanos) {
+        if (!isRecorded(phase))
+            return;
+        if (stack.isEmpty())
+            return;
+        Event event = stack.remove(stack.size() - 1);
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit())
+                event.commit();
+        }
+    }
+
+    @Override
+    public void onCount(Counter counter, long increment) {
+        if (stack.isEmpty() || !(stack.get(0) instanceof ConversionEvent))
+            return;
+        ConversionEvent conversionEvent = (ConversionEvent) stack.get(0);
+        switch (counter) {
+            case OPERATIONS_RENDERED:
+                conversionEvent.operationsRendered += increment;
+                break;
+            case DEFINITIONS_RENDERED:
+                conversionEvent.definitionsRendered += increment;
+                break;
+            case FILES_WRITTEN:
+                conversionEvent.filesWritten += increment;
+                break;
+            case BYTES_WRITTEN:
+                conversionEvent.bytesWritten += increment;
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static boolean isRecorded(Phase phase) {
+        return phase != Phase.PARSING && phase != Phase.SWAGGER_MODEL_EXTENSION;
+    }
+
+    private static Event createEvent(Phase phase, String name) {
+        switch (phase) {
+            case CONVERSION:
+                ConversionEvent conversionEvent = new ConversionEvent();
+                conversionEvent.source = name;
+                return conversionEvent;
+            case OPERATION:
+                OperationRenderEvent operationEvent = new OperationRenderEvent();
+                operationEvent.operationId = name;
+                return operationEvent;
+            case DEFINITION:
+                DefinitionRenderEvent definitionEvent = new DefinitionRenderEvent();
+                definitionEvent.definitionName = name;
+                return definitionEvent;
+            case EXAMPLE_GENERATION:
+                ExampleGenerationEvent exampleEvent = new ExampleGenerationEvent();
+                exampleEvent.operationId = name;
+                return exampleEvent;
+            case DESCRIPTION_IMPORT:
+                return new DescriptionImportEvent();
+            default:
+                DocumentRenderEvent documentEvent = new DocumentRenderEvent();
+                documentEvent.document = name;
+                documentEvent.phase = phase.name();
+                return documentEvent;
+        }
+    }
+
+    @Name("io.github.swagger2markup.Conversion")
+    @Label("Conversion")
+    @Category(CATEGORY)
+    @Description("Conversion of a Swagger specification. Files and bytes written are only known for conversions into an output sink or directory")
+    static class ConversionEvent extends Event {
+        @Label("Source")
+        String source;
+
+        @Label("Operations Rendered")
+        long operationsRendered;
+
+        @Label("Definitions Rendered")
+        long definitionsRendered;
+
+        @Label("Files Written")
+        long filesWritten;
+
+        @Label("Bytes Written")
+        @DataAmount
+        long bytesWritten;
+    }
+
+    @Name("io.github.swagger2markup.DocumentRender")
+    @Label("Document Render")
+    @Category(CATEGORY)
+    @Description("Rendering of the overview, paths, definitions or security document")
+    static class DocumentRenderEvent extends Event {
+        @Label("Document")
+        String document;
+
+        @Label("Phase")
+        String phase;
+    }
+
+    @Name("io.github.swagger2markup.OperationRender")
+    @Label("Operation Render")
+    @Category(CATEGORY)
+    @Description("Rendering of an operation, not emitted for reused separated files")
+    static class OperationRenderEvent extends Event {
+        @Label("Operation Id")
+        String operationId;
+    }
+
+    @Name("io.github.swagger2markup.DefinitionRender")
+    @Label("Definition Render")
+    @Category(CATEGORY)
+    @Description("Rendering of a definition, not emitted for reused separated files")
+    static class DefinitionRenderEvent extends Event {
+        @Label("Definition Name")
+        String definitionName;
+    }
+
+    @Name("io.github.swagger2markup.ExampleGeneration")
+    @Label("Example Generation")
+    @Category(CATEGORY)
+    @Description("Generation of the request and response examples of an operation")
+    static class ExampleGenerationEvent extends Event {
+        @Label("Operation Id")
+        String operationId;
+    }
+
+    @Name("io.github.swagger2markup.DescriptionImport")
+    @Label("Description Import")
+    @Category(CATEGORY)
+    @Description("Import of a description which is not in the description cache")
+    static class DescriptionImportEvent extends Event {
+    }
+}
@@ -17,22 +17,43 @@ package io.github.swagger2markup;
 
 import io.github.swagger2markup.assertions.DiffUtils;
 import io.github.swagger2markup.builder.Swagger2MarkupConfigBuilder;
+import io.github.swagger2markup.builder.Swagger2MarkupExtensionRegistryBuilder;
+import io.github.swagger2markup.internal.utils.BuildManifest;
 import io.github.swagger2markup.markup.builder.MarkupLanguage;
+import io.github.swagger2markup.output.InMemoryOutputSink;
+import io.github.swagger2markup.output.ZipOutputSink;
+import io.github.swagger2markup.spi.DefinitionsDocumentExtension;
+import io.github.swagger2markup.spi.SecurityDocumentExtension;
+import io.swagger.models.Model;
+import io.swagger.models.ModelImpl;
+import io.swagger.models.Swagger;
+import io.swagger.parser.SwaggerParser;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
@@ -60,6 +81,93 @@ public class AsciidocConverterTest {
         assertThat(asciiDocAsString).isNotEmpty();
     }
 
+    @Test
+    public void testToOutputStream() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputFile = Paths.get("build/test/asciidoc/to_output_stream/swagger.adoc");
+        FileUtils.deleteQuietly(outputFile.toFile());
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withPathsGroupedBy(GroupBy.TAGS)
+                .build();
+
+        //When
+        Swagger2MarkupConverter.from(file).withConfig(config).build()
+                .toFileWithoutExtension(outputFile);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Swagger2MarkupConverter.from(file).withConfig(config).build()
+                .toOutputStream(outputStream, StandardCharsets.UTF_8);
+
+        //Then
+        assertThat(new String(outputStream.toByteArray(), StandardCharsets.UTF_8))
+                .isEqualTo(new String(Files.readAllBytes(outputFile), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testToFileWithoutExtensionOverwritesPreviousContent() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputFile = Paths.get("build/test/asciidoc/to_file_without_extension/swagger.adoc");
+        FileUtils.deleteQuietly(outputFile.getParent().toFile());
+
+        //When
+        Swagger2MarkupConverter.from(file).build()
+                .toFileWithoutExtension(outputFile);
+        Swagger2MarkupConverter.from(file).build()
+                .toFileWithoutExtension(outputFile);
+
+        //Then
+        assertThat(new String(Files.readAllBytes(outputFile), StandardCharsets.UTF_8))
+                .isEqualTo(Swagger2MarkupConverter.from(file).build().toString());
+    }
+
+    @Test
+    public void testToInMemorySink() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/to_in_memory_sink");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withSeparatedDefinitions()
+                .build();
+        Swagger2MarkupConverter.from(file).withConfig(config).build()
+                .toFolder(outputDirectory);
+
+        //When
+        InMemoryOutputSink outputSink = new InMemoryOutputSink();
+        Swagger2MarkupConverter.from(file).withConfig(config).build()
+                .toSink(outputSink);
+
+        //Then
+        assertThat(outputSink.getDocuments().keySet()).hasSize(9).contains("overview.adoc", "paths.adoc", "definitions.adoc", "security.adoc", "definitions/Pet.adoc");
+        for (Map.Entry<String, byte[]> document : outputSink.getDocuments().entrySet())
+            assertThat(document.getValue()).isEqualTo(Files.readAllBytes(outputDirectory.resolve(document.getKey())));
+    }
+
+    @Test
+    public void testToZipSink() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withSeparatedOperations()
+                .build();
+
+        //When
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ZipOutputSink outputSink = new ZipOutputSink(outputStream)) {
+            Swagger2MarkupConverter.from(file).withConfig(config).build()
+                    .toSink(outputSink);
+        }
+
+        //Then
+        List<String> entries = new ArrayList<>();
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            for (ZipEntry entry = zipInputStream.getNextEntry(); entry != null; entry = zipInputStream.getNextEntry())
+                entries.add(entry.getName());
+        }
+        assertThat(entries).contains("overview.adoc", "paths.adoc", "definitions.adoc", "security.adoc", "operations/addPet.adoc");
+    }
+
     @Test
     public void testToFolder() throws IOException, URISyntaxException {
         //Given
@@ -441,6 +549,95 @@ public class AsciidocConverterTest {
         DiffUtils.assertThatAllFilesAreEqual(expectedFilesDirectory, outputDirectory, "testWithInlineSchemaAndFlatBody.html");
     }
 
+    @Test
+    public void testWithInlineSchemaDeduplication() throws URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_inlineSchema_duplicates.yaml").toURI());
+
+        //When
+        String asciiDoc = Swagger2MarkupConverter.from(file)
+                .build()
+                .toString();
+        String deduplicatedAsciiDoc = Swagger2MarkupConverter.from(file)
+                .withConfig(new Swagger2MarkupConfigBuilder()
+                        .withInlineSchemaDeduplication()
+                        .build())
+                .build()
+                .toString();
+
+        //Then
+        assertThat(StringUtils.countMatches(deduplicatedAsciiDoc, "|===")).isEqualTo(StringUtils.countMatches(asciiDoc, "|===") - 4);
+        assertThat(deduplicatedAsciiDoc).contains("<<_owners_get_page,page>>");
+    }
+
+    @Test
+    public void testWithInlineSchemaHoisting() throws URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_inlineSchema_duplicates.yaml").toURI());
+
+        //When
+        Swagger2MarkupConverter converter = Swagger2MarkupConverter.from(file)
+                .withConfig(new Swagger2MarkupConfigBuilder()
+                        .withInlineSchemaHoistThreshold(3)
+                        .build())
+                .build();
+
+        //Then
+        assertThat(converter.getContext().getSwagger().getDefinitions()).containsOnlyKeys("page");
+        assertThat(converter.toString()).contains("<<_page,page>>");
+    }
+
+    @Test
+    public void testWithInlineSchemaHoistingNormalizesNamesAndKeepsExamples() {
+        //Given
+        StringBuilder swagger = new StringBuilder("swagger: \"2.0\"\ninfo:\n  title: API\n  version: \"1.0\"\npaths:\n");
+        for (String operation : new String[]{"listA", "listB", "listC"}) {
+            swagger.append("  /").append(operation).append(":\n    get:\n      operationId: ").append(operation)
+                    .append("\n      responses:\n        200:\n          description: OK\n          schema:\n            type: object\n")
+                    .append("            properties:\n              number:\n                type: integer\n");
+        }
+        for (String operation : new String[]{"listD", "listE", "listF"}) {
+            swagger.append("  /").append(operation).append(":\n    get:\n      operationId: ").append(operation)
+                    .append("\n      responses:\n        200:\n          description: OK\n          schema:\n            type: object\n")
+                    .append("            example:\n              name: ").append(operation).append("\n")
+                    .append("            properties:\n              name:\n                type: string\n");
+        }
+
+        //When
+        Swagger2MarkupConverter converter = Swagger2MarkupConverter.from(swagger.toString())
+                .withConfig(new Swagger2MarkupConfigBuilder()
+                        .withInlineSchemaHoistThreshold(3)
+                        .build())
+                .build();
+
+        //Then
+        assertThat(converter.getContext().getSwagger().getDefinitions()).containsOnlyKeys("listA_response_200");
+        Model listFSchema = converter.getContext().getSwagger().getPath("/listF").getGet().getResponses().get("200").getResponseSchema();
+        assertThat(listFSchema).isInstanceOf(ModelImpl.class);
+        assertThat(((ModelImpl) listFSchema).getExample()).isNotNull();
+    }
+
+    @Test
+    public void testWithInlineSchemaDepthLimit() throws URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_inlineSchema.yaml").toURI());
+
+        //When
+        String asciiDoc = Swagger2MarkupConverter.from(file)
+                .build()
+                .toString();
+        String limitedAsciiDoc = Swagger2MarkupConverter.from(file)
+                .withConfig(new Swagger2MarkupConfigBuilder()
+                        .withInlineSchemaDepthLimit(1)
+                        .build())
+                .build()
+                .toString();
+
+        //Then
+        assertThat(StringUtils.countMatches(limitedAsciiDoc, "|===")).isLessThan(StringUtils.countMatches(asciiDoc, "|==="));
+        assertThat(StringUtils.countMatches(limitedAsciiDoc, "[[_")).isEqualTo(StringUtils.countMatches(asciiDoc, "[[_"));
+    }
+
     @Test
     public void testGroupedByTags() throws IOException, URISyntaxException {
         //Given
@@ -550,6 +747,231 @@ public class AsciidocConverterTest {
                 asList("Category.adoc", "Order.adoc", "Pet.adoc", "Tag.adoc", "User.adoc"));
     }
 
+    @Test
+    public void testWithSkipUnchangedFiles() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/skip_unchanged");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withSeparatedDefinitions()
+                .withSkipUnchangedFiles()
+                .build();
+        Swagger2MarkupConverter.from(file).withConfig(config).build()
+                .toFolder(outputDirectory);
+        Path petFile = outputDirectory.resolve("definitions/Pet.adoc");
+        FileTime lastModifiedTime = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(petFile, lastModifiedTime);
+        Files.write(outputDirectory.resolve("definitions/Tag.adoc"), "outdated".getBytes(StandardCharsets.UTF_8));
+
+        //When
+        Swagger2MarkupConverter converter = Swagger2MarkupConverter.from(file).withConfig(config).build();
+        converter.toFolder(outputDirectory);
+
+        //Then
+        assertThat(Files.getLastModifiedTime(petFile)).isEqualTo(lastModifiedTime);
+        assertThat(converter.getContext().getOutputFileWriter().getWrittenFiles()).isEqualTo(1);
+        assertThat(converter.getContext().getOutputFileWriter().getSkippedFiles()).isEqualTo(8);
+        assertThat(new String(Files.readAllBytes(outputDirectory.resolve("definitions/Tag.adoc")), StandardCharsets.UTF_8)).contains("Tag");
+    }
+
+    @Test
+    public void testWithIncrementalConversion() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/incremental");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withSeparatedDefinitions()
+                .withSeparatedOperations()
+                .withIncrementalConversion()
+                .build();
+        Swagger2MarkupConverter.from(file).withConfig(config).build()
+                .toFolder(outputDirectory);
+        String marker = "reused";
+        for (String reusableFile : asList("definitions/Order.adoc", "definitions/Category.adoc", "definitions/Pet.adoc", "operations/getOrderById.adoc", "operations/getPetById.adoc"))
+            Files.write(outputDirectory.resolve(reusableFile), marker.getBytes(StandardCharsets.UTF_8));
+        Swagger swagger = new SwaggerParser().read(file.toString());
+        swagger.getDefinitions().get("Category").setDescription("Updated category");
+
+        //When
+        Swagger2MarkupConverter converter = Swagger2MarkupConverter.from(swagger).withConfig(config).build();
+        converter.toFolder(outputDirectory);
+
+        //Then
+        assertThat(outputDirectory.resolve(BuildManifest.MANIFEST_FILE_NAME)).exists();
+        assertThat(new String(Files.readAllBytes(outputDirectory.resolve("definitions/Order.adoc")), StandardCharsets.UTF_8)).isEqualTo(marker);
+        assertThat(new String(Files.readAllBytes(outputDirectory.resolve("operations/getOrderById.adoc")), StandardCharsets.UTF_8)).isEqualTo(marker);
+        assertThat(new String(Files.readAllBytes(outputDirectory.resolve("definitions/Category.adoc")), StandardCharsets.UTF_8)).contains("Updated category");
+        assertThat(new String(Files.readAllBytes(outputDirectory.resolve("definitions/Pet.adoc")), StandardCharsets.UTF_8)).isNotEqualTo(marker);
+        assertThat(new String(Files.readAllBytes(outputDirectory.resolve("operations/getPetById.adoc")), StandardCharsets.UTF_8)).isNotEqualTo(marker);
+    }
+
+    @Test
+    public void testWithIncrementalConversionAfterLayoutChange() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/incremental_layout_change");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+        Swagger2MarkupConfigBuilder configBuilder = new Swagger2MarkupConfigBuilder()
+                .withSeparatedDefinitions()
+                .withIncrementalConversion();
+        Swagger2MarkupConverter.from(file).withConfig(configBuilder.build()).build()
+                .toFolder(outputDirectory);
+        assertThat(outputDirectory.resolve("definitions/Order.adoc")).exists();
+
+        //When
+        Swagger2MarkupConverter.from(file).withConfig(configBuilder.withSeparatedFilesLayout(SeparatedFilesLayout.HASH).build()).build()
+                .toFolder(outputDirectory);
+
+        //Then
+        assertThat(outputDirectory.resolve("definitions/Order.adoc")).doesNotExist();
+        assertThat(new String(Files.readAllBytes(outputDirectory.resolve(BuildManifest.MANIFEST_FILE_NAME)), StandardCharsets.UTF_8))
+                .contains("Order.adoc").doesNotContain("\"definitions/Order.adoc\"");
+    }
+
+    @Test
+    public void testWithIncrementalConversionAfterExtensionContentChange() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/incremental_extension_change");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withSeparatedDefinitions()
+                .withIncrementalConversion()
+                .build();
+        String[] contentHash = {"1"};
+        DefinitionsDocumentExtension extension = new DefinitionsDocumentExtension() {
+            @Override
+            public void apply(Context context) {
+            }
+
+            @Override
+            public String getContentHash() {
+                return contentHash[0];
+            }
+        };
+        Swagger2MarkupExtensionRegistry registry = new Swagger2MarkupExtensionRegistryBuilder()
+                .withDefinitionsDocumentExtension(extension)
+                .build();
+        Swagger2MarkupConverter.from(file).withConfig(config).withExtensionRegistry(registry).build()
+                .toFolder(outputDirectory);
+        Files.write(outputDirectory.resolve("definitions/Order.adoc"), "reused".getBytes(StandardCharsets.UTF_8));
+
+        //When
+        contentHash[0] = "2";
+        Swagger2MarkupConverter converter = Swagger2MarkupConverter.from(file).withConfig(config).withExtensionRegistry(registry).build();
+        converter.toFolder(outputDirectory);
+
+        //Then
+        assertThat(new String(Files.readAllBytes(outputDirectory.resolve("definitions/Order.adoc")), StandardCharsets.UTF_8)).isNotEqualTo("reused");
+    }
+
+    @Test
+    public void testWithAsyncWrites() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/async_writes");
+        Path expectedDirectory = Paths.get("build/test/asciidoc/sync_writes");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+        FileUtils.deleteQuietly(expectedDirectory.toFile());
+        Swagger2MarkupConfigBuilder configBuilder = new Swagger2MarkupConfigBuilder()
+                .withSeparatedDefinitions()
+                .withSeparatedOperations();
+        Swagger2MarkupConverter.from(file).withConfig(configBuilder.build()).build()
+                .toFolder(expectedDirectory);
+
+        //When
+        Swagger2MarkupConverter.from(file).withConfig(configBuilder.withAsyncWrites(4).build()).build()
+                .toFolder(outputDirectory);
+
+        //Then
+        for (String directory : asList("", "definitions", "operations")) {
+            String[] expectedNames = expectedDirectory.resolve(directory).toFile().list();
+            assertThat(outputDirectory.resolve(directory).toFile().list()).containsOnly(expectedNames);
+            for (String expectedFile : expectedNames) {
+                Path expectedPath = expectedDirectory.resolve(directory).resolve(expectedFile);
+                if (Files.isRegularFile(expectedPath))
+                    assertThat(Files.readAllBytes(outputDirectory.resolve(directory).resolve(expectedFile))).isEqualTo(Files.readAllBytes(expectedPath));
+            }
+        }
+    }
+
+    @Test
+    public void testWithAtomicOutput() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path parentDirectory = Paths.get("build/test/asciidoc/atomic");
+        Path outputDirectory = parentDirectory.resolve("generated");
+        FileUtils.deleteQuietly(parentDirectory.toFile());
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withSeparatedDefinitions()
+                .withAtomicOutput()
+                .build();
+        Swagger2MarkupConverter.from(file).withConfig(config).build()
+                .toFolder(outputDirectory);
+        Path petFile = outputDirectory.resolve("definitions/Pet.adoc");
+        boolean posix = FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+        if (posix)
+            Files.setPosixFilePermissions(outputDirectory, PosixFilePermissions.fromString("rwxr-xr-x"));
+        FileTime lastModifiedTime = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(petFile, lastModifiedTime);
+        byte[] petContent = Files.readAllBytes(petFile);
+
+        //When
+        Swagger2MarkupExtensionRegistry failingRegistry = new Swagger2MarkupExtensionRegistryBuilder()
+                .withSecurityDocumentExtension(new SecurityDocumentExtension() {
+                    @Override
+                    public void apply(Context context) {
+                        throw new IllegalStateException("Conversion failure");
+                    }
+                })
+                .build();
+        try {
+            Swagger2MarkupConverter.from(file).withConfig(config).withExtensionRegistry(failingRegistry).build()
+                    .toFolder(outputDirectory);
+            failBecauseExceptionWasNotThrown(IllegalStateException.class);
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage()).isEqualTo("Conversion failure");
+        }
+        Swagger2MarkupConverter.from(file).withConfig(config).build()
+                .toFolder(outputDirectory);
+
+        //Then
+        assertThat(Files.isSymbolicLink(outputDirectory)).isTrue();
+        assertThat(parentDirectory.toFile().list()).hasSize(2).contains("generated");
+        assertThat(outputDirectory.toFile().list()).hasSize(5).containsAll(expectedFiles);
+        if (posix)
+            assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(outputDirectory))).isEqualTo("rwxr-xr-x");
+        assertThat(Files.readAllBytes(petFile)).isEqualTo(petContent);
+        assertThat(Files.getLastModifiedTime(petFile)).isEqualTo(lastModifiedTime);
+    }
+
+    @Test
+    public void testWithAtomicOutputRejectsPlainDirectory() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path parentDirectory = Paths.get("build/test/asciidoc/atomic-plain");
+        Path outputDirectory = parentDirectory.resolve("generated");
+        FileUtils.deleteQuietly(parentDirectory.toFile());
+        Files.createDirectories(outputDirectory);
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withAtomicOutput()
+                .build();
+
+        //When
+        try {
+            Swagger2MarkupConverter.from(file).withConfig(config).build()
+                    .toFolder(outputDirectory);
+            failBecauseExceptionWasNotThrown(RuntimeException.class);
+        } catch (RuntimeException e) {
+            //Then
+            assertThat(e.getCause().getMessage()).contains("can't be replaced atomically");
+        }
+        assertThat(parentDirectory.toFile().list()).containsOnly("generated");
+        assertThat(outputDirectory.toFile().list()).isEmpty();
+    }
+
     @Test
     public void testWithSeparatedOperations() throws IOException, URISyntaxException {
         //Given
@@ -574,6 +996,130 @@ public class AsciidocConverterTest {
         assertThat(paths).hasSize(18);
     }
 
+    @Test
+    public void testWithSeparatedFilesLayout() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/separated_files_layout");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+
+        //When
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withSeparatedOperations()
+                .withSeparatedDefinitions()
+                .withSeparatedFilesLayout(SeparatedFilesLayout.TAGS)
+                .withInterDocumentCrossReferences()
+                .build();
+        Swagger2MarkupConverter.from(file).withConfig(config).build()
+                .toFolder(outputDirectory);
+
+        //Then
+        Path pathsDirectory = outputDirectory.resolve("operations");
+        assertThat(pathsDirectory.toFile().list()).containsOnly("pet", "store", "user");
+        assertThat(FileUtils.listFiles(pathsDirectory.toFile(), null, true)).hasSize(18);
+
+        Path definitionsDirectory = outputDirectory.resolve("definitions");
+        for (String subdirectory : definitionsDirectory.toFile().list())
+            assertThat(subdirectory).matches("[0-9a-f]{2}");
+        assertThat(FileUtils.listFiles(definitionsDirectory.toFile(), null, true)).hasSize(5);
+
+        StringBuilder petOperations = new StringBuilder();
+        for (File operationFile : FileUtils.listFiles(pathsDirectory.resolve("pet").toFile(), null, false))
+            petOperations.append(new String(Files.readAllBytes(operationFile.toPath()), StandardCharsets.UTF_8));
+        assertThat(petOperations.toString()).contains("../../definitions/");
+    }
+
+    @Test
+    public void testWithSharding() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/sharding");
+        Path unshardedOutputDirectory = Paths.get("build/test/asciidoc/sharding_unsharded");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+        FileUtils.deleteQuietly(unshardedOutputDirectory.toFile());
+
+        //When
+        Swagger2MarkupConfigBuilder configBuilder = new Swagger2MarkupConfigBuilder()
+                .withPathsGroupedBy(GroupBy.TAGS);
+        Swagger2MarkupConverter.from(file).withConfig(configBuilder.build()).build()
+                .toFolder(unshardedOutputDirectory);
+        Swagger2MarkupConverter.from(file).withConfig(configBuilder.withSharding(10, 0).build()).build()
+                .toFolder(outputDirectory);
+
+        //Then
+        String[] files = outputDirectory.toFile().list();
+        expectedFiles.addAll(asList("paths-1.adoc", "paths-2.adoc", "definitions-1.adoc"));
+        assertThat(files).hasSize(7).containsAll(expectedFiles);
+
+        // pet and store operations fit into the first shard, user operations don't : the shard is cut before the user tag
+        String firstShard = new String(Files.readAllBytes(outputDirectory.resolve("paths-1.adoc")), StandardCharsets.UTF_8);
+        String secondShard = new String(Files.readAllBytes(outputDirectory.resolve("paths-2.adoc")), StandardCharsets.UTF_8);
+        assertThat(firstShard).contains("_pet_resource", "_store_resource").doesNotContain("_user_resource");
+        assertThat(secondShard).contains("_user_resource");
+        assertThat(firstShard + secondShard).isEqualTo(
+                new String(Files.readAllBytes(unshardedOutputDirectory.resolve("paths.adoc")), StandardCharsets.UTF_8));
+
+        assertThat(new String(Files.readAllBytes(outputDirectory.resolve("paths.adoc")), StandardCharsets.UTF_8))
+                .contains("include::paths-1.adoc[]", "include::paths-2.adoc[]");
+        assertThat(new String(Files.readAllBytes(outputDirectory.resolve("definitions.adoc")), StandardCharsets.UTF_8))
+                .contains("include::definitions-1.adoc[]");
+    }
+
+    @Test
+    public void testWithShardingDeletesStaleShards() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/sharding_stale");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+        Swagger2MarkupConfigBuilder configBuilder = new Swagger2MarkupConfigBuilder()
+                .withPathsGroupedBy(GroupBy.TAGS);
+        Swagger2MarkupConverter.from(file).withConfig(configBuilder.withSharding(10, 0).build()).build()
+                .toFolder(outputDirectory);
+        assertThat(outputDirectory.resolve("paths-2.adoc")).exists();
+
+        //When
+        Swagger2MarkupConverter.from(file).withConfig(configBuilder.withSharding(100, 0).build()).build()
+                .toFolder(outputDirectory);
+
+        //Then
+        assertThat(outputDirectory.resolve("paths-1.adoc")).exists();
+        assertThat(outputDirectory.resolve("paths-2.adoc")).doesNotExist();
+        assertThat(new String(Files.readAllBytes(outputDirectory.resolve("paths.adoc")), StandardCharsets.UTF_8))
+                .contains("include::paths-1.adoc[]").doesNotContain("include::paths-2.adoc[]");
+    }
+
+    @Test
+    public void testWithGzipOutput() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/gzip");
+        Path uncompressedOutputDirectory = Paths.get("build/test/asciidoc/gzip_uncompressed");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+        FileUtils.deleteQuietly(uncompressedOutputDirectory.toFile());
+
+        //When
+        Swagger2MarkupConfigBuilder configBuilder = new Swagger2MarkupConfigBuilder()
+                .withSeparatedDefinitions()
+                .withInterDocumentCrossReferences();
+        Swagger2MarkupConverter.from(file).withConfig(configBuilder.build()).build()
+                .toFolder(uncompressedOutputDirectory);
+        Swagger2MarkupConverter.from(file).withConfig(configBuilder.withGzipOutput(9, 4096).build()).build()
+                .toFolder(outputDirectory);
+
+        //Then
+        String[] files = outputDirectory.toFile().list();
+        assertThat(files).hasSize(5).containsAll(
+                asList("definitions.adoc.gz", "overview.adoc.gz", "paths.adoc.gz", "security.adoc.gz", "definitions"));
+        assertThat(outputDirectory.resolve("definitions").toFile().list()).contains("Pet.adoc.gz");
+
+        for (String document : asList("definitions.adoc", "overview.adoc", "paths.adoc", "security.adoc", "definitions/Pet.adoc")) {
+            try (GZIPInputStream compressedDocument = new GZIPInputStream(Files.newInputStream(outputDirectory.resolve(document + ".gz")))) {
+                assertThat(IOUtils.toString(compressedDocument, StandardCharsets.UTF_8))
+                        .isEqualTo(new String(Files.readAllBytes(uncompressedOutputDirectory.resolve(document)), StandardCharsets.UTF_8));
+            }
+        }
+    }
+
     @Test
     public void testWithAsciidocContentInTables() throws URISyntaxException {
 
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup;
+
+import io.github.swagger2markup.helper.SpecGenerator;
+import io.swagger.models.Swagger;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the generated documents grow linearly with the size of the specification :
+ * quadrupling the size must not multiply their length by more than {@link #MAX_GROWTH}.<br>
+ * Only timing-independent quantities are asserted, conversion time and allocated memory are checked by {@code SpecScalingBenchmark}.
+ */
+public class SpecScalingTest {
+
+    private static final int SMALL_SIZE = 100;
+    private static final int LARGE_SIZE = 4 * SMALL_SIZE;
+    private static final double MAX_GROWTH = 8;
+
+    @Test
+    public void testGeneratorIsDeterministic() {
+        SpecGenerator generator = SpecGenerator.builder().withSeed(7).withComposedModels(5).withRecursiveModels(3);
+
+        assertThat(generator.toYaml()).isEqualTo(SpecGenerator.builder().withSeed(7).withComposedModels(5).withRecursiveModels(3).toYaml());
+        assertThat(generator.toYaml()).isNotEqualTo(SpecGenerator.builder().withSeed(8).withComposedModels(5).withRecursiveModels(3).toYaml());
+
+        Swagger swagger = generator.generate();
+        assertThat(swagger.getDefinitions()).hasSize(50 + 5 + 3);
+        assertThat(swagger.getPaths().values().stream().mapToInt(path -> path.getOperations().size()).sum()).isEqualTo(100);
+        assertThat(swagger.getTags()).hasSize(10);
+    }
+
+    @Test
+    public void testDocumentsScaleLinearly() {
+        String small = convert(spec(SMALL_SIZE));
+        String large = convert(spec(LARGE_SIZE));
+
+        assertThat((double) large.length() / small.length()).isLessThan(MAX_GROWTH);
+        assertThat((double) lines(large) / lines(small)).isLessThan(MAX_GROWTH);
+    }
+
+    private static String spec(int size) {
+        return SpecGenerator.builder()
+                .withOperations(size)
+                .withDefinitions(size)
+                .withComposedModels(size / 10)
+                .withRecursiveModels(5)
+                .toYaml();
+    }
+
+    private static String convert(String spec) {
+        return Swagger2MarkupConverter.from(spec).build().toString();
+    }
+
+    private static long lines(String document) {
+        return document.chars().filter(c -> c == '\n').count();
+    }
+}
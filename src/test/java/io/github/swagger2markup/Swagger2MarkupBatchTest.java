@@ -0,0 +1,113 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup;
+
+import io.github.swagger2markup.builder.Swagger2MarkupConfigBuilder;
+import io.github.swagger2markup.builder.Swagger2MarkupExtensionRegistryBuilder;
+import org.apache.commons.io.FileUtils;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class Swagger2MarkupBatchTest {
+
+    private Path outputDirectory;
+
+    @Before
+    public void setUp() throws IOException {
+        outputDirectory = Paths.get("build/test/batch");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+    }
+
+    @Test
+    public void testBatchReportsEachSpecification() throws URISyntaxException, IOException {
+        //Given
+        Path petstore = Paths.get(Swagger2MarkupBatchTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path minMaxItems = Paths.get(Swagger2MarkupBatchTest.class.getResource("/yaml/swagger_petstore_min_max_items.yaml").toURI());
+        Path missing = outputDirectory.resolve("missing.yaml");
+        AtomicInteger registries = new AtomicInteger();
+
+        //When
+        Swagger2MarkupBatch.Report report = Swagger2MarkupBatch.builder()
+                .withConfig(new Swagger2MarkupConfigBuilder().build())
+                .withExtensionRegistry(() -> {
+                    registries.incrementAndGet();
+                    return new Swagger2MarkupExtensionRegistryBuilder().build();
+                })
+                .withThreads(2)
+                .add(petstore, outputDirectory.resolve("petstore"))
+                .add(missing, outputDirectory.resolve("missing"))
+                .add(minMaxItems.toUri(), outputDirectory.resolve("minMaxItems"))
+                .build()
+                .run();
+
+        //Then
+        assertThat(report.getResults()).hasSize(3);
+        assertThat(report.isSucceeded()).isFalse();
+        assertThat(report.getResults().get(0).isSucceeded()).isTrue();
+        assertThat(report.getResults().get(1).isSucceeded()).isFalse();
+        assertThat(report.getResults().get(1).getSource()).isEqualTo(missing.toString());
+        assertThat(report.getResults().get(1).getFailure()).isNotNull();
+        assertThat(report.getResults().get(2).isSucceeded()).isTrue();
+        assertThat(report.getSucceeded()).hasSize(2);
+        assertThat(report.getFailed()).hasSize(1);
+        assertThat(registries.get()).isBetween(1, 2);
+
+        String[] files = outputDirectory.resolve("petstore").toFile().list();
+        assertThat(files).hasSize(4).containsAll(asList("paths.adoc", "definitions.adoc", "overview.adoc", "security.adoc"));
+        assertThat(Files.exists(outputDirectory.resolve("minMaxItems").resolve("definitions.adoc"))).isTrue();
+        assertThat(Files.exists(outputDirectory.resolve("missing"))).isFalse();
+    }
+
+    @Test
+    public void testBatchReportsErrors() throws URISyntaxException {
+        //Given
+        Path petstore = Paths.get(Swagger2MarkupBatchTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+
+        //When
+        Swagger2MarkupBatch.Report report = Swagger2MarkupBatch.builder()
+                .add(petstore.toUri(), (name, content) -> {
+                    throw new StackOverflowError();
+                })
+                .add(petstore, outputDirectory.resolve("petstore"))
+                .build()
+                .run();
+
+        //Then
+        assertThat(report.getFailed()).hasSize(1);
+        assertThat(report.getResults().get(0).getFailure()).isInstanceOf(StackOverflowError.class);
+        assertThat(report.getResults().get(1).isSucceeded()).isTrue();
+    }
+
+    @Test
+    public void testEmptyBatch() {
+        //When
+        Swagger2MarkupBatch.Report report = Swagger2MarkupBatch.builder().build().run();
+
+        //Then
+        assertThat(report.getResults()).isEmpty();
+        assertThat(report.isSucceeded()).isTrue();
+    }
+}
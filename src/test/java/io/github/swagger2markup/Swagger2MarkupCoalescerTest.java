@@ -0,0 +1,154 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup;
+
+import io.github.swagger2markup.builder.Swagger2MarkupConfigBuilder;
+import io.github.swagger2markup.markup.builder.MarkupLanguage;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class Swagger2MarkupCoalescerTest {
+
+    private static final int CALLERS = 8;
+
+    @Test
+    public void testConcurrentConversionsAreCoalesced() throws Exception {
+        //Given
+        String swaggerString = petstore();
+        Swagger2MarkupCoalescer coalescer = new Swagger2MarkupCoalescer();
+        AtomicInteger conversions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+        //When
+        List<Future<String>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> coalescer.convert(swaggerString, null, null, "string", converter -> {
+                    conversions.incrementAndGet();
+                    await(release);
+                    return converter.toString();
+                })));
+            }
+            while (coalescer.getCoalescedCalls() < CALLERS - 1) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            //Then
+            String expected = Swagger2MarkupConverter.from(swaggerString).build().toString();
+            for (Future<String> result : results) {
+                assertThat(result.get(30, TimeUnit.SECONDS)).isEqualTo(expected);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(conversions.get()).isEqualTo(1);
+        assertThat(coalescer.getCalls()).isEqualTo(CALLERS);
+        assertThat(coalescer.getInFlight()).isEqualTo(0);
+    }
+
+    @Test
+    public void testDifferentConfigurationsAreNotCoalesced() throws Exception {
+        //Given
+        String swaggerString = petstore();
+        Swagger2MarkupCoalescer coalescer = new Swagger2MarkupCoalescer();
+        Swagger2MarkupConfig markdownConfig = new Swagger2MarkupConfigBuilder()
+                .withMarkupLanguage(MarkupLanguage.MARKDOWN)
+                .build();
+
+        //When
+        String asciidoc = coalescer.toString(swaggerString, null, null);
+        String markdown = coalescer.toString(swaggerString, markdownConfig, null);
+
+        //Then
+        assertThat(asciidoc).isNotEqualTo(markdown);
+        assertThat(coalescer.getCalls()).isEqualTo(2);
+        assertThat(coalescer.getCoalescedCalls()).isEqualTo(0);
+    }
+
+    @Test
+    public void testDifferentOrderingsAreNotCoalesced() throws Exception {
+        //Given
+        String swaggerString = petstore();
+        Swagger2MarkupCoalescer coalescer = new Swagger2MarkupCoalescer();
+        Swagger2MarkupConfig ascendingConfig = new Swagger2MarkupConfigBuilder()
+                .withPathsGroupedBy(GroupBy.TAGS)
+                .withTagOrdering(Comparator.naturalOrder())
+                .build();
+        Swagger2MarkupConfig descendingConfig = new Swagger2MarkupConfigBuilder()
+                .withPathsGroupedBy(GroupBy.TAGS)
+                .withTagOrdering(Comparator.reverseOrder())
+                .build();
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        //When
+        try {
+            Future<String> ascending = executor.submit(() -> coalescer.convert(swaggerString, ascendingConfig, null, "string", converter -> {
+                started.countDown();
+                await(release);
+                return converter.toString();
+            }));
+            Future<String> descending = executor.submit(() -> coalescer.convert(swaggerString, descendingConfig, null, "string", converter -> {
+                started.countDown();
+                await(release);
+                return converter.toString();
+            }));
+            boolean bothStarted = started.await(30, TimeUnit.SECONDS);
+            release.countDown();
+
+            //Then
+            assertThat(bothStarted).isTrue();
+            assertThat(ascending.get(30, TimeUnit.SECONDS)).isNotEqualTo(descending.get(30, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(coalescer.getCalls()).isEqualTo(2);
+        assertThat(coalescer.getCoalescedCalls()).isEqualTo(0);
+    }
+
+    private static String petstore() throws IOException, URISyntaxException {
+        return new String(Files.readAllBytes(Paths.get(Swagger2MarkupCoalescerTest.class.getResource("/yaml/swagger_petstore.yaml").toURI())),
+                StandardCharsets.UTF_8);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+}
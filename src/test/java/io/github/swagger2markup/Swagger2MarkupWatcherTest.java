@@ -0,0 +1,128 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup;
+
+import io.github.swagger2markup.builder.Swagger2MarkupConfigBuilder;
+import io.github.swagger2markup.internal.utils.ReferencedFiles;
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class Swagger2MarkupWatcherTest {
+
+    @Test
+    public void testChangeReRendersAffectedFiles() throws IOException, URISyntaxException, InterruptedException {
+        //Given
+        Path workDirectory = Paths.get("build/test/watch");
+        FileUtils.deleteQuietly(workDirectory.toFile());
+        Path specFile = workDirectory.resolve("spec/swagger.yaml");
+        Files.createDirectories(specFile.getParent());
+        Files.copy(Paths.get(Swagger2MarkupWatcherTest.class.getResource("/yaml/swagger_petstore.yaml").toURI()), specFile);
+        Path outputDirectory = workDirectory.resolve("output");
+
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withSeparatedDefinitions()
+                .withSeparatedOperations()
+                .withIncrementalConversion()
+                .build();
+        BlockingQueue<Swagger2MarkupWatcher.Result> results = new LinkedBlockingQueue<>();
+
+        //When
+        try (Swagger2MarkupWatcher watcher = Swagger2MarkupWatcher.builder(specFile, outputDirectory)
+                .withConfig(config)
+                .withDebounce(50)
+                .withListener(results::add)
+                .build()) {
+            watcher.start();
+            Swagger2MarkupWatcher.Result initialResult = results.poll(30, TimeUnit.SECONDS);
+
+            //Then
+            assertThat(initialResult).isNotNull();
+            assertThat(initialResult.isSucceeded()).isTrue();
+            assertThat(initialResult.getReusedFiles()).isEqualTo(0);
+            assertThat(watcher.getWatchedFiles()).containsExactly(specFile.toAbsolutePath().normalize());
+
+            String spec = new String(Files.readAllBytes(specFile), StandardCharsets.UTF_8);
+            Files.write(specFile, spec.replace("User Status", "Status of the user").getBytes(StandardCharsets.UTF_8));
+            Swagger2MarkupWatcher.Result changeResult = results.poll(30, TimeUnit.SECONDS);
+
+            assertThat(changeResult).isNotNull();
+            assertThat(changeResult.isSucceeded()).isTrue();
+            assertThat(changeResult.getReusedFiles()).isGreaterThan(0);
+            assertThat(changeResult.getWrittenFiles()).isLessThan(initialResult.getWrittenFiles());
+            assertThat(new String(Files.readAllBytes(outputDirectory.resolve("definitions/User.adoc")), StandardCharsets.UTF_8))
+                    .contains("Status of the user");
+        }
+    }
+
+    @Test
+    public void testDefaultConfigurationReusesUnchangedFiles() throws IOException, URISyntaxException, InterruptedException {
+        //Given
+        Path workDirectory = Paths.get("build/test/watch-default");
+        FileUtils.deleteQuietly(workDirectory.toFile());
+        Path specFile = workDirectory.resolve("spec/swagger.yaml");
+        Files.createDirectories(specFile.getParent());
+        Files.copy(Paths.get(Swagger2MarkupWatcherTest.class.getResource("/yaml/swagger_petstore.yaml").toURI()), specFile);
+        Path outputDirectory = workDirectory.resolve("output");
+        BlockingQueue<Swagger2MarkupWatcher.Result> results = new LinkedBlockingQueue<>();
+
+        //When
+        try (Swagger2MarkupWatcher watcher = Swagger2MarkupWatcher.builder(specFile, outputDirectory)
+                .withDebounce(50)
+                .withListener(results::add)
+                .build()) {
+            watcher.start();
+            Swagger2MarkupWatcher.Result initialResult = results.poll(30, TimeUnit.SECONDS);
+            assertThat(initialResult).isNotNull();
+            assertThat(initialResult.isSucceeded()).isTrue();
+
+            String spec = new String(Files.readAllBytes(specFile), StandardCharsets.UTF_8);
+            Files.write(specFile, spec.replace("summary: Deletes a pet", "summary: Removes a pet").getBytes(StandardCharsets.UTF_8));
+            Swagger2MarkupWatcher.Result changeResult = results.poll(30, TimeUnit.SECONDS);
+
+            //Then
+            assertThat(changeResult).isNotNull();
+            assertThat(changeResult.isSucceeded()).isTrue();
+            assertThat(changeResult.getReusedFiles()).isGreaterThan(0);
+        }
+    }
+
+    @Test
+    public void testReferencedFilesOfModularSpec() throws URISyntaxException {
+        //Given
+        Path specFile = Paths.get(Swagger2MarkupWatcherTest.class.getResource("/yaml/modules/swagger_petstore.yaml").toURI());
+
+        //When
+        Set<Path> files = ReferencedFiles.collect(specFile);
+
+        //Then
+        Path modules = specFile.getParent();
+        assertThat(files).containsExactly(specFile, modules.resolve("info.yaml"), modules.resolve("paths.yaml"), modules.resolve("parameters.yaml"),
+                modules.resolve("responses.yaml"), modules.resolve("definitions.yaml"), modules.resolve("security_definitions.yaml"));
+    }
+}
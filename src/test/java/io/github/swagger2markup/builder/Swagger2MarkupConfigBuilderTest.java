@@ -73,6 +73,20 @@ public class Swagger2MarkupConfigBuilderTest {
         assertThat(config.isInterDocumentCrossReferencesEnabled()).isFalse();
         assertThat(config.isSeparatedDefinitionsEnabled()).isFalse();
         assertThat(config.isSeparatedOperationsEnabled()).isFalse();
+        assertThat(config.isInlineSchemaDeduplicationEnabled()).isFalse();
+        assertThat(config.getInlineSchemaHoistThreshold()).isEqualTo(0);
+        assertThat(config.getInlineSchemaDepthLimit()).isEqualTo(0);
+        assertThat(config.isSkipUnchangedFilesEnabled()).isFalse();
+        assertThat(config.isIncrementalConversionEnabled()).isFalse();
+        assertThat(config.getAsyncWriteThreads()).isEqualTo(0);
+        assertThat(config.isAtomicOutputEnabled()).isFalse();
+        assertThat(config.getSeparatedFilesLayout()).isEqualTo(SeparatedFilesLayout.FLAT);
+        assertThat(config.getShardMaxItems()).isEqualTo(0);
+        assertThat(config.getShardMaxSize()).isEqualTo(0);
+        assertThat(config.isGzipOutputEnabled()).isFalse();
+        assertThat(config.getGzipCompressionLevel()).isEqualTo(-1);
+        assertThat(config.getGzipBufferSize()).isEqualTo(8192);
+        assertThat(config.isGzipCrossReferencesSuffixEnabled()).isFalse();
         assertThat(config.getExtensionsProperties().getKeys()).hasSize(3)
         .containsOnly("uniqueId1.customProperty1",
                 "uniqueId1.customProperty2",
@@ -124,6 +138,20 @@ public class Swagger2MarkupConfigBuilderTest {
         assertThat(config.isInterDocumentCrossReferencesEnabled()).isTrue();
         assertThat(config.isSeparatedDefinitionsEnabled()).isTrue();
         assertThat(config.isSeparatedOperationsEnabled()).isTrue();
+        assertThat(config.isInlineSchemaDeduplicationEnabled()).isTrue();
+        assertThat(config.getInlineSchemaHoistThreshold()).isEqualTo(10);
+        assertThat(config.getInlineSchemaDepthLimit()).isEqualTo(5);
+        assertThat(config.isSkipUnchangedFilesEnabled()).isTrue();
+        assertThat(config.isIncrementalConversionEnabled()).isTrue();
+        assertThat(config.getAsyncWriteThreads()).isEqualTo(4);
+        assertThat(config.isAtomicOutputEnabled()).isTrue();
+        assertThat(config.getSeparatedFilesLayout()).isEqualTo(SeparatedFilesLayout.HASH);
+        assertThat(config.getShardMaxItems()).isEqualTo(50);
+        assertThat(config.getShardMaxSize()).isEqualTo(1048576);
+        assertThat(config.isGzipOutputEnabled()).isTrue();
+        assertThat(config.getGzipCompressionLevel()).isEqualTo(9);
+        assertThat(config.getGzipBufferSize()).isEqualTo(65536);
+        assertThat(config.isGzipCrossReferencesSuffixEnabled()).isTrue();
         assertThat(config.getExtensionsProperties().getKeys()).hasSize(5)
         .containsOnly("uniqueId1.customProperty1",
                 "uniqueId1.customProperty2",
@@ -209,4 +237,12 @@ public class Swagger2MarkupConfigBuilderTest {
         assertThat(builder.config.getListDelimiter()).isEqualTo(Character.valueOf('|'));
         assertThat(builder.config.isListDelimiterEnabled()).isEqualTo(true);
     }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConfigBuilderRejectsShardingWithGzipOutput() {
+        new Swagger2MarkupConfigBuilder()
+                .withSharding(10, 0)
+                .withGzipOutput()
+                .build();
+    }
 }
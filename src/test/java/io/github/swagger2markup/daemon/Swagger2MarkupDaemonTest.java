@@ -0,0 +1,190 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.daemon;
+
+import io.github.swagger2markup.output.InMemoryOutputSink;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class Swagger2MarkupDaemonTest {
+
+    private Path specFile;
+    private Swagger2MarkupDaemon daemon;
+
+    @Before
+    public void setUp() throws URISyntaxException {
+        specFile = Paths.get(Swagger2MarkupDaemonTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        daemon = Swagger2MarkupDaemon.builder()
+                .withThreads(2)
+                .withTokenFile(Paths.get("build/test/daemon/daemon.token"))
+                .withOutputRoot(Paths.get("build/test/daemon"))
+                .build();
+        daemon.start();
+    }
+
+    @After
+    public void tearDown() {
+        daemon.close();
+    }
+
+    @Test
+    public void testConvertIntoFolder() throws IOException {
+        //Given
+        Path outputDirectory = Paths.get("build/test/daemon/folder");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+
+        //When
+        try (Swagger2MarkupDaemonClient client = new Swagger2MarkupDaemonClient(daemon.getAddress(), daemon.getTokenFile())) {
+            assertThat(client.ping()).isTrue();
+            Swagger2MarkupDaemonClient.Result result = client.convert(specFile.toUri(), outputDirectory, Collections.emptyMap());
+
+            //Then
+            assertThat(result.getWrittenFiles()).isEqualTo(4);
+            String[] files = outputDirectory.toFile().list();
+            assertThat(files).hasSize(4).containsAll(asList("paths.adoc", "definitions.adoc", "overview.adoc", "security.adoc"));
+
+            Swagger2MarkupDaemonClient.Result secondResult = client.convert(specFile.toUri(), outputDirectory, Collections.emptyMap());
+            assertThat(secondResult.getWrittenFiles()).isEqualTo(4);
+        }
+        assertThat(daemon.getJobs()).isEqualTo(2);
+    }
+
+    @Test
+    public void testConvertStreamsDocuments() throws IOException {
+        //Given
+        InMemoryOutputSink outputSink = new InMemoryOutputSink();
+
+        //When
+        try (Swagger2MarkupDaemonClient client = new Swagger2MarkupDaemonClient(daemon.getAddress(), daemon.getTokenFile())) {
+            client.convert(specFile.toUri(), Collections.singletonMap("swagger2markup.markupLanguage", "MARKDOWN"), outputSink);
+        }
+
+        //Then
+        assertThat(outputSink.getDocuments().keySet()).containsOnly("paths.md", "definitions.md", "overview.md", "security.md");
+        assertThat(new String(outputSink.getDocuments().get("overview.md"), StandardCharsets.UTF_8)).contains("# Swagger Petstore");
+    }
+
+    @Test
+    public void testFailedJobKeepsConnectionUsable() throws IOException {
+        try (Swagger2MarkupDaemonClient client = new Swagger2MarkupDaemonClient(daemon.getAddress(), daemon.getTokenFile())) {
+            try {
+                client.convert(Paths.get("build/test/daemon/missing.yaml").toUri(), Paths.get("build/test/daemon/missing"), null);
+                fail("Expected conversion failure");
+            } catch (RuntimeException e) {
+                assertThat(e.getMessage()).startsWith("Failed to convert");
+            }
+            assertThat(client.ping()).isTrue();
+        }
+    }
+
+    @Test
+    public void testOutputOutsideOfOutputRootIsRejected() throws IOException {
+        //Given
+        Path outputDirectory = Paths.get("build/test/daemon-outside");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+
+        //When
+        try (Swagger2MarkupDaemonClient client = new Swagger2MarkupDaemonClient(daemon.getAddress(), daemon.getTokenFile())) {
+            try {
+                client.convert(specFile.toUri(), outputDirectory, Collections.emptyMap());
+                fail("Expected conversion failure");
+            } catch (RuntimeException e) {
+                assertThat(e.getMessage()).contains("outside of the output root");
+            }
+        }
+
+        //Then
+        assertThat(outputDirectory).doesNotExist();
+        assertThat(daemon.getJobs()).isEqualTo(0);
+    }
+
+    @Test
+    public void testTokenFileIsOnlyReadableByOwner() throws IOException {
+        assertThat(daemon.getTokenFile()).exists();
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(daemon.getTokenFile()))).isEqualTo("rw-------");
+        }
+    }
+
+    @Test
+    public void testUnparsableLineClosesConnection() throws IOException {
+        try (Socket socket = new Socket(daemon.getAddress().getAddress(), daemon.getAddress().getPort());
+             BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+            OutputStream outputStream = socket.getOutputStream();
+            outputStream.write(("POST / HTTP/1.1\nContent-Type: text/plain\n\n{\"command\":\"convert\",\"swagger\":\"" + specFile.toUri()
+                    + "\"}\n").getBytes(StandardCharsets.UTF_8));
+            outputStream.flush();
+
+            assertThat(reader.readLine()).contains("\"event\":\"error\"");
+            assertThat(reader.readLine()).isNull();
+        }
+        assertThat(daemon.getJobs()).isEqualTo(0);
+    }
+
+    @Test
+    public void testRequestWithoutTokenClosesConnection() throws IOException {
+        try (Socket socket = new Socket(daemon.getAddress().getAddress(), daemon.getAddress().getPort());
+             BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+            OutputStream outputStream = socket.getOutputStream();
+            outputStream.write("{\"command\":\"ping\",\"token\":\"invalid\"}\n{\"command\":\"ping\"}\n".getBytes(StandardCharsets.UTF_8));
+            outputStream.flush();
+
+            assertThat(reader.readLine()).contains("Invalid token");
+            assertThat(reader.readLine()).isNull();
+        }
+    }
+
+    @Test
+    public void testShutdown() throws IOException, InterruptedException {
+        //When
+        try (Swagger2MarkupDaemonClient client = new Swagger2MarkupDaemonClient(daemon.getAddress(), daemon.getTokenFile())) {
+            client.shutdown();
+        }
+
+        //Then
+        Thread shutdownWaiter = new Thread(() -> {
+            try {
+                daemon.awaitShutdown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        shutdownWaiter.start();
+        shutdownWaiter.join(TimeUnit.SECONDS.toMillis(10));
+        assertThat(shutdownWaiter.isAlive()).isFalse();
+    }
+}
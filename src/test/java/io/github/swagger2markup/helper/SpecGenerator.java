@@ -0,0 +1,342 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.helper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.swagger.models.Swagger;
+import io.swagger.parser.SwaggerParser;
+import io.swagger.util.Json;
+import io.swagger.util.Yaml;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+
+/**
+ * Deterministic generator of synthetic Swagger 2.0 specifications for scale and stress tests : the same settings and seed always produce the same specification.
+ * <ul>
+ * <li>{@code definitions} object definitions, each with an id, a name, an enum of {@code enumSize} values and a description of {@code descriptionLength} characters.
+ * Definitions are chained in groups of {@code nestingDepth} : each definition of a group references the next one with a property and an array property.</li>
+ * <li>{@code composedModels} definitions extending the previous composed definition with {@code allOf}, in chains of {@code nestingDepth}.</li>
+ * <li>{@code recursiveModels} definitions referencing each other in a cycle, and themselves through an array property.</li>
+ * <li>{@code operations} operations spread over {@code tags} tags, with path, query and body parameters, and responses referencing random definitions.
+ * A fraction {@code exampleDensity} of the operations and definitions carry examples.</li>
+ * </ul>
+ * Run {@link #main(String[])} to write a specification, e.g {@code SpecGenerator build/spec.yaml operations=10000 definitions=50000}.
+ */
+public class SpecGenerator {
+
+    private static final String[] WORDS = {"pet", "store", "order", "user", "status", "the", "of", "a", "resource", "identifier", "value", "returns",
+            "updates", "available", "pending", "with", "and", "which", "list", "item"};
+    private static final String[] METHODS = {"get", "post", "put", "delete", "patch"};
+
+    private long seed = 42;
+    private int operations = 100;
+    private int tags = 10;
+    private int definitions = 50;
+    private int nestingDepth = 3;
+    private int composedModels = 0;
+    private int recursiveModels = 0;
+    private int enumSize = 3;
+    private int descriptionLength = 80;
+    private double exampleDensity = 0.5;
+
+    public static SpecGenerator builder() {
+        return new SpecGenerator();
+    }
+
+    /**
+     * Writes a specification.
+     *
+     * @param args the output file, {@code .json} or YAML otherwise, then optional {@code setting=value} pairs among
+     *             seed, operations, tags, definitions, nestingDepth, composedModels, recursiveModels, enumSize, descriptionLength and exampleDensity
+     * @throws IOException if the file can't be written
+     */
+    public static void main(String[] args) throws IOException {
+        Validate.isTrue(args.length >= 1, "Usage: SpecGenerator <output.yaml|output.json> [setting=value ...]");
+        SpecGenerator generator = builder();
+        for (int i = 1; i < args.length; i++) {
+            String setting = StringUtils.substringBefore(args[i], "=");
+            String value = StringUtils.substringAfter(args[i], "=");
+            switch (setting) {
+                case "seed":
+                    generator.withSeed(Long.parseLong(value));
+                    break;
+                case "operations":
+                    generator.withOperations(Integer.parseInt(value));
+                    break;
+                case "tags":
+                    generator.withTags(Integer.parseInt(value));
+                    break;
+                case "definitions":
+                    generator.withDefinitions(Integer.parseInt(value));
+                    break;
+                case "nestingDepth":
+                    generator.withNestingDepth(Integer.parseInt(value));
+                    break;
+                case "composedModels":
+                    generator.withComposedModels(Integer.parseInt(value));
+                    break;
+                case "recursiveModels":
+                    generator.withRecursiveModels(Integer.parseInt(value));
+                    break;
+                case "enumSize":
+                    generator.withEnumSize(Integer.parseInt(value));
+                    break;
+                case "descriptionLength":
+                    generator.withDescriptionLength(Integer.parseInt(value));
+                    break;
+                case "exampleDensity":
+                    generator.withExampleDensity(Double.parseDouble(value));
+                    break;
+                default:
+                    throw new IllegalArgumentException(String.format("Unknown setting '%s'", setting));
+            }
+        }
+        generator.write(Paths.get(args[0]));
+    }
+
+    public SpecGenerator withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    public SpecGenerator withOperations(int operations) {
+        Validate.isTrue(operations >= 0, "%s must be a positive integer", "operations");
+        this.operations = operations;
+        return this;
+    }
+
+    public SpecGenerator withTags(int tags) {
+        Validate.isTrue(tags > 0, "tags must be greater than 0");
+        this.tags = tags;
+        return this;
+    }
+
+    public SpecGenerator withDefinitions(int definitions) {
+        Validate.isTrue(definitions > 0, "definitions must be greater than 0");
+        this.definitions = definitions;
+        return this;
+    }
+
+    public SpecGenerator withNestingDepth(int nestingDepth) {
+        Validate.isTrue(nestingDepth > 0, "nestingDepth must be greater than 0");
+        this.nestingDepth = nestingDepth;
+        return this;
+    }
+
+    public SpecGenerator withComposedModels(int composedModels) {
+        Validate.isTrue(composedModels >= 0, "%s must be a positive integer", "composedModels");
+        this.composedModels = composedModels;
+        return this;
+    }
+
+    public SpecGenerator withRecursiveModels(int recursiveModels) {
+        Validate.isTrue(recursiveModels >= 0, "%s must be a positive integer", "recursiveModels");
+        this.recursiveModels = recursiveModels;
+        return this;
+    }
+
+    public SpecGenerator withEnumSize(int enumSize) {
+        Validate.isTrue(enumSize > 0, "enumSize must be greater than 0");
+        this.enumSize = enumSize;
+        return this;
+    }
+
+    public SpecGenerator withDescriptionLength(int descriptionLength) {
+        Validate.isTrue(descriptionLength >= 0, "%s must be a positive integer", "descriptionLength");
+        this.descriptionLength = descriptionLength;
+        return this;
+    }
+
+    /**
+     * @param exampleDensity fraction of the operations and definitions with examples, between 0 and 1
+     * @return this generator
+     */
+    public SpecGenerator withExampleDensity(double exampleDensity) {
+        Validate.isTrue(exampleDensity >= 0 && exampleDensity <= 1, "exampleDensity must be between 0 and 1");
+        this.exampleDensity = exampleDensity;
+        return this;
+    }
+
+    /**
+     * Generates the specification as a JSON tree.
+     *
+     * @return the specification
+     */
+    public ObjectNode generateTree() {
+        Random random = new Random(seed);
+        ObjectNode swagger = Json.mapper().createObjectNode();
+        swagger.put("swagger", "2.0");
+        swagger.putObject("info")
+                .put("title", String.format("Synthetic %d operations %d definitions", operations, definitions))
+                .put("version", "1.0.0")
+                .put("description", description(random));
+        swagger.put("basePath", "/v1");
+        ArrayNode tagsNode = swagger.putArray("tags");
+        for (int i = 0; i < tags; i++) {
+            tagsNode.addObject().put("name", "tag" + i).put("description", description(random));
+        }
+
+        ObjectNode definitionsNode = swagger.putObject("definitions");
+        for (int i = 0; i < definitions; i++) {
+            definitionsNode.set(definitionName(i), definition(random, i));
+        }
+        for (int i = 0; i < composedModels; i++) {
+            ObjectNode composed = definitionsNode.putObject("Composed" + i);
+            ArrayNode allOf = composed.putArray("allOf");
+            allOf.addObject().put("$ref", "#/definitions/" + (i % nestingDepth == 0 ? definitionName(random.nextInt(definitions)) : "Composed" + (i - 1)));
+            ObjectNode extension = allOf.addObject().put("type", "object").put("description", description(random));
+            extension.putObject("properties").putObject("level" + (i % nestingDepth)).put("type", "string").put("description", description(random));
+        }
+        for (int i = 0; i < recursiveModels; i++) {
+            ObjectNode recursive = definitionsNode.putObject("Recursive" + i).put("type", "object");
+            ObjectNode properties = recursive.putObject("properties");
+            properties.putObject("next").put("$ref", "#/definitions/Recursive" + ((i + 1) % recursiveModels));
+            properties.putObject("children").put("type", "array").putObject("items").put("$ref", "#/definitions/Recursive" + i);
+        }
+
+        ObjectNode paths = swagger.putObject("paths");
+        for (int i = 0; i < operations; i++) {
+            String method = METHODS[i % METHODS.length];
+            String pathName = String.format("/tag%d/resources%d/{id}", i % tags, i / METHODS.length);
+            ObjectNode path = paths.has(pathName) ? (ObjectNode) paths.get(pathName) : paths.putObject(pathName);
+            path.set(method, operation(random, i, method));
+        }
+        return swagger;
+    }
+
+    /**
+     * Generates the specification model.
+     *
+     * @return the specification
+     */
+    public Swagger generate() {
+        return new SwaggerParser().parse(toJson());
+    }
+
+    public String toJson() {
+        try {
+            return Json.pretty().writeValueAsString(generateTree());
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize specification", e);
+        }
+    }
+
+    public String toYaml() {
+        try {
+            return Yaml.mapper().writeValueAsString(generateTree());
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize specification", e);
+        }
+    }
+
+    /**
+     * Writes the specification, as JSON if the file name ends with {@code .json}, as YAML otherwise.
+     *
+     * @param file the output file
+     * @return the output file
+     * @throws IOException if the file can't be written
+     */
+    public Path write(Path file) throws IOException {
+        String content = file.getFileName().toString().endsWith(".json") ? toJson() : toYaml();
+        if (file.toAbsolutePath().getParent() != null)
+            Files.createDirectories(file.toAbsolutePath().getParent());
+        return Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ObjectNode definition(Random random, int index) {
+        ObjectNode definition = Json.mapper().createObjectNode();
+        definition.put("type", "object").put("description", description(random));
+        definition.putArray("required").add("id").add("name");
+        ObjectNode properties = definition.putObject("properties");
+        properties.putObject("id").put("type", "integer").put("format", "int64").put("description", description(random));
+        ObjectNode name = properties.putObject("name").put("type", "string").put("minLength", 1).put("maxLength", 255);
+        ArrayNode values = properties.putObject("status").put("type", "string").put("description", description(random)).putArray("enum");
+        for (int i = 0; i < enumSize; i++) {
+            values.add("value" + i);
+        }
+        if (random.nextDouble() < exampleDensity) {
+            name.put("example", "name" + index);
+            definition.putObject("example").put("id", index).put("name", "name" + index).put("status", "value0");
+        }
+        if (index % nestingDepth != nestingDepth - 1 && index + 1 < definitions) {
+            properties.putObject("child").put("$ref", "#/definitions/" + definitionName(index + 1));
+            properties.putObject("children").put("type", "array").putObject("items").put("$ref", "#/definitions/" + definitionName(index + 1));
+        }
+        return definition;
+    }
+
+    private ObjectNode operation(Random random, int index, String method) {
+        ObjectNode operation = Json.mapper().createObjectNode();
+        operation.putArray("tags").add("tag" + (index % tags));
+        operation.put("operationId", method + "Resource" + index)
+                .put("summary", StringUtils.capitalize(method) + " resource " + index)
+                .put("description", description(random));
+        operation.putArray("produces").add("application/json");
+        ArrayNode parameters = operation.putArray("parameters");
+        parameters.addObject().put("name", "id").put("in", "path").put("required", true).put("type", "integer").put("format", "int64");
+        ArrayNode filter = parameters.addObject().put("name", "filter").put("in", "query").put("type", "string")
+                .put("description", description(random)).putArray("enum");
+        for (int i = 0; i < enumSize; i++) {
+            filter.add("value" + i);
+        }
+        if ("post".equals(method) || "put".equals(method) || "patch".equals(method)) {
+            parameters.addObject().put("name", "body").put("in", "body").put("required", true)
+                    .putObject("schema").put("$ref", "#/definitions/" + randomDefinition(random));
+        }
+        ObjectNode responses = operation.putObject("responses");
+        ObjectNode ok = responses.putObject("200").put("description", description(random));
+        String responseDefinition = randomDefinition(random);
+        ok.putObject("schema").put("$ref", "#/definitions/" + responseDefinition);
+        if (random.nextDouble() < exampleDensity) {
+            ok.putObject("examples").putObject("application/json").put("id", index).put("name", "name" + index);
+        }
+        responses.putObject("404").put("description", "Resource not found");
+        return operation;
+    }
+
+    private String randomDefinition(Random random) {
+        int choices = definitions + composedModels + recursiveModels;
+        int choice = random.nextInt(choices);
+        if (choice < definitions)
+            return definitionName(choice);
+        if (choice < definitions + composedModels)
+            return "Composed" + (choice - definitions);
+        return "Recursive" + (choice - definitions - composedModels);
+    }
+
+    private static String definitionName(int index) {
+        return "Model" + index;
+    }
+
+    private String description(Random random) {
+        StringBuilder description = new StringBuilder(descriptionLength + 16);
+        while (description.length() < descriptionLength) {
+            if (description.length() > 0)
+                description.append(' ');
+            description.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return StringUtils.capitalize(description.toString());
+    }
+}
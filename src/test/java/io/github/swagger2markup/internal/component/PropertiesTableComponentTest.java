@@ -22,6 +22,7 @@ import io.github.swagger2markup.internal.type.ObjectType;
 import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
 import io.swagger.models.Model;
 import io.swagger.models.Swagger;
+import io.swagger.util.Json;
 import org.apache.commons.io.FileUtils;
 import org.junit.Before;
 import org.junit.Test;
@@ -33,6 +34,8 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 
 public class PropertiesTableComponentTest extends AbstractComponentTest {
 
@@ -70,4 +73,49 @@ public class PropertiesTableComponentTest extends AbstractComponentTest {
         DiffUtils.assertThatFileIsEqual(expectedFile, outputDirectory, getReportName(COMPONENT_NAME));
 
     }
+
+    @Test
+    public void testPropertiesTableComponentFromFragmentCache() throws URISyntaxException {
+        //Given
+        Path file = Paths.get(PropertiesTableComponentTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Swagger2MarkupConverter converter = Swagger2MarkupConverter.from(file).build();
+        Swagger2MarkupConverter.Context context = converter.getContext();
+        Model petModel = context.getSwagger().getDefinitions().get("Pet");
+        PropertiesTableComponent propertiesTableComponent = new PropertiesTableComponent(context,
+                new DefinitionDocumentResolverFromDefinition(context));
+
+        //When
+        String rendered = propertiesTableComponent.apply(context.createMarkupDocBuilder(),
+                PropertiesTableComponent.parameters(petModel.getProperties(), "Pet", new ArrayList<>())).toString();
+        String cached = propertiesTableComponent.apply(context.createMarkupDocBuilder(),
+                PropertiesTableComponent.parameters(petModel.getProperties(), "Other", new ArrayList<>())).toString();
+
+        //Then
+        assertThat(cached).isEqualTo(rendered);
+        assertThat(context.getFragmentCache().size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testPropertiesTableComponentFromFragmentCacheWithIdenticalInlineObjects() throws Exception {
+        //Given
+        Path file = Paths.get(PropertiesTableComponentTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Swagger2MarkupConverter converter = Swagger2MarkupConverter.from(file).build();
+        Swagger2MarkupConverter.Context context = converter.getContext();
+        Model petModel = context.getSwagger().getDefinitions().get("Pet");
+        Model firstInlineObject = Json.mapper().readValue(Json.mapper().writeValueAsString(petModel), Model.class);
+        Model secondInlineObject = Json.mapper().readValue(Json.mapper().writeValueAsString(petModel), Model.class);
+
+        //When
+        String rendered = new PropertiesTableComponent(context, new DefinitionDocumentResolverFromDefinition(context))
+                .apply(context.createMarkupDocBuilder(),
+                        PropertiesTableComponent.parameters(firstInlineObject.getProperties(), "First", new ArrayList<>())).toString();
+        String cached = new PropertiesTableComponent(context, new DefinitionDocumentResolverFromDefinition(context))
+                .apply(context.createMarkupDocBuilder(),
+                        PropertiesTableComponent.parameters(secondInlineObject.getProperties(), "Second", new ArrayList<>())).toString();
+
+        //Then
+        assertThat(secondInlineObject.getProperties()).isNotSameAs(firstInlineObject.getProperties());
+        assertThat(cached).isEqualTo(rendered);
+        assertThat(context.getFragmentCache().size()).isEqualTo(1);
+    }
 }
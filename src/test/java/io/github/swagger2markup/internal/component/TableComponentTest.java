@@ -66,5 +66,25 @@ public class TableComponentTest extends AbstractComponentTest {
         DiffUtils.assertThatFileIsEqual(expectedFile, outputDirectory, getReportName(COMPONENT_NAME));
     }
 
+    @Test
+    public void testTableWithRows() throws URISyntaxException {
+        Swagger2MarkupConverter.Context context = createContext();
+        MarkupDocBuilder markupDocBuilder = context.createMarkupDocBuilder();
+
+        TableComponent.Builder tableBuilder = TableComponent.builder(3)
+                .column("type", 0, false)
+                .column("name", 0, false)
+                .column("description", 0, false)
+                .row("type1", "name1", "")
+                .row("type2", "", "")
+                .row("type3", "name3", "");
+
+        markupDocBuilder = new TableComponent(context).apply(markupDocBuilder, tableBuilder.build());
+        markupDocBuilder.writeToFileWithoutExtension(outputDirectory, StandardCharsets.UTF_8);
+
+        Path expectedFile = getExpectedFile(COMPONENT_NAME);
+        DiffUtils.assertThatFileIsEqual(expectedFile, outputDirectory, getReportName(COMPONENT_NAME));
+    }
+
 
 }
@@ -73,6 +73,33 @@ public class DefinitionDocumentResolverDefaultTest {
                 .isEqualTo("definitions.adoc");
     }
 
+    @Test
+    public void testWithInterDocumentCrossReferencesAndGzipOutput() {
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withInterDocumentCrossReferences()
+                .withGzipOutput()
+                .build();
+        Swagger2MarkupConverter.Context context = createContext(config);
+        context.setOutputPath(Paths.get("/tmp"));
+
+        assertThat(new DefinitionDocumentResolverDefault(context).apply("DefinitionName"))
+                .isEqualTo("definitions.adoc");
+    }
+
+    @Test
+    public void testWithInterDocumentCrossReferencesAndGzipCrossReferencesSuffix() {
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withInterDocumentCrossReferences()
+                .withGzipOutput()
+                .withGzipCrossReferencesSuffix()
+                .build();
+        Swagger2MarkupConverter.Context context = createContext(config);
+        context.setOutputPath(Paths.get("/tmp"));
+
+        assertThat(new DefinitionDocumentResolverDefault(context).apply("DefinitionName"))
+                .isEqualTo("definitions.adoc.gz");
+    }
+
     @Test
     public void testWithInterDocumentCrossReferencesAndPrefix() {
         Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
@@ -15,12 +15,14 @@
  */
 package io.github.swagger2markup.internal.resolver;
 
+import io.github.swagger2markup.SeparatedFilesLayout;
 import io.github.swagger2markup.Swagger2MarkupConfig;
 import io.github.swagger2markup.Swagger2MarkupConverter;
 import io.github.swagger2markup.builder.Swagger2MarkupConfigBuilder;
 import io.github.swagger2markup.markup.builder.MarkupLanguage;
 import org.junit.Test;
 
+import java.nio.file.FileSystems;
 import java.nio.file.Paths;
 
 import static io.github.swagger2markup.helper.ContextUtils.createContext;
@@ -58,6 +60,21 @@ public class DefinitionDocumentResolverFromDefinitionTest {
                 .isEqualTo("DefinitionName.adoc");
     }
 
+    @Test
+    public void testWithSeparatedDefinitionsAndHashLayout() {
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withSeparatedDefinitions()
+                .withSeparatedFilesLayout(SeparatedFilesLayout.HASH)
+                .withInterDocumentCrossReferences()
+                .build();
+        Swagger2MarkupConverter.Context context = createContext(config);
+        context.setOutputPath(Paths.get("/tmp"));
+        String fileSeparator = FileSystems.getDefault().getSeparator();
+
+        assertThat(new DefinitionDocumentResolverFromDefinition(context).apply("DefinitionName"))
+                .isEqualTo(".." + fileSeparator + "87" + fileSeparator + "DefinitionName.adoc");
+    }
+
     @Test
     public void testWithInterDocumentCrossReferences() {
         Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
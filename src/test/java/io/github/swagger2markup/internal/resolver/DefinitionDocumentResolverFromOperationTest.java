@@ -15,6 +15,7 @@
  */
 package io.github.swagger2markup.internal.resolver;
 
+import io.github.swagger2markup.SeparatedFilesLayout;
 import io.github.swagger2markup.Swagger2MarkupConfig;
 import io.github.swagger2markup.Swagger2MarkupConverter;
 import io.github.swagger2markup.builder.Swagger2MarkupConfigBuilder;
@@ -75,6 +76,21 @@ public class DefinitionDocumentResolverFromOperationTest {
                 .isEqualTo(".." + fileSeparator + "definitions" + fileSeparator + "DefinitionName.adoc");
     }
 
+    @Test
+    public void testWithSeparatedOperationsAndSeparatedDefinitionsAndHashLayout() {
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withSeparatedOperations()
+                .withSeparatedDefinitions()
+                .withSeparatedFilesLayout(SeparatedFilesLayout.HASH)
+                .withInterDocumentCrossReferences()
+                .build();
+        Swagger2MarkupConverter.Context context = createContext(config);
+        context.setOutputPath(Paths.get("/tmp"));
+
+        assertThat(new DefinitionDocumentResolverFromOperation(context).apply("DefinitionName"))
+                .isEqualTo(".." + fileSeparator + ".." + fileSeparator + "definitions" + fileSeparator + "87" + fileSeparator + "DefinitionName.adoc");
+    }
+
     @Test
     public void testWithInterDocumentCrossReferences() {
         Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.utils;
+
+import io.github.swagger2markup.builder.Swagger2MarkupExtensionRegistryBuilder;
+import io.github.swagger2markup.spi.ConversionListener;
+import io.github.swagger2markup.spi.ConversionListener.Phase;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConversionEventsTest {
+
+    @Test
+    public void testDefaultListenersAreInactive() {
+        ConversionEvents events = new ConversionEvents(new Swagger2MarkupExtensionRegistryBuilder().build().getConversionListeners());
+
+        assertThat(events.isEnabled()).isFalse();
+        assertThat(events.start(Phase.CONVERSION, null)).isEqualTo(0);
+    }
+
+    @Test
+    public void testOnlyConversionInstancesOfActiveListenersAreNotified() {
+        //Given
+        List<String> notifications = new ArrayList<>();
+        ConversionListener inactiveListener = new RecordingListener("inactive", notifications) {
+            @Override
+            public boolean isActive() {
+                return false;
+            }
+        };
+        ConversionListener activeListener = new RecordingListener("registered", notifications) {
+            @Override
+            public ConversionListener forConversion() {
+                return new RecordingListener("conversion", notifications);
+            }
+        };
+
+        //When
+        ConversionEvents events = new ConversionEvents(Arrays.asList(inactiveListener, activeListener));
+        events.end(Phase.CONVERSION, null, events.start(Phase.CONVERSION, null));
+
+        //Then
+        assertThat(events.isEnabled()).isTrue();
+        assertThat(notifications).containsExactly("conversion:start", "conversion:end");
+    }
+
+    private static class RecordingListener extends ConversionListener {
+        private final String name;
+        private final List<String> notifications;
+
+        RecordingListener(String name, List<String> notifications) {
+            this.name = name;
+            this.notifications = notifications;
+        }
+
+        @Override
+        public void onStart(Phase phase, String name) {
+            notifications.add(this.name + ":start");
+        }
+
+        @Override
+        public void onEnd(Phase phase, String name, long durationNanos) {
+            notifications.add(this.name + ":end");
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.listener;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.swagger2markup.Swagger2MarkupConverter;
+import io.github.swagger2markup.Swagger2MarkupExtensionRegistry;
+import io.github.swagger2markup.builder.Swagger2MarkupExtensionRegistryBuilder;
+import io.github.swagger2markup.output.InMemoryOutputSink;
+import io.github.swagger2markup.spi.ConversionListener;
+import io.swagger.util.Json;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonSummaryConversionListenerTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testSummaryIsWrittenIntoOutputSink() throws Exception {
+        //Given
+        Path file = Paths.get(JsonSummaryConversionListenerTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        JsonSummaryConversionListener listener = new JsonSummaryConversionListener();
+        Swagger2MarkupExtensionRegistry registry = new Swagger2MarkupExtensionRegistryBuilder()
+                .withConversionListener(listener)
+                .build();
+        InMemoryOutputSink outputSink = new InMemoryOutputSink();
+
+        //When
+        Swagger2MarkupConverter.from(file).withExtensionRegistry(registry).build().toSink(outputSink);
+
+        //Then
+        assertThat(outputSink.getDocuments()).containsKey(JsonSummaryConversionListener.SUMMARY_FILE_NAME);
+        JsonNode summary = Json.mapper().readTree(outputSink.getDocuments().get(JsonSummaryConversionListener.SUMMARY_FILE_NAME));
+        assertThat(summary.path("source").asText()).isEqualTo(file.toAbsolutePath().toUri().toString());
+        JsonNode phases = summary.path("phases");
+        assertThat(phases.path("PARSING").path("count").asLong()).isEqualTo(1);
+        assertThat(phases.path("CONVERSION").path("count").asLong()).isEqualTo(1);
+        assertThat(phases.path("OVERVIEW_DOCUMENT").path("count").asLong()).isEqualTo(1);
+        assertThat(phases.path("PATHS_DOCUMENT").path("count").asLong()).isEqualTo(1);
+        assertThat(phases.path("DEFINITIONS_DOCUMENT").path("count").asLong()).isEqualTo(1);
+        assertThat(phases.path("SECURITY_DOCUMENT").path("count").asLong()).isEqualTo(1);
+        assertThat(phases.path("OPERATION").path("slowest").size()).isEqualTo(JsonSummaryConversionListener.DEFAULT_SLOWEST_ITEMS);
+        assertThat(phases.path("CONVERSION").path("totalNanos").asLong())
+                .isGreaterThanOrEqualTo(phases.path("PATHS_DOCUMENT").path("totalNanos").asLong());
+
+        JsonNode counters = summary.path("counters");
+        assertThat(counters.path("OPERATIONS_RENDERED").asLong()).isEqualTo(phases.path("OPERATION").path("count").asLong()).isGreaterThan(0);
+        assertThat(counters.path("DEFINITIONS_RENDERED").asLong()).isEqualTo(phases.path("DEFINITION").path("count").asLong()).isGreaterThan(0);
+        assertThat(counters.path("TABLES_RENDERED").asLong()).isGreaterThan(0);
+        assertThat(counters.path("FILES_WRITTEN").asLong()).isEqualTo(4);
+        assertThat(counters.path("BYTES_WRITTEN").asLong()).isGreaterThan(0);
+        assertThat(listener.getLastSummary()).isEqualTo(new String(outputSink.getDocuments().get(JsonSummaryConversionListener.SUMMARY_FILE_NAME), "UTF-8"));
+    }
+
+    @Test
+    public void testSummaryIsWrittenToSummaryFile() throws Exception {
+        //Given
+        Path file = Paths.get(JsonSummaryConversionListenerTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path summaryFile = temporaryFolder.getRoot().toPath().resolve("reports/summary.json");
+        Swagger2MarkupExtensionRegistry registry = new Swagger2MarkupExtensionRegistryBuilder()
+                .withConversionListener(new JsonSummaryConversionListener(summaryFile))
+                .build();
+        Swagger2MarkupConverter converter = Swagger2MarkupConverter.from(file).withExtensionRegistry(registry).build();
+
+        //When
+        converter.toString();
+        converter.toString();
+
+        //Then
+        JsonNode phases = Json.mapper().readTree(Files.readAllBytes(summaryFile)).path("phases");
+        assertThat(phases.path("CONVERSION").path("count").asLong()).isEqualTo(1);
+        assertThat(phases.has("PARSING")).isFalse();
+        assertThat(phases.path("PATHS_DOCUMENT").path("count").asLong()).isEqualTo(1);
+    }
+
+    @Test
+    public void testPhasesAreNested() throws Exception {
+        //Given
+        Path file = Paths.get(JsonSummaryConversionListenerTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        List<String> events = new ArrayList<>();
+        ConversionListener recordingListener = new ConversionListener() {
+            @Override
+            public void onStart(Phase phase, String name) {
+                events.add("start " + phase);
+            }
+
+            @Override
+            public void onEnd(Phase phase, String name, long durationNanos) {
+                assertThat(durationNanos).isGreaterThanOrEqualTo(0);
+                events.add("end " + phase);
+            }
+        };
+        Swagger2MarkupExtensionRegistry registry = new Swagger2MarkupExtensionRegistryBuilder()
+                .withConversionListener(recordingListener)
+                .build();
+
+        //When
+        Swagger2MarkupConverter.from(file).withExtensionRegistry(registry).build().toSink(new InMemoryOutputSink());
+
+        //Then
+        assertThat(events.get(0)).isEqualTo("start PARSING");
+        assertThat(events.get(1)).isEqualTo("end PARSING");
+        assertThat(events.get(2)).isEqualTo("start CONVERSION");
+        assertThat(events.get(events.size() - 1)).isEqualTo("end CONVERSION");
+        int pathsStart = events.indexOf("start PATHS_DOCUMENT");
+        int pathsEnd = events.indexOf("end PATHS_DOCUMENT");
+        assertThat(events.indexOf("start OPERATION")).isGreaterThan(pathsStart);
+        assertThat(events.lastIndexOf("end OPERATION")).isLessThan(pathsEnd);
+        assertThat(events.indexOf("start DEFINITION")).isGreaterThan(pathsEnd);
+        long starts = events.stream().filter(event -> event.startsWith("start ")).count();
+        assertThat(events).hasSize((int) starts * 2);
+    }
+}
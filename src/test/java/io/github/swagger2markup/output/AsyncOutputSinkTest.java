@@ -0,0 +1,58 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.output;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AsyncOutputSinkTest {
+
+    @Test
+    public void testLastWriteOfADocumentWins() throws IOException, InterruptedException {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+        InMemoryOutputSink delegate = new InMemoryOutputSink() {
+            @Override
+            public void write(String name, byte[] content) {
+                if (new String(content, StandardCharsets.UTF_8).equals("first")) {
+                    firstWriteStarted.countDown();
+                    try {
+                        releaseFirstWrite.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                super.write(name, content);
+            }
+        };
+        AsyncOutputSink sink = new AsyncOutputSink(delegate, 2);
+
+        sink.write("overview.adoc", "first".getBytes(StandardCharsets.UTF_8));
+        assertThat(firstWriteStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        sink.write("overview.adoc", "second".getBytes(StandardCharsets.UTF_8));
+        assertThat(sink.read("overview.adoc")).isEqualTo("second".getBytes(StandardCharsets.UTF_8));
+        releaseFirstWrite.countDown();
+        sink.close();
+
+        assertThat(delegate.getDocuments().get("overview.adoc")).isEqualTo("second".getBytes(StandardCharsets.UTF_8));
+    }
+}
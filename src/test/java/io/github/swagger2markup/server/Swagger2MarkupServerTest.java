@@ -0,0 +1,234 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.server;
+
+import io.github.swagger2markup.Swagger2MarkupConverter;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class Swagger2MarkupServerTest {
+
+    private Path specFile;
+    private Swagger2MarkupServer server;
+
+    @Before
+    public void setUp() throws URISyntaxException {
+        specFile = Paths.get(Swagger2MarkupServerTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        server = Swagger2MarkupServer.builder()
+                .withThreads(2)
+                .withSpecRoot(specFile.getParent())
+                .build();
+        server.start();
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void testRenderUploadedSpec() throws IOException {
+        //When
+        HttpURLConnection connection = post("", Files.readAllBytes(specFile), null);
+
+        //Then
+        assertThat(connection.getResponseCode()).isEqualTo(200);
+        assertThat(connection.getHeaderField("Content-Type")).startsWith("text/asciidoc");
+        String entityTag = connection.getHeaderField("ETag");
+        assertThat(entityTag).isNotEmpty();
+        assertThat(body(connection)).isEqualTo(Swagger2MarkupConverter.from(specFile).build().toString());
+
+        HttpURLConnection cachedConnection = post("", Files.readAllBytes(specFile), entityTag);
+        assertThat(cachedConnection.getResponseCode()).isEqualTo(304);
+        assertThat(cachedConnection.getHeaderField("ETag")).isEqualTo(entityTag);
+        assertThat(server.getRenderCache().size()).isEqualTo(1);
+        assertThat(server.getRenderCache().getHits()).isEqualTo(1);
+    }
+
+    @Test
+    public void testRenderDocumentFromSpecRoot() throws IOException {
+        //When
+        HttpURLConnection connection = get("?spec=swagger_petstore.yaml&format=document&document=definitions&swagger2markup.markupLanguage=MARKDOWN");
+
+        //Then
+        assertThat(connection.getResponseCode()).isEqualTo(200);
+        assertThat(connection.getHeaderField("Content-Type")).startsWith("text/markdown");
+        assertThat(body(connection)).contains("## Definitions");
+
+        HttpURLConnection asciidocConnection = get("?spec=swagger_petstore.yaml&format=document&document=definitions");
+        assertThat(asciidocConnection.getResponseCode()).isEqualTo(200);
+        assertThat(asciidocConnection.getHeaderField("ETag")).isNotEqualTo(connection.getHeaderField("ETag"));
+        assertThat(server.getRenderCache().size()).isEqualTo(2);
+    }
+
+    @Test
+    public void testRenderZip() throws IOException {
+        //When
+        HttpURLConnection connection = get("?spec=swagger_petstore.yaml&format=zip&swagger2markup.separatedDefinitionsEnabled=true");
+
+        //Then
+        assertThat(connection.getResponseCode()).isEqualTo(200);
+        assertThat(connection.getHeaderField("Content-Type")).isEqualTo("application/zip");
+        List<String> entries = new ArrayList<>();
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(IOUtils.toByteArray(connection.getInputStream())))) {
+            for (ZipEntry entry = zipInputStream.getNextEntry(); entry != null; entry = zipInputStream.getNextEntry()) {
+                entries.add(entry.getName());
+            }
+        }
+        assertThat(entries).contains("overview.adoc", "paths.adoc", "definitions.adoc", "security.adoc", "definitions/Pet.adoc");
+    }
+
+    @Test
+    public void testErrors() throws IOException {
+        assertThat(get("?spec=../expected/asciidoc/to_file/swagger.adoc").getResponseCode()).isEqualTo(403);
+        assertThat(get("?spec=missing.yaml").getResponseCode()).isEqualTo(404);
+        assertThat(get("?spec=swagger_petstore.yaml&format=document&document=missing").getResponseCode()).isEqualTo(404);
+        assertThat(get("?spec=swagger_petstore.yaml&format=pdf").getResponseCode()).isEqualTo(400);
+        assertThat(get("").getResponseCode()).isEqualTo(400);
+        assertThat(post("", new byte[0], null).getResponseCode()).isEqualTo(400);
+        assertThat(get("?spec=swagger_petstore.yaml&swagger2markup.separatedDefinitionsEnabled=true").getResponseCode()).isEqualTo(400);
+    }
+
+    @Test
+    public void testRejectTooLargeBody() throws IOException {
+        //Given
+        server.close();
+        server = Swagger2MarkupServer.builder()
+                .withMaxBodySize(1024)
+                .build();
+        server.start();
+
+        //When
+        HttpURLConnection connection = post("", Files.readAllBytes(specFile), null);
+
+        //Then
+        assertThat(connection.getResponseCode()).isEqualTo(413);
+        assertThat(server.getRenderCache().size()).isEqualTo(0);
+    }
+
+    @Test
+    public void testChangeOfReferencedFileIsRendered() throws IOException, URISyntaxException {
+        //Given
+        Path specRoot = Paths.get("build/test/server");
+        FileUtils.deleteQuietly(specRoot.toFile());
+        FileUtils.copyDirectory(Paths.get(Swagger2MarkupServerTest.class.getResource("/yaml/modules").toURI()).toFile(), specRoot.toFile());
+        server.close();
+        server = Swagger2MarkupServer.builder()
+                .withSpecRoot(specRoot)
+                .build();
+        server.start();
+        String query = "?spec=swagger_petstore.yaml&format=document&document=definitions";
+        assertThat(body(get(query))).contains("firstName");
+
+        //When
+        Path definitionsFile = specRoot.resolve("definitions.yaml");
+        String definitions = new String(Files.readAllBytes(definitionsFile), StandardCharsets.UTF_8);
+        Files.write(definitionsFile, definitions.replace("firstName", "givenName").getBytes(StandardCharsets.UTF_8));
+
+        //Then
+        assertThat(body(get(query))).contains("givenName").doesNotContain("firstName");
+        assertThat(server.getRenderCache().size()).isEqualTo(2);
+    }
+
+    @Test
+    public void testRejectReferencesOutsideOfSpecRoot() throws IOException, URISyntaxException {
+        //Given
+        Path specRoot = Paths.get("build/test/server-references/specs");
+        FileUtils.deleteQuietly(specRoot.getParent().toFile());
+        Path modules = Paths.get(Swagger2MarkupServerTest.class.getResource("/yaml/modules").toURI());
+        FileUtils.copyDirectory(modules.toFile(), specRoot.toFile());
+        Files.copy(modules.resolve("definitions.yaml"), specRoot.resolveSibling("definitions.yaml"));
+        Path specFile = specRoot.resolve("swagger_petstore.yaml");
+        String spec = new String(Files.readAllBytes(specFile), StandardCharsets.UTF_8);
+        Files.write(specFile, spec.replace("./definitions.yaml", "../definitions.yaml").getBytes(StandardCharsets.UTF_8));
+        server.close();
+        server = Swagger2MarkupServer.builder()
+                .withSpecRoot(specRoot)
+                .build();
+        server.start();
+
+        //When
+        HttpURLConnection connection = get("?spec=swagger_petstore.yaml");
+
+        //Then
+        assertThat(connection.getResponseCode()).isEqualTo(403);
+        assertThat(server.getRenderCache().size()).isEqualTo(0);
+    }
+
+    @Test
+    public void testRejectExternalReferencesInUploadedSpec() throws IOException, URISyntaxException {
+        //Given
+        byte[] spec = Files.readAllBytes(Paths.get(Swagger2MarkupServerTest.class.getResource("/yaml/modules/swagger_petstore.yaml").toURI()));
+        byte[] remoteSpec = new String(Files.readAllBytes(specFile), StandardCharsets.UTF_8)
+                .replace("#/definitions/Pet", "http://localhost:1/definitions.yaml#/Pet").getBytes(StandardCharsets.UTF_8);
+
+        //When
+        HttpURLConnection connection = post("", spec, null);
+        HttpURLConnection remoteConnection = post("", remoteSpec, null);
+
+        //Then
+        assertThat(connection.getResponseCode()).isEqualTo(400);
+        assertThat(remoteConnection.getResponseCode()).isEqualTo(400);
+        assertThat(server.getRenderCache().size()).isEqualTo(0);
+    }
+
+    private HttpURLConnection get(String query) throws IOException {
+        return (HttpURLConnection) renderUrl(query).openConnection();
+    }
+
+    private HttpURLConnection post(String query, byte[] spec, String ifNoneMatch) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) renderUrl(query).openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        if (ifNoneMatch != null)
+            connection.setRequestProperty("If-None-Match", ifNoneMatch);
+        try (OutputStream requestBody = connection.getOutputStream()) {
+            requestBody.write(spec);
+        }
+        return connection;
+    }
+
+    private URL renderUrl(String query) throws IOException {
+        return new URL("http", server.getAddress().getHostString(), server.getAddress().getPort(), Swagger2MarkupServer.RENDER_PATH + query);
+    }
+
+    private static String body(HttpURLConnection connection) throws IOException {
+        try (InputStream inputStream = connection.getInputStream()) {
+            return IOUtils.toString(inputStream, StandardCharsets.UTF_8);
+        }
+    }
+}
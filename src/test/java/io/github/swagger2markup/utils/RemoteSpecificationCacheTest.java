@@ -0,0 +1,183 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.utils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.swagger2markup.Swagger2MarkupConverter;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
+
+public class RemoteSpecificationCacheTest {
+
+    private Path yamlDirectory;
+    private Path cacheDirectory;
+    private HttpServer server;
+    private final AtomicInteger downloads = new AtomicInteger();
+    private final AtomicInteger notModified = new AtomicInteger();
+    private final AtomicInteger errorStatus = new AtomicInteger();
+
+    @Before
+    public void setUp() throws IOException, URISyntaxException {
+        yamlDirectory = Paths.get(RemoteSpecificationCacheTest.class.getResource("/yaml").toURI());
+        cacheDirectory = Paths.get("build/test/remote-cache");
+        FileUtils.deleteQuietly(cacheDirectory.toFile());
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::serve);
+        server.start();
+    }
+
+    @After
+    public void tearDown() {
+        if (server != null)
+            server.stop(0);
+    }
+
+    @Test
+    public void testUnchangedDocumentsAreRevalidated() throws IOException {
+        //Given
+        URL url = url("/modules/swagger_petstore.yaml");
+
+        //When
+        RemoteSpecificationCache cache = new RemoteSpecificationCache(cacheDirectory);
+        Path cachedSpec = cache.fetch(url);
+
+        //Then
+        assertThat(cache.getDownloads()).isEqualTo(7);
+        assertThat(cachedSpec.getFileName().toString()).isEqualTo("swagger_petstore.yaml");
+        assertThat(cachedSpec.resolveSibling("definitions.yaml")).hasSameContentAs(yamlDirectory.resolve("modules/definitions.yaml"));
+
+        RemoteSpecificationCache secondCache = new RemoteSpecificationCache(cacheDirectory);
+        assertThat(secondCache.fetch(url)).isEqualTo(cachedSpec);
+        assertThat(secondCache.getDownloads()).isEqualTo(0);
+        assertThat(secondCache.getRevalidations()).isEqualTo(7);
+        assertThat(downloads.get()).isEqualTo(7);
+        assertThat(notModified.get()).isEqualTo(7);
+    }
+
+    @Test
+    public void testCachedDocumentIsUsedWhenServerIsDown() throws IOException {
+        //Given
+        URL url = url("/swagger_petstore.yaml");
+        new RemoteSpecificationCache(cacheDirectory).fetch(url);
+        server.stop(0);
+        server = null;
+
+        //When
+        RemoteSpecificationCache cache = new RemoteSpecificationCache(cacheDirectory);
+        Path cachedSpec = cache.fetch(url);
+
+        //Then
+        assertThat(cache.getDownloads()).isEqualTo(0);
+        assertThat(cachedSpec).hasSameContentAs(yamlDirectory.resolve("swagger_petstore.yaml"));
+    }
+
+    @Test
+    public void testCachedDocumentIsUsedOnServerError() throws IOException {
+        //Given
+        URL url = url("/swagger_petstore.yaml");
+        new RemoteSpecificationCache(cacheDirectory).fetch(url);
+        errorStatus.set(503);
+
+        //When
+        RemoteSpecificationCache cache = new RemoteSpecificationCache(cacheDirectory);
+        Path cachedSpec = cache.fetch(url);
+
+        //Then
+        assertThat(cache.getDownloads()).isEqualTo(0);
+        assertThat(cachedSpec).hasSameContentAs(yamlDirectory.resolve("swagger_petstore.yaml"));
+    }
+
+    @Test
+    public void testCachedDocumentIsNotUsedOnClientError() throws IOException {
+        //Given
+        URL url = url("/swagger_petstore.yaml");
+        new RemoteSpecificationCache(cacheDirectory).fetch(url);
+        errorStatus.set(404);
+
+        //When
+        try {
+            new RemoteSpecificationCache(cacheDirectory).fetch(url);
+            failBecauseExceptionWasNotThrown(IOException.class);
+        } catch (IOException e) {
+            //Then
+            assertThat(e).hasMessageContaining("HTTP 404");
+        }
+    }
+
+    @Test
+    public void testConvertCachedSpec() throws IOException {
+        //Given
+        URL url = url("/swagger_petstore.yaml");
+
+        //When
+        String markup = Swagger2MarkupConverter.from(url, new RemoteSpecificationCache(cacheDirectory)).build().toString();
+
+        //Then
+        assertThat(markup).isEqualTo(Swagger2MarkupConverter.from(yamlDirectory.resolve("swagger_petstore.yaml")).build().toString());
+    }
+
+    private URL url(String path) throws IOException {
+        InetSocketAddress address = server.getAddress();
+        return new URL("http", address.getHostString(), address.getPort(), path);
+    }
+
+    private void serve(HttpExchange exchange) throws IOException {
+        try {
+            if (errorStatus.get() > 0) {
+                exchange.sendResponseHeaders(errorStatus.get(), -1);
+                return;
+            }
+            Path file = yamlDirectory.resolve(exchange.getRequestURI().getPath().substring(1)).normalize();
+            if (!file.startsWith(yamlDirectory) || !Files.isRegularFile(file)) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            byte[] content = Files.readAllBytes(file);
+            String entityTag = "\"" + Integer.toHexString(Arrays.hashCode(content)) + "\"";
+            exchange.getResponseHeaders().set("ETag", entityTag);
+            if (entityTag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModified.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+            } else {
+                downloads.incrementAndGet();
+                exchange.sendResponseHeaders(200, content.length);
+                try (OutputStream body = exchange.getResponseBody()) {
+                    body.write(content);
+                }
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+}
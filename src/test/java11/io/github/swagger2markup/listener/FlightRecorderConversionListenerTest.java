@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.listener;
+
+import io.github.swagger2markup.Swagger2MarkupConverter;
+import io.github.swagger2markup.spi.ConversionListener;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FlightRecorderConversionListenerTest {
+
+    @Test
+    public void testListenerIsActiveAndKeepsItsStatePerConversion() {
+        FlightRecorderConversionListener listener = new FlightRecorderConversionListener();
+
+        assertThat(listener.isActive()).isTrue();
+        ConversionListener conversionListener = listener.forConversion();
+        assertThat(conversionListener).isInstanceOf(FlightRecorderConversionListener.class).isNotSameAs(listener);
+        assertThat(listener.forConversion()).isNotSameAs(conversionListener);
+    }
+
+    @Test
+    public void testConversionEventsAreRecorded() throws IOException, URISyntaxException {
+        //Given
+        Path specFile = Paths.get(FlightRecorderConversionListenerTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path workDirectory = Paths.get("build/test/flight-recorder");
+        FileUtils.deleteQuietly(workDirectory.toFile());
+        Files.createDirectories(workDirectory);
+        Path recordingFile = workDirectory.resolve("conversion.jfr");
+
+        //When
+        try (Recording recording = new Recording()) {
+            recording.enable("io.github.swagger2markup.Conversion");
+            recording.enable("io.github.swagger2markup.DocumentRender");
+            recording.enable("io.github.swagger2markup.OperationRender");
+            recording.start();
+            Swagger2MarkupConverter.from(specFile).build().toFolder(workDirectory.resolve("output"));
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        //Then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+        List<RecordedEvent> conversionEvents = eventsOfType(events, "io.github.swagger2markup.Conversion");
+        assertThat(conversionEvents).hasSize(1);
+        RecordedEvent conversionEvent = conversionEvents.get(0);
+        assertThat(conversionEvent.getString("source")).endsWith("swagger_petstore.yaml");
+        assertThat(conversionEvent.getLong("operationsRendered")).isEqualTo(eventsOfType(events, "io.github.swagger2markup.OperationRender").size());
+        assertThat(conversionEvent.getLong("operationsRendered")).isGreaterThan(0);
+        assertThat(conversionEvent.getLong("filesWritten")).isEqualTo(4);
+        assertThat(conversionEvent.getLong("bytesWritten")).isGreaterThan(0);
+        assertThat(eventsOfType(events, "io.github.swagger2markup.DocumentRender").stream().map(event -> event.getString("document")))
+                .containsExactlyInAnyOrder("overview", "paths", "definitions", "security");
+        assertThat(eventsOfType(events, "io.github.swagger2markup.DefinitionRender")).isEmpty();
+    }
+
+    private static List<RecordedEvent> eventsOfType(List<RecordedEvent> events, String type) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(type))
+                .collect(Collectors.toList());
+    }
+}